@@ -0,0 +1,111 @@
+package com.damelyngdoh.azosudoku;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Utilities running the solves and generations of the library asynchronously. A {@link CompletableFuture} 
+ * does not interrupt its task when cancelled, so the futures created here interrupt the thread running 
+ * the task instead, which stops the searches polling the interrupt flag of their thread.
+ * 
+ * @author Dame Lyngdoh
+ */
+public final class AsyncTasks {
+
+    /**
+     * Minimum Java feature version whose virtual threads are not a preview feature.
+     */
+    private static final int VIRTUAL_THREADS_VERSION = 21;
+
+    private AsyncTasks() {}
+
+    /**
+     * Lazily created default executor.
+     */
+    private static final class DefaultExecutor {
+
+        private static final Executor INSTANCE = create();
+
+        /**
+         * Creates an executor starting a virtual thread per task when the runtime supports virtual 
+         * threads, looked up by reflection so that the library still runs on older runtimes.
+         * @return the default executor.
+         */
+        private static Executor create() {
+            if(Runtime.version().feature() >= VIRTUAL_THREADS_VERSION) {
+                try {
+                    return (Executor)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                } catch (ReflectiveOperationException | RuntimeException e) {}
+            }
+            return ForkJoinPool.commonPool();
+        }
+    }
+
+    /**
+     * Gets the executor used when no executor is passed to an asynchronous method. On Java 21 and later, 
+     * it starts a virtual thread for every task, so that blocking tasks do not hold platform threads, 
+     * and on earlier versions it is the common fork join pool.
+     * @return the default executor.
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    /**
+     * Runs a task asynchronously on the executor. The future completes with the value returned by the 
+     * task or exceptionally with the exception thrown by it. Cancelling the future before the task starts 
+     * skips the task, and cancelling it while the task runs interrupts the thread running the task. When 
+     * the future was cancelled, the interrupt flag of the thread is cleared after the task returns, so a 
+     * pooled thread is not left interrupted by the cancellation. An interrupt from any other source is 
+     * left set.
+     * @param <T> type of the value returned by the task.
+     * @param task the task to run.
+     * @param executor executor running the task.
+     * @return future of the value returned by the task.
+     * @throws NullPointerException thrown if task or executor arguments are null.
+     * @throws java.util.concurrent.RejectedExecutionException thrown if the executor rejects the task.
+     */
+    public static <T> CompletableFuture<T> supply(Callable<T> task, Executor executor) {
+        if(task == null) {
+            throw new NullPointerException("Null task passed.");
+        }
+        if(executor == null) {
+            throw new NullPointerException("Null executor passed.");
+        }
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Thread[] runner = new Thread[1];
+        executor.execute(() -> {
+            synchronized(runner) {
+                if(future.isDone()) {
+                    return;
+                }
+                runner[0] = Thread.currentThread();
+            }
+            try {
+                future.complete(task.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                synchronized(runner) {
+                    runner[0] = null;
+                }
+                if(future.isCancelled()) {
+                    Thread.interrupted();
+                }
+            }
+        });
+        future.whenComplete((value, exception) -> {
+            if(future.isCancelled()) {
+                synchronized(runner) {
+                    if(runner[0] != null) {
+                        runner[0].interrupt();
+                    }
+                }
+            }
+        });
+        return future;
+    }
+}
@@ -10,6 +10,10 @@ import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
  * Class representing the cell or elements in the Sudoku puzzle which 
  * contains a value. A cell must exist as part of a grid and is identified 
  * by its coordinates, row and column, in the grid.
+ * 
+ * Cells obtained from a {@link Grid} are lightweight views over the storage of the grid and 
+ * hold no state of their own. Cells constructed directly are detached from the storage of the 
+ * grid and hold their own value and fixed flag.
  *  
  * @author Dame Lyngdoh
  * @since 1.0.0
@@ -34,15 +38,36 @@ public class Cell {
     private final int column;
 
     /**
-     * Value of the cell wrapped in an {@link java.util.Optional Optional}.
+     * Value of a detached cell or 0 if the cell is empty.
      */
-    private Optional<Integer> value = Optional.empty();
+    private int value = 0;
 
     /**
-     * Fixed flag to indicate if the cell's value can be updated.
+     * Fixed flag of a detached cell to indicate if the cell's value can be updated.
      */
     private boolean fixed = false;
 
+    /**
+     * Flag indicating if the cell is a view over the storage of the parent grid, in which case 
+     * the value and fixed flag are read from and written to the grid.
+     */
+    private final boolean attached;
+
+    /**
+     * Constructs a cell object which is a view over the storage of the parent grid. Only invoked 
+     * by the grid itself and hence the arguments are not validated.
+     * @param grid parent grid.
+     * @param row row coordinate.
+     * @param column column coordinate.
+     * @param attached true if the cell is a view over the storage of the grid.
+     */
+    Cell(Grid grid, int row, int column, boolean attached) {
+        this.grid = grid;
+        this.row = row;
+        this.column = column;
+        this.attached = attached;
+    }
+
     /**
      * Constructs a cell object with the provided coordinates and parent grid.
      * @param grid parent grid.
@@ -58,6 +83,7 @@ public class Cell {
         Validator.validateIndex(grid, row, HouseType.ROW);
         this.row = row;
         this.column = column;
+        this.attached = false;
     }
 
     /**
@@ -77,6 +103,7 @@ public class Cell {
         Validator.validateIndex(grid, row, HouseType.ROW);
         this.row = row;
         this.column = column;
+        this.attached = false;
         this.setValue(value);
     }
 
@@ -109,7 +136,14 @@ public class Cell {
      * @return
      */
     public int getNonet() {
-        return Utils.calculateNonet(grid, row, column);
+        return topology().getNonet(row, column);
+    }
+
+    /**
+     * @return the topology of the parent grid.
+     */
+    private Topology topology() {
+        return attached ? grid.getTopology() : Topology.get(grid.getSize());
     }
 
     /**
@@ -118,7 +152,18 @@ public class Cell {
      * @throws NoSuchElementException thrown if no value was set for the cell.
      */
     public int getValue() {
-        return value.get();
+        final int currentValue = currentValue();
+        if(currentValue == 0) {
+            throw new NoSuchElementException("No value present");
+        }
+        return currentValue;
+    }
+
+    /**
+     * @return the value of the cell or 0 if the cell is empty.
+     */
+    private int currentValue() {
+        return attached ? grid.valueAt(row, column) : value;
     }
 
     /**
@@ -126,7 +171,8 @@ public class Cell {
      * @return
      */
     public Optional<Integer> getOptionalValue() {
-        return this.value;
+        final int currentValue = currentValue();
+        return currentValue == 0 ? Optional.empty() : Optional.of(currentValue);
     }
 
     /**
@@ -136,7 +182,11 @@ public class Cell {
      */
     public void setValue(int value) throws ValueOutOfBoundsException {
         Validator.validateValue(grid, value);
-        this.value = Optional.of(value);
+        if(attached) {
+            grid.writeValue(row, column, value);
+        } else {
+            this.value = value;
+        }
     }
 
     /**
@@ -144,7 +194,7 @@ public class Cell {
      * @return
      */
     public boolean isEmpty() {
-        return value.isEmpty();
+        return currentValue() == 0;
     }
 
     /**
@@ -152,7 +202,7 @@ public class Cell {
      * @return
      */
     public boolean isFixed() {
-        return fixed;
+        return attached ? grid.fixedAt(row, column) : fixed;
     }
 
     /**
@@ -160,7 +210,11 @@ public class Cell {
      * @param fixed
      */
     public void setFixed(boolean fixed) {
-        this.fixed = fixed;
+        if(attached) {
+            grid.writeFixed(row, column, fixed);
+        } else {
+            this.fixed = fixed;
+        }
     }
 
     /**
@@ -168,12 +222,12 @@ public class Cell {
      * @return value that was present in the cell or 0 if the cell was empty.
      */
     public int removeValue() {
-        if(value.isPresent()) {
-            int previousValue = value.get();
-            value = Optional.empty();
-            return previousValue;
+        if(attached) {
+            return grid.clearValue(row, column);
         }
-        return 0;
+        final int previousValue = value;
+        value = 0;
+        return previousValue;
     }
 
     /**
@@ -187,7 +241,11 @@ public class Cell {
         if(cell == null) {
             throw new NullPointerException();
         }
-        return row == cell.getRow() || column == cell.getColumn() || getNonet() == cell.getNonet();
+        if(row == cell.getRow() || column == cell.getColumn()) {
+            return true;
+        }
+        final Topology topology = topology();
+        return topology.getNonet(row, column) == topology.getNonet(cell.getRow(), cell.getColumn());
     }
 
     @Override
@@ -209,6 +267,6 @@ public class Cell {
 
     @Override
     public String toString() {
-        return String.format(CELL_STRING, row, column, getNonet(), value.isEmpty() ? 0 : value.get());
+        return String.format(CELL_STRING, row, column, getNonet(), currentValue());
     }
 }
@@ -1,13 +1,11 @@
 package com.damelyngdoh.azosudoku;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
@@ -23,94 +21,231 @@ import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
 /**
  * @author Dame Lyngdoh
  */
-public class Grid {
+public class Grid implements ReadableGrid {
 
     private static final String DEFAULT_CELL_DELIMITER = ",";
     private static final String DEFAULT_ROW_DELIMITER = "\n";
     private static final String DEFAULT_EMPTY_CELL_NOTATTION = "0";
     private static final String NULL_CELL_ARGUMENT_MSG = "Null cell argument passed.";
+    private static final int[] EMPTY_TRAIL = new int[0];
 
     /**
-     * Two-dimensional containing the cells instances and represents the Sudoku.
+     * Size of the grid, that is, the number of rows, columns and nonets.
      */
-    private final Cell[][] matrix;
+    private final int size;
 
     /**
-     * List of rows of the sudoku.
+     * Values of the cells stored row after row, where the value of the cell at (row, column) is 
+     * found at index {@code (row * size) + column}. An empty cell is stored as 0. The 
+     * {@link Cell} instances returned by the grid are views over this array.
      */
-    private List<House> rows;
+    private final byte[] values;
 
     /**
-     * List of columns of the sudoku.
+     * Fixed flags of the cells, indexed the same way as the values.
      */
-    private List<House> columns;
+    private final boolean[] fixed;
 
     /**
-     * List of nonets of the sudoku.
+     * Flag indicating if every value set must be verified actively.
      */
-    private List<House> nonets;
+    private boolean activeVerification = true;
 
     /**
-     * Flag indicating if every value set must be verified actively.
+     * Lookup tables of the layout of the grid, shared by all grids of the same size.
      */
-    private boolean activeVerification = true;
+    private final Topology topology;
 
     /**
-     * Initializes the two-dimensional array with the specified size.
-     * @param size
-     */ 
-    private void initializeMatrix(int size) {
-        for(int row = 0, column = 0; row < size; row++) {
-            for(column = 0; column < size; column++) {
-                matrix[row][column] = new Cell(this, row, column);
+     * Bitmask with the bits of all the values permissible for the grid set.
+     */
+    private final long allValuesMask;
+
+    /**
+     * Bitmasks of the values present in each row, column and nonet. The bit {@code value - 1} of 
+     * a mask is set when the value is present in at least one cell of the house.
+     */
+    private final long[] rowMasks;
+    private final long[] columnMasks;
+    private final long[] nonetMasks;
+
+    /**
+     * Number of occurrences of each value in each row, column and nonet, indexed by 
+     * {@code (houseIndex * size) + value - 1}. Keeps the bitmasks correct when a house contains 
+     * the same value more than once, which is possible when active verification is turned off.
+     */
+    private final byte[] rowCounts;
+    private final byte[] columnCounts;
+    private final byte[] nonetCounts;
+
+    /**
+     * Journal of the value changes recorded since the first checkpoint was marked, used to undo the 
+     * changes in reverse order. Each entry holds the index of the changed cell shifted left by 8 bits 
+     * and the previous value of the cell in the low 8 bits.
+     */
+    private int[] trail = EMPTY_TRAIL;
+
+    /**
+     * Number of entries in the trail.
+     */
+    private int trailSize = 0;
+
+    /**
+     * Flag indicating if value changes are recorded in the trail.
+     */
+    private boolean trailActive = false;
+
+    /**
+     * Calculates the bitmask of the permissible values for the cell specified by the coordinates without any validation.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @return bitmask of permissible values.
+     */
+    private long candidateMask(int row, int column) {
+        return allValuesMask & ~(rowMasks[row] | columnMasks[column] | nonetMasks[topology.getNonet(row, column)]);
+    }
+
+    /**
+     * Records an occurrence of the value in the house and sets the bit of the value in the house mask.
+     * @param masks the masks of the houses of one type.
+     * @param counts the occurrence counters of the houses of the same type.
+     * @param house the index of the house.
+     * @param value the value added to the house.
+     */
+    private void addOccurrence(long[] masks, byte[] counts, int house, int value) {
+        if(counts[(house * masks.length) + value - 1]++ == 0) {
+            masks[house] |= 1L << (value - 1);
+        }
+    }
+
+    /**
+     * Removes an occurrence of the value from the house and clears the bit of the value in the house 
+     * mask if no other cell of the house contains the value.
+     * @param masks the masks of the houses of one type.
+     * @param counts the occurrence counters of the houses of the same type.
+     * @param house the index of the house.
+     * @param value the value removed from the house.
+     */
+    private void removeOccurrence(long[] masks, byte[] counts, int house, int value) {
+        if(--counts[(house * masks.length) + value - 1] == 0) {
+            masks[house] &= ~(1L << (value - 1));
+        }
+    }
+
+    /**
+     * Updates the house masks after the value of a cell has changed.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @param previousValue value of the cell before the change or 0 if the cell was empty.
+     * @param value value of the cell after the change or 0 if the cell is now empty.
+     */
+    private void valueChanged(int row, int column, int previousValue, int value) {
+        final int nonet = topology.getNonet(row, column);
+        if(previousValue != 0) {
+            removeOccurrence(rowMasks, rowCounts, row, previousValue);
+            removeOccurrence(columnMasks, columnCounts, column, previousValue);
+            removeOccurrence(nonetMasks, nonetCounts, nonet, previousValue);
+        }
+        if(value != 0) {
+            addOccurrence(rowMasks, rowCounts, row, value);
+            addOccurrence(columnMasks, columnCounts, column, value);
+            addOccurrence(nonetMasks, nonetCounts, nonet, value);
+        }
+    }
+
+    /**
+     * Gets the value of the cell specified by the coordinates without any validation.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @return value of the cell or 0 if the cell is empty.
+     */
+    int valueAt(int row, int column) {
+        return values[(row * size) + column];
+    }
+
+    /**
+     * Writes the value of the cell specified by the coordinates and updates the house masks without 
+     * checking if the value is permissible for the cell.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @param value the value to write, already validated to be in the range of 1 to size of the grid.
+     */
+    void writeValue(int row, int column, int value) {
+        final int index = (row * size) + column;
+        final int previousValue = values[index];
+        if(trailActive) {
+            record(index, previousValue);
+        }
+        values[index] = (byte)value;
+        valueChanged(row, column, previousValue, value);
+    }
+
+    /**
+     * Clears the value of the cell specified by the coordinates without any validation.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @return the value of the cell before clearing or 0 if the cell was empty.
+     */
+    int clearValue(int row, int column) {
+        final int index = (row * size) + column;
+        final int previousValue = values[index];
+        if(previousValue != 0) {
+            if(trailActive) {
+                record(index, previousValue);
             }
+            values[index] = 0;
+            valueChanged(row, column, previousValue, 0);
         }
+        return previousValue;
     }
 
     /**
-     * @return map of three type of houses in the grid.
+     * Appends an entry to the trail, growing the trail if it is full.
+     * @param index index of the changed cell.
+     * @param previousValue value of the cell before the change or 0 if the cell was empty.
      */
-    private Map<HouseType,List<House>> generateHouses() {
-        /**
-         * Initializing temporary lists to contain the cells.
-         */
-        final List<List<Cell>> tempRows = new ArrayList<>(matrix.length);
-        final List<List<Cell>> tempColumns = new ArrayList<>(matrix.length);
-        final List<List<Cell>> tempNonets = new ArrayList<>(matrix.length);
-        IntStream.range(0, matrix.length).forEach(i -> {
-            tempRows.add(new ArrayList<>(matrix.length));
-            tempColumns.add(new ArrayList<>(matrix.length));
-            tempNonets.add(new ArrayList<>(matrix.length));
-        });
+    private void record(int index, int previousValue) {
+        if(trailSize == trail.length) {
+            trail = Arrays.copyOf(trail, Math.max(values.length, trail.length * 2));
+        }
+        trail[trailSize++] = (index << 8) | previousValue;
+    }
 
-        /**
-         * Iterating over all the cells in the grid 
-         * and populating each cell into the respective 
-         * temporary lists.
-         */
-        streamCells().forEach(cell -> {
-            tempRows.get(cell.getRow()).add(cell);
-            tempColumns.get(cell.getColumn()).add(cell);
-            tempNonets.get(cell.getNonet()).add(cell);
-        });
+    /**
+     * Gets the bitmask of the values present in the house specified by the type and index without any validation.
+     * @param houseType type of the house.
+     * @param index index of the house.
+     * @return bitmask of present values, where the bit {@code value - 1} is set if the value is present.
+     */
+    long houseMask(HouseType houseType, int index) {
+        switch (houseType) {
+            case ROW:
+                return rowMasks[index];
+            case COLUMN:
+                return columnMasks[index];
+            default:
+                return nonetMasks[index];
+        }
+    }
 
-        /**
-         * Initializing the houses and populating the houses 
-         * from the temporary lists mentioned above.
-         */
-        final List<House> rows = new ArrayList<>(matrix.length);
-        final List<House> columns = new ArrayList<>(matrix.length);
-        final List<House> nonets = new ArrayList<>(matrix.length);
-        IntStream.range(0, matrix.length).forEach(i -> {
-            rows.add(new House(i, this, HouseType.ROW, tempRows.get(i)));
-            columns.add(new House(i, this, HouseType.COLUMN, tempColumns.get(i)));
-            nonets.add(new House(i, this, HouseType.NONET, tempNonets.get(i)));
-        });
+    /**
+     * Gets the fixed flag of the cell specified by the coordinates without any validation.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @return the fixed flag of the cell.
+     */
+    boolean fixedAt(int row, int column) {
+        return fixed[(row * size) + column];
+    }
 
-        /**
-         * Creating and returning map of the three types of houses.
-         */
-        return Map.of(HouseType.ROW, List.copyOf(rows), HouseType.COLUMN, List.copyOf(columns), HouseType.NONET, List.copyOf(nonets));
+    /**
+     * Sets the fixed flag of the cell specified by the coordinates without any validation.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @param fixed the new state of the fixed flag.
+     */
+    void writeFixed(int row, int column, boolean fixed) {
+        this.fixed[(row * size) + column] = fixed;
     }
 
     /**
@@ -120,20 +255,309 @@ public class Grid {
      */
     public Grid(int size) throws InvalidSizeException {
         Validator.validateSize(size);
-        this.matrix = new Cell[size][size];
-        initializeMatrix(size);
-        Map<HouseType,List<House>> houses = generateHouses();
-        this.rows = houses.get(HouseType.ROW);
-        this.columns = houses.get(HouseType.COLUMN);
-        this.nonets = houses.get(HouseType.NONET);
+        this.size = size;
+        this.values = new byte[size * size];
+        this.fixed = new boolean[size * size];
+        this.topology = Topology.get(size);
+        this.allValuesMask = size == Long.SIZE ? -1L : (1L << size) - 1;
+        this.rowMasks = new long[size];
+        this.columnMasks = new long[size];
+        this.nonetMasks = new long[size];
+        this.rowCounts = new byte[size * size];
+        this.columnCounts = new byte[size * size];
+        this.nonetCounts = new byte[size * size];
+    }
+
+    /**
+     * Constructs a new Grid object with the same state as the source grid. The primitive state 
+     * is copied as is and no value is validated.
+     * @param source the grid to copy.
+     */
+    private Grid(Grid source) {
+        this.size = source.size;
+        this.topology = source.topology;
+        this.allValuesMask = source.allValuesMask;
+        this.activeVerification = source.activeVerification;
+        this.values = copyOf(source.values);
+        this.fixed = new boolean[source.fixed.length];
+        System.arraycopy(source.fixed, 0, this.fixed, 0, fixed.length);
+        this.rowMasks = new long[size];
+        this.columnMasks = new long[size];
+        this.nonetMasks = new long[size];
+        System.arraycopy(source.rowMasks, 0, rowMasks, 0, size);
+        System.arraycopy(source.columnMasks, 0, columnMasks, 0, size);
+        System.arraycopy(source.nonetMasks, 0, nonetMasks, 0, size);
+        this.rowCounts = copyOf(source.rowCounts);
+        this.columnCounts = copyOf(source.columnCounts);
+        this.nonetCounts = copyOf(source.nonetCounts);
+    }
+
+    /**
+     * @param source array to copy.
+     * @return a new array with the same elements as the source.
+     */
+    private static byte[] copyOf(byte[] source) {
+        final byte[] copy = new byte[source.length];
+        System.arraycopy(source, 0, copy, 0, source.length);
+        return copy;
+    }
+
+    /**
+     * Recalculates the house masks and occurrence counters from the values of the cells.
+     */
+    private void rebuildMasks() {
+        Arrays.fill(rowMasks, 0);
+        Arrays.fill(columnMasks, 0);
+        Arrays.fill(nonetMasks, 0);
+        Arrays.fill(rowCounts, (byte)0);
+        Arrays.fill(columnCounts, (byte)0);
+        Arrays.fill(nonetCounts, (byte)0);
+        for(int index = 0; index < values.length; index++) {
+            if(values[index] != 0) {
+                valueChanged(topology.getRow(index), topology.getColumn(index), 0, values[index]);
+            }
+        }
+    }
+
+    /**
+     * Creates a copy of the grid with the same values, fixed flags and active verification state. 
+     * The copy shares no state with the grid, does not record its changes until a checkpoint is marked 
+     * and is created in time linear to the number of cells without validating any value.
+     * @return copy of the grid.
+     */
+    public Grid copy() {
+        return new Grid(this);
+    }
+
+    /**
+     * Takes an immutable snapshot of the values and fixed flags of the cells of the grid.
+     * @return snapshot of the grid.
+     */
+    @Override
+    public GridSnapshot snapshot() {
+        final long[] packedFixed = new long[(fixed.length + Long.SIZE - 1) / Long.SIZE];
+        for(int index = 0; index < fixed.length; index++) {
+            if(fixed[index]) {
+                packedFixed[index >>> 6] |= 1L << index;
+            }
+        }
+        return new GridSnapshot(size, copyOf(values), packedFixed);
+    }
+
+    /**
+     * Restores the values and fixed flags of the cells from a snapshot, replacing the current state 
+     * of the grid. The values of the snapshot are not validated and the trail of recorded changes is cleared.
+     * @param snapshot the snapshot to restore, taken from a grid of the same size.
+     * @throws NullPointerException thrown if snapshot argument is null.
+     * @throws IllegalArgumentException thrown if the snapshot was taken from a grid of a different size.
+     */
+    public void restore(GridSnapshot snapshot) {
+        if(snapshot == null) {
+            throw new NullPointerException("Null snapshot argument passed.");
+        }
+        if(snapshot.getSize() != size) {
+            throw new IllegalArgumentException(String.format("Snapshot of size %d cannot be restored into grid of size %d.", snapshot.getSize(), size));
+        }
+        snapshot.copyValuesTo(values);
+        snapshot.copyFixedTo(fixed);
+        rebuildMasks();
+        clearTrail();
+    }
+
+    /**
+     * Marks a checkpoint which the values of the grid can later be reverted to with {@link #undoTo(int)}. 
+     * The first mark turns on the recording of value changes, which stays on until {@link #clearTrail()} 
+     * is called. Marks are cheap and can be nested, a checkpoint being simply the number of changes 
+     * recorded so far.
+     * @return the checkpoint.
+     */
+    public int mark() {
+        trailActive = true;
+        return trailSize;
+    }
+
+    /**
+     * Reverts, in reverse order, every value change recorded since the checkpoint was marked and 
+     * updates the house masks accordingly. Fixed flags are not affected. The changes after the 
+     * checkpoint are removed from the trail, hence checkpoints marked after this checkpoint become invalid.
+     * @param checkpoint the checkpoint returned by {@link #mark()}.
+     * @throws IllegalArgumentException thrown if checkpoint is negative or greater than the number of recorded changes.
+     */
+    public void undoTo(int checkpoint) {
+        if(checkpoint < 0 || checkpoint > trailSize) {
+            throw new IllegalArgumentException(String.format("Invalid checkpoint %d. Must be in the range 0 to %d inclusively.", checkpoint, trailSize));
+        }
+        while(trailSize > checkpoint) {
+            final int entry = trail[--trailSize];
+            final int index = entry >>> 8;
+            final int previousValue = entry & 0xFF;
+            final int value = values[index];
+            values[index] = (byte)previousValue;
+            valueChanged(topology.getRow(index), topology.getColumn(index), value, previousValue);
+        }
+    }
+
+    /**
+     * Discards every recorded change and turns off the recording of value changes. Checkpoints 
+     * marked before become invalid.
+     */
+    public void clearTrail() {
+        trailSize = 0;
+        trailActive = false;
+    }
+
+    /**
+     * @return true if value changes are being recorded for {@link #undoTo(int)} or false otherwise.
+     */
+    public boolean isTrailActive() {
+        return trailActive;
+    }
+
+    /**
+     * Creates a grid from the two-dimensional array, where each cell of the array holds the value of the 
+     * cell of the grid with the same coordinates and 0 denotes an empty cell. The values are written in 
+     * bulk and checked in a single pass, see {@link #load(int[])}.
+     * @param matrix the two-dimensional array.
+     * @return a grid with a size equal to the size of the matrix.
+     * @throws NullPointerException thrown if matrix argument is null or if any one of the rows is null.
+     * @throws InvalidSizeException thrown when the size of the matrix is not a perfect nonet or if the matrix is not square.
+     * @throws ValueOutOfBoundsException thrown if any of the values in the matrix is not in the range 0 to size (inclusively).
+     * @throws DisallowedValueException thrown when a value is already present in a house of its cell.
+     */
+    public static Grid of(int[][] matrix) throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        return of(matrix, false);
+    }
+
+    /**
+     * Creates a grid from the two-dimensional array, optionally trusting the values of the array. 
+     * See {@link #of(int[][])} and {@link #load(int[], boolean)}.
+     * @param matrix the two-dimensional array.
+     * @param trusted true to skip the checks of the values of the matrix.
+     * @return a grid with a size equal to the size of the matrix.
+     * @throws NullPointerException thrown if matrix argument is null or if any one of the rows is null.
+     * @throws InvalidSizeException thrown when the size of the matrix is not a perfect nonet or if the matrix is not square.
+     * @throws ValueOutOfBoundsException thrown if values are not trusted and any of them is not in the range 0 to size (inclusively).
+     * @throws DisallowedValueException thrown if values are not trusted and a value is already present in a house of its cell.
+     */
+    public static Grid of(int[][] matrix, boolean trusted) throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        Validator.validateMatrixShape(matrix);
+        final int size = matrix.length;
+        final int[] flatValues = new int[size * size];
+        for(int row = 0; row < size; row++) {
+            System.arraycopy(matrix[row], 0, flatValues, row * size, size);
+        }
+        final Grid grid = new Grid(size);
+        grid.load(flatValues, trusted);
+        return grid;
+    }
+
+    /**
+     * Replaces the values of all the cells of the grid with the values of the array, stored row after row 
+     * with 0 denoting an empty cell. The values are written in bulk and checked in a single pass over the 
+     * array, conflicts being checked only if active verification is on. The grid is not changed if a 
+     * check fails. The fixed flags of all the cells are reset and the trail of recorded changes is cleared.
+     * @param values the values of the cells, the value of the cell at (row, column) being at index {@code (row * size) + column}.
+     * @throws NullPointerException thrown if values argument is null.
+     * @throws IllegalArgumentException thrown if the length of the array is not the number of cells of the grid.
+     * @throws ValueOutOfBoundsException thrown if any of the values is not in the range 0 to size (inclusively).
+     * @throws DisallowedValueException thrown when a value is already present in a house of its cell, the cells being checked row after row.
+     */
+    public void load(int[] values) throws ValueOutOfBoundsException, DisallowedValueException {
+        load(values, false);
+    }
+
+    /**
+     * Replaces the values of all the cells of the grid like {@link #load(int[])}, optionally trusting 
+     * the values. Trusted values are written without any check and must be in the range 0 to size 
+     * (inclusively), otherwise the state of the grid is undefined.
+     * @param values the values of the cells, the value of the cell at (row, column) being at index {@code (row * size) + column}.
+     * @param trusted true to skip the checks of the values.
+     * @throws NullPointerException thrown if values argument is null.
+     * @throws IllegalArgumentException thrown if the length of the array is not the number of cells of the grid.
+     * @throws ValueOutOfBoundsException thrown if values are not trusted and any of them is not in the range 0 to size (inclusively).
+     * @throws DisallowedValueException thrown if values are not trusted and a value is already present in a house of its cell.
+     */
+    public void load(int[] values, boolean trusted) throws ValueOutOfBoundsException, DisallowedValueException {
+        if(values == null) {
+            throw new NullPointerException("Null values argument passed.");
+        }
+        if(values.length != this.values.length) {
+            throw new IllegalArgumentException(String.format("Invalid values length %d. Must be equal to the cell count %d.", values.length, this.values.length));
+        }
+        if(!trusted) {
+            checkValues(values);
+        }
+        for(int index = 0; index < values.length; index++) {
+            this.values[index] = (byte)values[index];
+        }
+        Arrays.fill(fixed, false);
+        rebuildMasks();
+        clearTrail();
+    }
+
+    /**
+     * Checks the range of the values to load and, if active verification is on, that no value is present 
+     * twice in a house, in a single pass over the values.
+     * @param values the values of the cells.
+     * @throws ValueOutOfBoundsException thrown if any of the values is not in the range 0 to size (inclusively).
+     * @throws DisallowedValueException thrown when a value is already present in a house of its cell.
+     */
+    private void checkValues(int[] values) throws ValueOutOfBoundsException, DisallowedValueException {
+        final long[] seenInRows = new long[size];
+        final long[] seenInColumns = new long[size];
+        final long[] seenInNonets = new long[size];
+        for(int index = 0; index < values.length; index++) {
+            final int value = values[index];
+            if(value < 0 || value > size) {
+                throw new ValueOutOfBoundsException(value, size, false);
+            }
+            if(value == 0 || !activeVerification) {
+                continue;
+            }
+            final int row = topology.getRow(index);
+            final int column = topology.getColumn(index);
+            final int nonet = topology.getNonet(index);
+            final long valueMask = 1L << (value - 1);
+            if(((seenInRows[row] | seenInColumns[column] | seenInNonets[nonet]) & valueMask) != 0) {
+                throw new DisallowedValueException(row, column, value, false);
+            }
+            seenInRows[row] |= valueMask;
+            seenInColumns[column] |= valueMask;
+            seenInNonets[nonet] |= valueMask;
+        }
+    }
+
+    /**
+     * Returns the values of the grid as a one-dimensional array stored row after row, the value of the cell 
+     * at (row, column) being at index {@code (row * size) + column} and empty cells being 0. The array is 
+     * accepted by {@link #load(int[])}.
+     * @return values of the cells.
+     */
+    @Override
+    public int[] toFlatArray() {
+        final int[] array = new int[values.length];
+        for(int index = 0; index < values.length; index++) {
+            array[index] = values[index];
+        }
+        return array;
     }
 
     /**
      * Returns the size of the grid.
      * @return
      */
+    @Override
     public int getSize() {
-        return matrix.length;
+        return size;
+    }
+
+    /**
+     * Gets the lookup tables of the layout of the grid.
+     * @return topology shared by all grids of the same size.
+     */
+    @Override
+    public Topology getTopology() {
+        return topology;
     }
 
     /**
@@ -157,7 +581,9 @@ public class Grid {
     }
 
     /**
-     * Gets the cell within the grid specified by the row and column coordinates.
+     * Gets the cell within the grid specified by the row and column coordinates. The cell is a lightweight 
+     * view over the storage of the grid, hence changes made through the cell are reflected in the grid and 
+     * vice versa. Cells with the same coordinates are equal even if they are different instances.
      * @param row the row coordinate of the cell.
      * @param column the column coordinate of the cell.
      * @return cell at row and column coordinate.
@@ -166,7 +592,7 @@ public class Grid {
     public Cell getCell(int row, int column) {
         Validator.validateIndex(this, row, HouseType.ROW);
         Validator.validateIndex(this, column, HouseType.COLUMN);
-        return matrix[row][column];
+        return new Cell(this, row, column, true);
     }
 
     /**
@@ -177,9 +603,47 @@ public class Grid {
      * @throw GridIndexOutOfBoundsException thrown when row or column arguments are out of bounds of the grid context.
      */
     public Optional<Integer> getValue(int row, int column) {
-        return getCell(row, column).getOptionalValue();
+        Validator.validateIndex(this, row, HouseType.ROW);
+        Validator.validateIndex(this, column, HouseType.COLUMN);
+        final int value = valueAt(row, column);
+        return value == 0 ? Optional.empty() : Optional.of(value);
+    }
+
+    /**
+     * Gets the value contained at the cell specified by the row and column coordinates, 0 denoting an 
+     * empty cell. This is the allocation free equivalent of {@link #getValue(int, int)}.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @return the value of the cell or 0 if the cell is empty.
+     * @throws GridIndexOutOfBoundsException thrown when row or column arguments are out of bounds of the grid context.
+     */
+    public int getRawValue(int row, int column) {
+        Validator.validateIndex(this, row, HouseType.ROW);
+        Validator.validateIndex(this, column, HouseType.COLUMN);
+        return valueAt(row, column);
     }
     
+    /**
+     * Gets the value of the cell at the index of the {@link Topology} of the grid without validating the 
+     * index, 0 denoting an empty cell. Meant for the inner loops of the solvers, which iterate over the 
+     * indices of the topology.
+     * @param cell index of the cell, {@code (row * size) + column}.
+     * @return the value of the cell or 0 if the cell is empty.
+     */
+    public int rawValueAt(int cell) {
+        return values[cell];
+    }
+
+    /**
+     * Gets the bitmask of the values permissible for the cell at the index of the {@link Topology} of the 
+     * grid without validating the index, like {@link #getCandidateMask(int, int)}.
+     * @param cell index of the cell, {@code (row * size) + column}.
+     * @return bitmask of values permissible for the cell.
+     */
+    public long candidateMaskAt(int cell) {
+        return allValuesMask & ~(rowMasks[topology.getRow(cell)] | columnMasks[topology.getColumn(cell)] | nonetMasks[topology.getNonet(cell)]);
+    }
+
     /**
      * Returns the row specified by the index.
      * @param index index of the row.
@@ -188,7 +652,7 @@ public class Grid {
      */
     public House getRow(int index) {
         Validator.validateIndex(this, index, HouseType.ROW);
-        return rows.get(index);
+        return new House(index, this, HouseType.ROW);
     }
     
     /**
@@ -199,7 +663,7 @@ public class Grid {
      */
     public House getColumn(int index) {
         Validator.validateIndex(this, index, HouseType.COLUMN);
-        return columns.get(index);
+        return new House(index, this, HouseType.COLUMN);
     }
     
     /**
@@ -210,7 +674,7 @@ public class Grid {
      */
     public House getNonet(int index) {
         Validator.validateIndex(this, index, HouseType.NONET);
-        return nonets.get(index);
+        return new House(index, this, HouseType.NONET);
     }
     
     /**
@@ -272,6 +736,9 @@ public class Grid {
             if(column1 > column2) {
                 return 1;
             }
+            if(column1 < column2) {
+                return -1;
+            }
             return 0;
         });
         sortedMap.putAll(emptyCells);
@@ -283,8 +750,8 @@ public class Grid {
      * @return stream of cells of the grid.
      */
     public Stream<Cell> streamCells() {
-        return Arrays.stream(matrix)
-        .flatMap(row -> Arrays.stream(row));
+        return IntStream.range(0, values.length)
+            .mapToObj(index -> new Cell(this, index / size, index % size, true));
     }
 
     /**
@@ -300,9 +767,8 @@ public class Grid {
      * @return set of invalid empty cells.
      */
     public Set<Cell> getInvalidEmptyCells() {
-        return getEmptyCells()
-                .stream()
-                .filter(cell -> cell.isEmpty() && this.getPermissibleValues(cell).isEmpty())
+        return streamCells()
+                .filter(cell -> cell.isEmpty() && candidateMask(cell.getRow(), cell.getColumn()) == 0)
                 .collect(Collectors.toSet());
     }
 
@@ -311,9 +777,11 @@ public class Grid {
      * @return true if the grid has invalid empty cells or false otherwise.
      */
     public boolean hasEmptyAndInvalidCells() {
-        for(Cell cell : getEmptyCells()) {
-            if(cell.isEmpty() && this.getPermissibleValues(cell).isEmpty()) {
-                return true;
+        for(int row = 0, column = 0; row < size; row++) {
+            for(column = 0; column < size; column++) {
+                if(valueAt(row, column) == 0 && candidateMask(row, column) == 0) {
+                    return true;
+                }
             }
         }
         return false;
@@ -325,9 +793,9 @@ public class Grid {
      */
     public boolean setNonEmptyAsFixed() {
         boolean result = false;
-        for(Cell cell : getNonEmptyCells()) {
-            if(!cell.isEmpty() && !cell.isFixed()) {
-                cell.setFixed(true);
+        for(int index = 0; index < values.length; index++) {
+            if(values[index] != 0 && !fixed[index]) {
+                fixed[index] = true;
                 result = true;
             }
         }
@@ -356,16 +824,22 @@ public class Grid {
      * @throws GridIndexOutOfBoundsException thrown when row or column argument are out of bounds of grid context.
      */
     public Set<Integer> getPermissibleValues(int row, int column) {
+        return Utils.getValuesFromMask(getCandidateMask(row, column));
+    }
+
+    /**
+     * Gets the values that are permissible for the cell specified by the coordinates row and column as a bitmask, 
+     * where the bit {@code value - 1} is set if the value is permissible. This is the allocation free equivalent 
+     * of {@link #getPermissibleValues(int, int)}.
+     * @param row row index or coordinate of the cell.
+     * @param column column index or coordinate of the cell.
+     * @return bitmask of values permissible for the cell.
+     * @throws GridIndexOutOfBoundsException thrown when row or column argument are out of bounds of grid context.
+     */
+    public long getCandidateMask(int row, int column) {
         Validator.validateIndex(this, column, HouseType.COLUMN);
         Validator.validateIndex(this, row, HouseType.ROW);
-
-        Set<Integer> presentValues = Stream.concat(
-            Stream.concat(rows.get(row).getPresentValues().stream(), columns.get(column).getPresentValues().stream()),
-            nonets.get(Utils.calculateNonet(this, row, column)).getPresentValues().stream())
-            .collect(Collectors.toSet());
-        Set<Integer> allPermissibleValues = getPermissibleValues();
-        allPermissibleValues.removeAll(presentValues);
-        return allPermissibleValues;
+        return candidateMask(row, column);
     }
 
     /**
@@ -412,10 +886,45 @@ public class Grid {
         Validator.validateIndex(this, row, HouseType.ROW);
         Validator.validateValue(this, value);
         if(activeVerification) {
-            if(!getPermissibleValues(row, column).contains(value))
-                throw new DisallowedValueException(row, column, value);
+            if((candidateMask(row, column) & (1L << (value - 1))) == 0)
+                throw new DisallowedValueException(row, column, value, false);
         }
-        matrix[row][column].setValue(value);
+        writeValue(row, column, value);
+    }
+
+    /**
+     * Attempts to set the value for the cell specified by the row and column arguments and reports the 
+     * outcome as a status instead of throwing an exception. Unlike {@link #setValue(int, int, int)}, the 
+     * value of a fixed cell is not updated. Conflicts are only checked when active verification is on.
+     * @param row the row coordinate of the cell.
+     * @param column the column coordinate of the cell.
+     * @param value the value to set.
+     * @return {@link SetValueStatus#OK} if the value was set or the reason why it was not set otherwise.
+     * @throws GridIndexOutOfBoundsException thrown when row or column argument are out of bounds of grid context.
+     */
+    public SetValueStatus trySetValue(int row, int column, int value) {
+        Validator.validateIndex(this, column, HouseType.COLUMN);
+        Validator.validateIndex(this, row, HouseType.ROW);
+        if(value <= 0 || value > size) {
+            return SetValueStatus.OUT_OF_BOUNDS;
+        }
+        if(fixedAt(row, column)) {
+            return SetValueStatus.FIXED;
+        }
+        if(activeVerification) {
+            final long valueMask = 1L << (value - 1);
+            if((rowMasks[row] & valueMask) != 0) {
+                return SetValueStatus.CONFLICT_ROW;
+            }
+            if((columnMasks[column] & valueMask) != 0) {
+                return SetValueStatus.CONFLICT_COLUMN;
+            }
+            if((nonetMasks[topology.getNonet(row, column)] & valueMask) != 0) {
+                return SetValueStatus.CONFLICT_NONET;
+            }
+        }
+        writeValue(row, column, value);
+        return SetValueStatus.OK;
     }
 
     /**
@@ -428,7 +937,7 @@ public class Grid {
     public int removeValue(int row, int column) {
         Validator.validateIndex(this, column, HouseType.COLUMN);
         Validator.validateIndex(this, row, HouseType.ROW);
-        return matrix[row][column].removeValue();
+        return clearValue(row, column);
     }
 
     /**
@@ -444,28 +953,83 @@ public class Grid {
         return removeValue(cell.getRow(), cell.getColumn());
     }
 
+    /**
+     * Checks if a value occurs more than once in any house of the grid.
+     * @return true if there is at least one conflicting value or false otherwise.
+     */
+    private boolean hasConflicts() {
+        for(int index = 0; index < rowCounts.length; index++) {
+            if(rowCounts[index] > 1 || columnCounts[index] > 1 || nonetCounts[index] > 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a conflict to the list for every value which occurs more than once in a house.
+     * @param conflicts the list of conflicts.
+     * @param houseType type of the houses.
+     * @param counts occurrence counters of the houses of the type.
+     */
+    private void addConflicts(List<ValidationReport.Conflict> conflicts, HouseType houseType, byte[] counts) {
+        for(int house = 0; house < size; house++) {
+            for(int value = 1; value <= size; value++) {
+                if(counts[(house * size) + value - 1] <= 1) {
+                    continue;
+                }
+                final List<Cell> cells = new ArrayList<>(counts[(house * size) + value - 1]);
+                for(int position = 0; position < size; position++) {
+                    final int index = topology.getHouseCell(houseType, house, position);
+                    if(values[index] == value) {
+                        cells.add(new Cell(this, topology.getRow(index), topology.getColumn(index), true));
+                    }
+                }
+                conflicts.add(new ValidationReport.Conflict(houseType, house, value, cells));
+            }
+        }
+    }
+
+    /**
+     * Validates the grid without throwing an exception and reports every value which occurs more than 
+     * once in a house and every empty cell which has no permissible value. The validation reads the 
+     * occurrence counters of the houses and hence runs in time linear to the number of cells.
+     * @return the validation report.
+     */
+    public ValidationReport validate() {
+        final List<ValidationReport.Conflict> conflicts = new ArrayList<>();
+        if(hasConflicts()) {
+            addConflicts(conflicts, HouseType.ROW, rowCounts);
+            addConflicts(conflicts, HouseType.COLUMN, columnCounts);
+            addConflicts(conflicts, HouseType.NONET, nonetCounts);
+        }
+        final List<Cell> invalidEmptyCells = new ArrayList<>();
+        for(int row = 0, column = 0; row < size; row++) {
+            for(column = 0; column < size; column++) {
+                if(valueAt(row, column) == 0 && candidateMask(row, column) == 0) {
+                    invalidEmptyCells.add(new Cell(this, row, column, true));
+                }
+            }
+        }
+        return new ValidationReport(conflicts, invalidEmptyCells);
+    }
+
     /**
      * Validates the grid by checking that there exists no:
      * <ul>
      *  <li>invalid empty cells</li>
      *  <li>confilcting values in a house</li>
      * </ul>
+     * The validation runs in time linear to the number of cells. Use {@link #validate()} to find the 
+     * offending houses and cells.
      * @throws InvalidSudokuException thrown when either an empty invalid cell or conflicting values in a house are found.
      */
     public void validateGrid() throws InvalidSudokuException {
         if(hasEmptyAndInvalidCells()) {
             throw new InvalidSudokuException("Grid contains invalid empty cells.");
         }
-        Map<Integer,Set<Cell>> valuesMap = getNonEmptyCells().stream().collect(Collectors.groupingBy(Cell::getValue, Collectors.toSet()));
-        for(Map.Entry<Integer,Set<Cell>> entry : valuesMap.entrySet()) {
-            Queue<Cell> queue = new ArrayDeque<>(entry.getValue());
-            for(Cell currentCell = queue.poll(); !queue.isEmpty(); currentCell = queue.poll()) {
-                for(Cell remainingCell : queue) {
-                    if(currentCell.isRelated(remainingCell)) {
-                        throw new InvalidSudokuException("Grid contains conflicting values.");
-                    }
-                }
-            }
+        if(hasConflicts()) {
+            throw new InvalidSudokuException("Grid contains conflicting values.");
         }
     }
 
@@ -475,10 +1039,10 @@ public class Grid {
      * @return
      */
     public int[][] asArray() {
-        int[][] array = new int[getSize()][getSize()];
-        for(int row = 0, column = 0; row < array.length; row++) {
-            for(column = 0; column < array[row].length; column++) {
-                array[row][column] = matrix[row][column].isEmpty() ? 0 : matrix[row][column].getValue();
+        int[][] array = new int[size][size];
+        for(int row = 0, column = 0; row < size; row++) {
+            for(column = 0; column < size; column++) {
+                array[row][column] = valueAt(row, column);
             }
         }
         return array;
@@ -510,27 +1074,9 @@ public class Grid {
      * @param emptyCellNotation string to represent empty cells.
      * @return the sudoku as string with the appropriate separators and empty cell notation.
      * @throws NullPointerException thrown if cellDelimiter or rowDelimiter or emptyCellNotation arguments are null.
+     * @see GridWriter
      */
      public String asString(String cellDelimiter, String rowDelimiter, String emptyCellNotation) {
-        if(cellDelimiter == null) {
-            throw new NullPointerException("Null cell delimiter passed.");
-        }
-        if(rowDelimiter == null) {
-            throw new NullPointerException("Null row delimiter passed.");
-        }
-        if(emptyCellNotation == null) {
-            throw new NullPointerException("Null empty cell notation passed.");
-        }
-        StringBuilder stringBuilder = new StringBuilder();
-        for(int row = 0, column = 0; row < matrix.length; row++) {
-            for(column = 0; column < matrix[row].length; column++) {
-                stringBuilder.append(matrix[row][column].isEmpty() ? emptyCellNotation : matrix[row][column].getValue());
-                if(column < matrix[row].length - 1) {
-                    stringBuilder.append(cellDelimiter);
-                }
-            }
-            stringBuilder.append(rowDelimiter);
-        }
-        return stringBuilder.toString();
+        return GridWriter.delimited(cellDelimiter, rowDelimiter, emptyCellNotation).toString(this);
     }
 }
@@ -0,0 +1,174 @@
+package com.damelyngdoh.azosudoku;
+
+import java.util.Arrays;
+
+import com.damelyngdoh.azosudoku.exceptions.GridIndexOutOfBoundsException;
+
+/**
+ * Immutable and compact copy of the state of a {@link Grid}, that is, the values and fixed flags of its
+ * cells. A snapshot is taken with {@link Grid#snapshot()} and can be written back into any grid of the
+ * same size with {@link Grid#restore(GridSnapshot)}. A snapshot is a {@link ReadableGrid}, so it can be
+ * passed where a grid is only read, for example to {@code SudokuSolver.solve(ReadableGrid)}.
+ *
+ * @author Dame Lyngdoh
+ */
+public final class GridSnapshot implements ReadableGrid {
+
+    /**
+     * Size of the grid the snapshot was taken from.
+     */
+    private final int size;
+
+    /**
+     * Values of the cells stored row after row, 0 denoting an empty cell.
+     */
+    private final byte[] values;
+
+    /**
+     * Fixed flags of the cells packed as bits, the flag of the cell at index {@code i}
+     * being the bit {@code i % 64} of the element {@code i / 64}.
+     */
+    private final long[] fixed;
+
+    /**
+     * Constructs a snapshot from the storage of a grid. The arrays are owned by the snapshot.
+     * @param size size of the grid.
+     * @param values values of the cells.
+     * @param fixed packed fixed flags of the cells.
+     */
+    GridSnapshot(int size, byte[] values, long[] fixed) {
+        this.size = size;
+        this.values = values;
+        this.fixed = fixed;
+    }
+
+    /**
+     * Copies the values of the snapshot into the storage of a grid.
+     * @param target the values array of the grid.
+     */
+    void copyValuesTo(byte[] target) {
+        System.arraycopy(values, 0, target, 0, values.length);
+    }
+
+    /**
+     * Unpacks the fixed flags of the snapshot into the storage of a grid.
+     * @param target the fixed flags array of the grid.
+     */
+    void copyFixedTo(boolean[] target) {
+        for(int index = 0; index < target.length; index++) {
+            target[index] = (fixed[index >>> 6] & (1L << index)) != 0;
+        }
+    }
+
+    /**
+     * @return size of the grid the snapshot was taken from.
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return topology of the grid the snapshot was taken from.
+     */
+    @Override
+    public Topology getTopology() {
+        return Topology.get(size);
+    }
+
+    @Override
+    public int[] toFlatArray() {
+        final int[] flatArray = new int[values.length];
+        for(int index = 0; index < values.length; index++) {
+            flatArray[index] = values[index];
+        }
+        return flatArray;
+    }
+
+    /**
+     * @return this snapshot, as a snapshot is immutable.
+     */
+    @Override
+    public GridSnapshot snapshot() {
+        return this;
+    }
+
+    /**
+     * Creates a snapshot with the fixed flags of this snapshot and other values, for example the values 
+     * of a solution of the grid. The values are checked to be in range but not against each other.
+     * @param newValues values of the cells stored row after row, 0 denoting an empty cell.
+     * @return the new snapshot.
+     * @throws NullPointerException thrown if newValues argument is null.
+     * @throws IllegalArgumentException thrown if the number of values is not the number of cells or a value is not in the range 0 to size.
+     */
+    public GridSnapshot withValues(int[] newValues) {
+        if(newValues == null) {
+            throw new NullPointerException("Null values passed.");
+        }
+        if(newValues.length != values.length) {
+            throw new IllegalArgumentException(String.format("Invalid number of values %d. Must be %d.", newValues.length, values.length));
+        }
+        final byte[] copy = new byte[values.length];
+        for(int index = 0; index < copy.length; index++) {
+            if(newValues[index] < 0 || newValues[index] > size) {
+                throw new IllegalArgumentException(String.format("Invalid value %d. Must be in the range 0 to %d.", newValues[index], size));
+            }
+            copy[index] = (byte)newValues[index];
+        }
+        return new GridSnapshot(size, copy, fixed);
+    }
+
+    /**
+     * Gets the value of the cell specified by the coordinates.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @return value of the cell or 0 if the cell was empty.
+     * @throws GridIndexOutOfBoundsException thrown when row or column arguments are out of bounds of the grid.
+     */
+    public int getValue(int row, int column) {
+        validateIndex(row);
+        validateIndex(column);
+        return values[(row * size) + column];
+    }
+
+    /**
+     * Gets the fixed flag of the cell specified by the coordinates.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @return true if the cell was fixed or false otherwise.
+     * @throws GridIndexOutOfBoundsException thrown when row or column arguments are out of bounds of the grid.
+     */
+    public boolean isFixed(int row, int column) {
+        validateIndex(row);
+        validateIndex(column);
+        final int index = (row * size) + column;
+        return (fixed[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @param index row or column index to validate.
+     * @throws GridIndexOutOfBoundsException thrown if index is out of bounds of the grid.
+     */
+    private void validateIndex(int index) {
+        if(index < 0 || index >= size) {
+            throw new GridIndexOutOfBoundsException(index, size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(o == null) {
+            return false;
+        }
+        if(!(o instanceof GridSnapshot)) {
+            return false;
+        }
+        GridSnapshot snapshot = (GridSnapshot)o;
+        return size == snapshot.size && Arrays.equals(values, snapshot.values) && Arrays.equals(fixed, snapshot.fixed);
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * Arrays.hashCode(values)) + Arrays.hashCode(fixed);
+    }
+}
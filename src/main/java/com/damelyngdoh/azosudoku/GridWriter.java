@@ -0,0 +1,314 @@
+package com.damelyngdoh.azosudoku;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the values of grids and houses straight into an {@link Appendable}, such as a
+ * {@link java.io.Writer} or a {@link StringBuilder}, or into a {@link ByteBuffer}, without building
+ * intermediate strings. A writer is immutable and can be shared and reused.
+ *
+ * Two formats are supported:
+ * <ul>
+ *  <li>delimited: the values in decimal notation, the cells of a row separated by the cell delimiter,
+ *  every row followed by the row delimiter and empty cells written as the empty cell notation. This is
+ *  the format of {@link Grid#asString(String, String, String)}.</li>
+ *  <li>compact: one symbol per cell and no delimiter, for example the 81 character line of a grid of
+ *  size 9. The values 1 to 64 are written as the symbols of {@link #COMPACT_SYMBOLS} and empty cells
+ *  as the empty cell symbol.</li>
+ * </ul>
+ * The bytes written into a {@link ByteBuffer} are the UTF-8 encoding of the text.
+ *
+ * @author Dame Lyngdoh
+ */
+public final class GridWriter {
+
+    /**
+     * Symbols of the values in the compact format, the value {@code v} being written as the
+     * symbol at index {@code v - 1}.
+     */
+    public static final String COMPACT_SYMBOLS = "123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%";
+
+    private static final String DEFAULT_CELL_DELIMITER = ",";
+    private static final String DEFAULT_ROW_DELIMITER = "\n";
+    private static final String DEFAULT_EMPTY_CELL_NOTATION = "0";
+    private static final char DEFAULT_EMPTY_CELL_SYMBOL = '.';
+
+    /**
+     * Flag indicating if the writer uses the compact format.
+     */
+    private final boolean compact;
+
+    /**
+     * Delimiters and empty cell notation of the delimited format, or the empty cell symbol alone
+     * as the empty cell notation of the compact format.
+     */
+    private final String cellDelimiter;
+    private final String rowDelimiter;
+    private final String emptyCellNotation;
+
+    /**
+     * UTF-8 encodings of the delimiters and of the empty cell notation.
+     */
+    private final byte[] cellDelimiterBytes;
+    private final byte[] rowDelimiterBytes;
+    private final byte[] emptyCellNotationBytes;
+
+    private GridWriter(boolean compact, String cellDelimiter, String rowDelimiter, String emptyCellNotation) {
+        this.compact = compact;
+        this.cellDelimiter = cellDelimiter;
+        this.rowDelimiter = rowDelimiter;
+        this.emptyCellNotation = emptyCellNotation;
+        this.cellDelimiterBytes = cellDelimiter.getBytes(StandardCharsets.UTF_8);
+        this.rowDelimiterBytes = rowDelimiter.getBytes(StandardCharsets.UTF_8);
+        this.emptyCellNotationBytes = emptyCellNotation.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets a writer of the delimited format with comma as the cell delimiter, new-line as the row delimiter
+     * and 0 as the empty cell notation.
+     * @return the writer.
+     */
+    public static GridWriter delimited() {
+        return delimited(DEFAULT_CELL_DELIMITER, DEFAULT_ROW_DELIMITER, DEFAULT_EMPTY_CELL_NOTATION);
+    }
+
+    /**
+     * Gets a writer of the delimited format.
+     * @param cellDelimiter string to separate the cells in a row.
+     * @param rowDelimiter string to write after every row.
+     * @param emptyCellNotation string to represent empty cells.
+     * @return the writer.
+     * @throws NullPointerException thrown if cellDelimiter or rowDelimiter or emptyCellNotation arguments are null.
+     */
+    public static GridWriter delimited(String cellDelimiter, String rowDelimiter, String emptyCellNotation) {
+        if(cellDelimiter == null) {
+            throw new NullPointerException("Null cell delimiter passed.");
+        }
+        if(rowDelimiter == null) {
+            throw new NullPointerException("Null row delimiter passed.");
+        }
+        if(emptyCellNotation == null) {
+            throw new NullPointerException("Null empty cell notation passed.");
+        }
+        return new GridWriter(false, cellDelimiter, rowDelimiter, emptyCellNotation);
+    }
+
+    /**
+     * Gets a writer of the compact format with '.' as the empty cell symbol.
+     * @return the writer.
+     */
+    public static GridWriter compact() {
+        return compact(DEFAULT_EMPTY_CELL_SYMBOL);
+    }
+
+    /**
+     * Gets a writer of the compact format.
+     * @param emptyCellSymbol symbol to represent empty cells.
+     * @return the writer.
+     * @throws IllegalArgumentException thrown if emptyCellSymbol is one of the symbols of the values or is not an ASCII character.
+     */
+    public static GridWriter compact(char emptyCellSymbol) {
+        if(emptyCellSymbol > 0x7F || COMPACT_SYMBOLS.indexOf(emptyCellSymbol) >= 0) {
+            throw new IllegalArgumentException(String.format("Invalid empty cell symbol '%c'. Must be an ASCII character which is not the symbol of a value.", emptyCellSymbol));
+        }
+        return new GridWriter(true, "", "", String.valueOf(emptyCellSymbol));
+    }
+
+    /**
+     * @return true if the writer uses the compact format or false if it uses the delimited format.
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * Writes the values of the grid row after row into the appendable.
+     * @param grid the grid to write.
+     * @param appendable the destination of the text.
+     * @throws NullPointerException thrown if grid or appendable arguments are null.
+     * @throws IOException thrown if the appendable fails to append.
+     */
+    public void write(Grid grid, Appendable appendable) throws IOException {
+        Validator.validateGrid(grid);
+        if(appendable == null) {
+            throw new NullPointerException("Null appendable passed.");
+        }
+        final int size = grid.getSize();
+        for(int row = 0, column = 0; row < size; row++) {
+            for(column = 0; column < size; column++) {
+                if(column > 0) {
+                    appendable.append(cellDelimiter);
+                }
+                appendValue(grid.valueAt(row, column), appendable);
+            }
+            appendable.append(rowDelimiter);
+        }
+    }
+
+    /**
+     * Writes the values of the cells of the house in the order of the house into the appendable.
+     * The row delimiter is not written.
+     * @param house the house to write.
+     * @param appendable the destination of the text.
+     * @throws NullPointerException thrown if house or appendable arguments are null.
+     * @throws IOException thrown if the appendable fails to append.
+     */
+    public void write(House house, Appendable appendable) throws IOException {
+        if(house == null) {
+            throw new NullPointerException("Null house passed.");
+        }
+        if(appendable == null) {
+            throw new NullPointerException("Null appendable passed.");
+        }
+        for(int position = 0; position < house.size(); position++) {
+            if(position > 0) {
+                appendable.append(cellDelimiter);
+            }
+            appendValue(house.valueAt(position), appendable);
+        }
+    }
+
+    /**
+     * Writes the values of the grid row after row into the buffer, starting at the position of the buffer.
+     * If the remaining space of the buffer is not sufficient, the position of the buffer is left unchanged.
+     * @param grid the grid to write.
+     * @param buffer the destination of the bytes.
+     * @return the number of bytes written.
+     * @throws NullPointerException thrown if grid or buffer arguments are null.
+     * @throws BufferOverflowException thrown if the remaining space of the buffer is not sufficient.
+     * @throws java.nio.ReadOnlyBufferException thrown if the buffer is read-only.
+     */
+    public int write(Grid grid, ByteBuffer buffer) {
+        Validator.validateGrid(grid);
+        if(buffer == null) {
+            throw new NullPointerException("Null buffer passed.");
+        }
+        final int start = buffer.position();
+        final int size = grid.getSize();
+        try {
+            for(int row = 0, column = 0; row < size; row++) {
+                for(column = 0; column < size; column++) {
+                    if(column > 0) {
+                        buffer.put(cellDelimiterBytes);
+                    }
+                    putValue(grid.valueAt(row, column), buffer);
+                }
+                buffer.put(rowDelimiterBytes);
+            }
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+        return buffer.position() - start;
+    }
+
+    /**
+     * Writes the values of the cells of the house in the order of the house into the buffer, starting at
+     * the position of the buffer. The row delimiter is not written. If the remaining space of the buffer
+     * is not sufficient, the position of the buffer is left unchanged.
+     * @param house the house to write.
+     * @param buffer the destination of the bytes.
+     * @return the number of bytes written.
+     * @throws NullPointerException thrown if house or buffer arguments are null.
+     * @throws BufferOverflowException thrown if the remaining space of the buffer is not sufficient.
+     * @throws java.nio.ReadOnlyBufferException thrown if the buffer is read-only.
+     */
+    public int write(House house, ByteBuffer buffer) {
+        if(house == null) {
+            throw new NullPointerException("Null house passed.");
+        }
+        if(buffer == null) {
+            throw new NullPointerException("Null buffer passed.");
+        }
+        final int start = buffer.position();
+        try {
+            for(int position = 0; position < house.size(); position++) {
+                if(position > 0) {
+                    buffer.put(cellDelimiterBytes);
+                }
+                putValue(house.valueAt(position), buffer);
+            }
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+        return buffer.position() - start;
+    }
+
+    /**
+     * Writes the values of the grid into a string.
+     * @param grid the grid to write.
+     * @return the text of the grid.
+     * @throws NullPointerException thrown if grid argument is null.
+     */
+    public String toString(Grid grid) {
+        Validator.validateGrid(grid);
+        final StringBuilder stringBuilder = new StringBuilder(grid.getSize() * grid.getSize() * (2 + cellDelimiter.length()));
+        try {
+            write(grid, stringBuilder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Writes the values of the cells of the house into a string.
+     * @param house the house to write.
+     * @return the text of the house.
+     * @throws NullPointerException thrown if house argument is null.
+     */
+    public String toString(House house) {
+        if(house == null) {
+            throw new NullPointerException("Null house passed.");
+        }
+        final StringBuilder stringBuilder = new StringBuilder(house.size() * (2 + cellDelimiter.length()));
+        try {
+            write(house, stringBuilder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Appends the text of a value of a cell.
+     * @param value the value of the cell or 0 if the cell is empty.
+     * @param appendable the destination of the text.
+     * @throws IOException thrown if the appendable fails to append.
+     */
+    private void appendValue(int value, Appendable appendable) throws IOException {
+        if(value == 0) {
+            appendable.append(emptyCellNotation);
+        } else if(compact) {
+            appendable.append(COMPACT_SYMBOLS.charAt(value - 1));
+        } else {
+            if(value >= 10) {
+                appendable.append((char)('0' + (value / 10)));
+            }
+            appendable.append((char)('0' + (value % 10)));
+        }
+    }
+
+    /**
+     * Puts the bytes of the text of a value of a cell.
+     * @param value the value of the cell or 0 if the cell is empty.
+     * @param buffer the destination of the bytes.
+     */
+    private void putValue(int value, ByteBuffer buffer) {
+        if(value == 0) {
+            buffer.put(emptyCellNotationBytes);
+        } else if(compact) {
+            buffer.put((byte)COMPACT_SYMBOLS.charAt(value - 1));
+        } else {
+            if(value >= 10) {
+                buffer.put((byte)('0' + (value / 10)));
+            }
+            buffer.put((byte)('0' + (value % 10)));
+        }
+    }
+}
@@ -1,19 +1,21 @@
 package com.damelyngdoh.azosudoku;
 
+import java.util.AbstractList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
-import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
 /**
  * Class representing a house (row, column or nonet). Implements {@link #java.util.List List} interface as this is 
  * an ordered collection of cells. Implements the list implementation through composition and contains an internal 
  * list memeber to hold the references of the cells. This list is immutable, hence operations that modify the list 
- * (add, remove, clear, retainAll, etc) are not supported.
+ * (add, remove, clear, retainAll, etc) are not supported. Houses obtained from a {@link Grid} hold no cells of their 
+ * own and their list is a view which creates the cells from the storage of the grid when accessed.
  * 
  * @author Dame Lyngdoh
  * @since 1.0.0
@@ -50,6 +52,36 @@ public class House implements List<Cell> {
      */
     private final List<Cell> cells;
 
+    /**
+     * Immutable list view over the cells of a house of a grid. The cells are created 
+     * on access from the coordinates of the house.
+     */
+    private static final class GridHouseCells extends AbstractList<Cell> implements RandomAccess {
+
+        private final Grid grid;
+        private final HouseType houseType;
+        private final int index;
+
+        GridHouseCells(Grid grid, HouseType houseType, int index) {
+            this.grid = grid;
+            this.houseType = houseType;
+            this.index = index;
+        }
+
+        @Override
+        public Cell get(int position) {
+            final Topology topology = grid.getTopology();
+            Objects.checkIndex(position, topology.getSize());
+            final int cell = topology.getHouseCell(houseType, index, position);
+            return new Cell(grid, topology.getRow(cell), topology.getColumn(cell), true);
+        }
+
+        @Override
+        public int size() {
+            return grid.getSize();
+        }
+    }
+
     /**
      * Validates the list of cells to be populated in the house.
      * @param cells list of cells.
@@ -107,6 +139,20 @@ public class House implements List<Cell> {
         this.cells = List.copyOf(cells);
     }
 
+    /**
+     * Constructs a new House which is a view over the cells of the grid. Only invoked by the 
+     * grid itself and hence the arguments are not validated.
+     * @param index index of the house in the grid.
+     * @param grid the grid which the house belongs to.
+     * @param houseType type of house.
+     */
+    House(int index, Grid grid, HouseType houseType) {
+        this.index = index;
+        this.grid = grid;
+        this.houseType = houseType;
+        this.cells = new GridHouseCells(grid, houseType, index);
+    }
+
     /**
      * @return index of the house in the grid.
      */
@@ -128,20 +174,67 @@ public class House implements List<Cell> {
         return houseType;
     }
 
+    /**
+     * @return true if the house is a view over the cells of a grid or false if the house holds its own cells.
+     */
+    private boolean isGridHouse() {
+        return cells instanceof GridHouseCells;
+    }
+
+    /**
+     * Gets the values present in the house as a bitmask, where the bit {@code value - 1} is set if the 
+     * value is present. For a house of a grid this is read from the state maintained by the grid as 
+     * its cells change and does not visit the cells.
+     * @return bitmask of values present in the house.
+     */
+    public long getPresentValuesMask() {
+        if(isGridHouse()) {
+            return grid.houseMask(houseType, index);
+        }
+        long mask = 0;
+        for(Cell cell : cells) {
+            if(!cell.isEmpty()) {
+                mask |= 1L << (cell.getValue() - 1);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return number of distinct values present in the house.
+     */
+    public int getPresentValueCount() {
+        return Long.bitCount(getPresentValuesMask());
+    }
+
+    /**
+     * Checks if a value is present in any of the cells of the house.
+     * @param value the value to check.
+     * @return true if the value is present or false otherwise, including when the value is beyond the range of the grid.
+     */
+    public boolean containsValue(int value) {
+        if(value <= 0 || value > Long.SIZE) {
+            return false;
+        }
+        return (getPresentValuesMask() & (1L << (value - 1))) != 0;
+    }
+
     /**
      * @return set of values present in the row.
      */
     public Set<Integer> getPresentValues() {
-        return this.stream()
-                    .filter(cell -> !cell.isEmpty())
-                    .map(cell -> cell.getValue())
-                    .collect(Collectors.toSet());
+        return Utils.getValuesFromMask(getPresentValuesMask());
     }
 
     /**
      * @return set of missing values from the house.
      */
     public Set<Integer> getMissingValues() {
+        if(isGridHouse()) {
+            final int size = grid.getSize();
+            final long allValuesMask = size == Long.SIZE ? -1L : (1L << size) - 1;
+            return Utils.getValuesFromMask(allValuesMask & ~getPresentValuesMask());
+        }
         final Set<Integer> missingValues = grid.getPermissibleValues();
         missingValues.removeAll(getPresentValues());
         return missingValues;
@@ -177,6 +270,21 @@ public class House implements List<Cell> {
         return cells.stream().filter(cell -> !cell.isFixed()).map(cell -> { cell.setFixed(true); return 1; }).count() > 0;
     }
 
+    /**
+     * Gets the value of the cell at the position in the house without creating the cell.
+     * @param position position of the cell in the house.
+     * @return value of the cell or 0 if the cell is empty.
+     */
+    int valueAt(int position) {
+        if(isGridHouse()) {
+            final Topology topology = grid.getTopology();
+            final int cell = topology.getHouseCell(houseType, index, position);
+            return grid.valueAt(topology.getRow(cell), topology.getColumn(cell));
+        }
+        final Cell cell = cells.get(position);
+        return cell.isEmpty() ? 0 : cell.getValue();
+    }
+
     /**
      * Creates a string containing the values of the cells as a 
      * sequence of characters separated by the default delimiter and 
@@ -203,9 +311,7 @@ public class House implements List<Cell> {
         if(emptyCellNotation == null) {
             throw new NullPointerException("Null empty cell notation passed.");
         }
-        final StringJoiner stringJoiner = new StringJoiner(cellDelimiter);
-        cells.stream().forEach(cell -> stringJoiner.add(cell.isEmpty() ? emptyCellNotation : Integer.toString(cell.getValue())));
-        return stringJoiner.toString();
+        return GridWriter.delimited(cellDelimiter, "", emptyCellNotation).toString(this);
     }
 
     @Override
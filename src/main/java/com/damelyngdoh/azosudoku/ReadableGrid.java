@@ -0,0 +1,33 @@
+package com.damelyngdoh.azosudoku;
+
+/**
+ * Read-only view of the values of the cells of a sudoku grid, implemented by the mutable {@link Grid} 
+ * and the immutable {@link GridSnapshot}. Code which only reads a grid can accept either without 
+ * copying it first.
+ * 
+ * @author Dame Lyngdoh
+ */
+public interface ReadableGrid {
+
+    /**
+     * @return size of the grid.
+     */
+    int getSize();
+
+    /**
+     * @return topology of the grid.
+     */
+    Topology getTopology();
+
+    /**
+     * Copies the values of the cells into a flat array, row after row.
+     * @return values of the cells, 0 denoting an empty cell.
+     */
+    int[] toFlatArray();
+
+    /**
+     * Gets an immutable snapshot of the values and fixed flags of the cells.
+     * @return snapshot of the grid.
+     */
+    GridSnapshot snapshot();
+}
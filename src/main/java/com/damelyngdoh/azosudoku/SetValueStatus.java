@@ -0,0 +1,39 @@
+package com.damelyngdoh.azosudoku;
+
+/**
+ * Outcome of an attempt to set the value of a cell with {@link Grid#trySetValue(int, int, int)}.
+ * 
+ * @author Dame Lyngdoh
+ */
+public enum SetValueStatus {
+
+    /**
+     * The value was set.
+     */
+    OK,
+
+    /**
+     * The value is not in the range of 1 to the size of the grid.
+     */
+    OUT_OF_BOUNDS,
+
+    /**
+     * The value is already present in the row of the cell.
+     */
+    CONFLICT_ROW,
+
+    /**
+     * The value is already present in the column of the cell.
+     */
+    CONFLICT_COLUMN,
+
+    /**
+     * The value is already present in the nonet of the cell.
+     */
+    CONFLICT_NONET,
+
+    /**
+     * The cell is fixed and its value cannot be updated.
+     */
+    FIXED
+}
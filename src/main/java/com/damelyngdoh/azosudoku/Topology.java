@@ -0,0 +1,270 @@
+package com.damelyngdoh.azosudoku;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+
+/**
+ * Immutable lookup tables describing the layout of a grid of a specific size: the row, column and nonet
+ * of every cell, the cells of every house and the peers of every cell. A topology depends only on the
+ * size of the grid, hence one instance is built per size and is shared by every grid of that size.
+ *
+ * Cells are identified by their index in the grid, which is {@code (row * size) + column}. The peers of
+ * a cell are the other cells which share a house with it.
+ *
+ * @author Dame Lyngdoh
+ */
+public final class Topology {
+
+    /**
+     * Topologies built so far, indexed by size.
+     */
+    private static final AtomicReferenceArray<Topology> CACHE = new AtomicReferenceArray<>(Validator.MAX_SIZE + 1);
+
+    /**
+     * Size of the grid.
+     */
+    private final int size;
+
+    /**
+     * Size of each row of a nonet.
+     */
+    private final int nonetSize;
+
+    /**
+     * Row, column and nonet index of every cell, indexed by the cell index.
+     */
+    private final int[] rows;
+    private final int[] columns;
+    private final int[] nonets;
+
+    /**
+     * Cell indices of the houses of every type, indexed by {@code (houseIndex * size) + position}.
+     */
+    private final int[] rowCells;
+    private final int[] columnCells;
+    private final int[] nonetCells;
+
+    /**
+     * Number of peers of each cell.
+     */
+    private final int peerCount;
+
+    /**
+     * Cell indices of the peers of every cell, indexed by {@code (cellIndex * peerCount) + position}.
+     */
+    private final int[] peers;
+
+    /**
+     * Builds the tables for the specified size. The size must already be validated.
+     * @param size size of the grid.
+     */
+    private Topology(int size) {
+        this.size = size;
+        this.nonetSize = (int)Math.sqrt(size);
+        final int cellCount = size * size;
+        this.rows = new int[cellCount];
+        this.columns = new int[cellCount];
+        this.nonets = new int[cellCount];
+        this.rowCells = new int[cellCount];
+        this.columnCells = new int[cellCount];
+        this.nonetCells = new int[cellCount];
+        for(int cell = 0; cell < cellCount; cell++) {
+            final int row = cell / size;
+            final int column = cell % size;
+            final int nonet = (nonetSize * (row / nonetSize)) + (column / nonetSize);
+            final int nonetPosition = (nonetSize * (row % nonetSize)) + (column % nonetSize);
+            rows[cell] = row;
+            columns[cell] = column;
+            nonets[cell] = nonet;
+            rowCells[(row * size) + column] = cell;
+            columnCells[(column * size) + row] = cell;
+            nonetCells[(nonet * size) + nonetPosition] = cell;
+        }
+
+        this.peerCount = (3 * (size - 1)) - (2 * (nonetSize - 1));
+        this.peers = new int[cellCount * peerCount];
+        final boolean[] marked = new boolean[cellCount];
+        for(int cell = 0; cell < cellCount; cell++) {
+            int position = cell * peerCount;
+            for(int i = 0; i < size; i++) {
+                position = addPeer(cell, rowCells[(rows[cell] * size) + i], marked, position);
+                position = addPeer(cell, columnCells[(columns[cell] * size) + i], marked, position);
+                position = addPeer(cell, nonetCells[(nonets[cell] * size) + i], marked, position);
+            }
+            for(int i = cell * peerCount; i < position; i++) {
+                marked[peers[i]] = false;
+            }
+        }
+    }
+
+    /**
+     * Adds a peer to the peers of a cell unless it is the cell itself or has already been added.
+     * @param cell index of the cell.
+     * @param peer index of the candidate peer.
+     * @param marked flags of the peers added so far.
+     * @param position next free position in the peers table.
+     * @return next free position in the peers table after adding the peer.
+     */
+    private int addPeer(int cell, int peer, boolean[] marked, int position) {
+        if(peer == cell || marked[peer]) {
+            return position;
+        }
+        marked[peer] = true;
+        peers[position] = peer;
+        return position + 1;
+    }
+
+    /**
+     * Gets the topology of grids of the specified size. The topology is built on the first request
+     * for the size and the same instance is returned afterwards.
+     * @param size size of the grid.
+     * @return topology of the size.
+     * @throws InvalidSizeException thrown if size is not a perfect nonet positive integer or is greater than {@link Validator#MAX_SIZE}.
+     */
+    public static Topology of(int size) throws InvalidSizeException {
+        Validator.validateSize(size);
+        return get(size);
+    }
+
+    /**
+     * Gets the topology of grids of the specified size without validating the size.
+     * @param size a valid size of the grid.
+     * @return topology of the size.
+     */
+    static Topology get(int size) {
+        Topology topology = CACHE.get(size);
+        if(topology == null) {
+            CACHE.compareAndSet(size, null, new Topology(size));
+            topology = CACHE.get(size);
+        }
+        return topology;
+    }
+
+    /**
+     * @return size of the grid.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return size of each row of a nonet.
+     */
+    public int getNonetSize() {
+        return nonetSize;
+    }
+
+    /**
+     * @return number of cells in the grid.
+     */
+    public int getCellCount() {
+        return rows.length;
+    }
+
+    /**
+     * Gets the index of the cell specified by the coordinates.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @return index of the cell.
+     */
+    public int getIndex(int row, int column) {
+        return (row * size) + column;
+    }
+
+    /**
+     * @param cell index of the cell.
+     * @return row coordinate of the cell.
+     */
+    public int getRow(int cell) {
+        return rows[cell];
+    }
+
+    /**
+     * @param cell index of the cell.
+     * @return column coordinate of the cell.
+     */
+    public int getColumn(int cell) {
+        return columns[cell];
+    }
+
+    /**
+     * @param cell index of the cell.
+     * @return index of the nonet which contains the cell.
+     */
+    public int getNonet(int cell) {
+        return nonets[cell];
+    }
+
+    /**
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @return index of the nonet which contains the cell.
+     */
+    public int getNonet(int row, int column) {
+        return nonets[(row * size) + column];
+    }
+
+    /**
+     * Gets the index of the house of the specified type which contains the cell.
+     * @param houseType type of the house.
+     * @param cell index of the cell.
+     * @return index of the house.
+     */
+    public int getHouse(HouseType houseType, int cell) {
+        switch (houseType) {
+            case ROW:
+                return rows[cell];
+            case COLUMN:
+                return columns[cell];
+            default:
+                return nonets[cell];
+        }
+    }
+
+    /**
+     * Gets the index of a cell of a house. The cells of a row are ordered left to right, the cells of a
+     * column top to bottom and the cells of a nonet left to right and top to bottom.
+     * @param houseType type of the house.
+     * @param house index of the house.
+     * @param position position of the cell in the house, in the range 0 to size (exclusively).
+     * @return index of the cell.
+     */
+    public int getHouseCell(HouseType houseType, int house, int position) {
+        switch (houseType) {
+            case ROW:
+                return rowCells[(house * size) + position];
+            case COLUMN:
+                return columnCells[(house * size) + position];
+            default:
+                return nonetCells[(house * size) + position];
+        }
+    }
+
+    /**
+     * @return number of peers of every cell.
+     */
+    public int getPeerCount() {
+        return peerCount;
+    }
+
+    /**
+     * Gets a peer of a cell, that is, another cell which shares a house with the cell.
+     * @param cell index of the cell.
+     * @param position position of the peer, in the range 0 to peer count (exclusively).
+     * @return index of the peer.
+     */
+    public int getPeer(int cell, int position) {
+        return peers[(cell * peerCount) + position];
+    }
+
+    /**
+     * Checks if two cells share a house.
+     * @param cell index of the first cell.
+     * @param otherCell index of the second cell.
+     * @return true if the cells share a house, including when both are the same cell, or false otherwise.
+     */
+    public boolean areRelated(int cell, int otherCell) {
+        return rows[cell] == rows[otherCell] || columns[cell] == columns[otherCell] || nonets[cell] == nonets[otherCell];
+    }
+}
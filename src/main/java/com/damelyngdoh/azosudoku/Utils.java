@@ -52,8 +52,7 @@ public final class Utils {
         Validator.validateGrid(grid);
         Validator.validateIndex(grid, row, HouseType.ROW);
         Validator.validateIndex(grid, column, HouseType.COLUMN);
-        final int rootSize = (int)Math.sqrt(grid.getSize());
-        return (rootSize * (row / rootSize)) + (column / rootSize);
+        return Topology.get(grid.getSize()).getNonet(row, column);
     }
 
     /**
@@ -64,7 +63,7 @@ public final class Utils {
      */
     public static int getNonetSize(Grid grid) {
         Validator.validateGrid(grid);
-        return (int)Math.sqrt(grid.getSize());
+        return Topology.get(grid.getSize()).getNonetSize();
     }
 
     /**
@@ -78,6 +77,37 @@ public final class Utils {
         return IntStream.rangeClosed(1, size).boxed().collect(Collectors.toSet());
     }
 
+    /**
+     * Converts a bitmask of values to a set of values. The bit {@code value - 1} of the 
+     * mask is set for every value contained in the set.
+     * @param mask the bitmask of values.
+     * @return mutable set of the values whose bits are set in the mask.
+     */
+    public static Set<Integer> getValuesFromMask(long mask) {
+        final Set<Integer> values = new HashSet<>(Long.bitCount(mask) * 2);
+        for(long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            values.add(Long.numberOfTrailingZeros(remaining) + 1);
+        }
+        return values;
+    }
+
+    /**
+     * Gets a random value from a bitmask of values. Uses #ThreadLocalRandom.
+     * @param mask the bitmask of values, the bit {@code value - 1} being set for every value.
+     * @return random value whose bit is set in the mask.
+     * @throws IllegalArgumentException thrown if mask argument is 0.
+     */
+    public static int getRandomValueFromMask(long mask) {
+        if(mask == 0) {
+            throw new IllegalArgumentException("Empty mask passed as argument.");
+        }
+        long remaining = mask;
+        for(int skipped = ThreadLocalRandom.current().nextInt(Long.bitCount(mask)); skipped > 0; skipped--) {
+            remaining &= remaining - 1;
+        }
+        return Long.numberOfTrailingZeros(remaining) + 1;
+    }
+
     /**
      * Gets a random element from the collection. Uses #ThreadLocalRandom.
      * @param collection Collection to pick the element from.
@@ -133,7 +163,8 @@ public final class Utils {
      * Initializes a grid from the two-dimensional array. 
      * Each cell of the array represents a cell in the grid 
      * and the value in the cell will be populated into the grid cell. 
-     * If an array cell contains 0, then an empty cell will be initialized.
+     * If an array cell contains 0, then an empty cell will be initialized. 
+     * Same as {@link Grid#of(int[][])}.
      * @param matrix the two-dimensional array.
      * @return a grid with an size equal to the size of the matrix.
      * @throws InvalidSizeException thrown when the size of the input matrix is not a perfect nonet or if the matrix is not nonet.
@@ -141,15 +172,6 @@ public final class Utils {
      * @throws DisallowedValueException thrown when a value was set for a cell when it was not permissible. Inidicates that the input matrix is invalid and cannot form a Sudoku.
      */
     public static Grid initializeGrid(int[][] matrix) throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
-        Validator.validateMatrix(matrix);
-        final int size = matrix.length;
-        Grid grid = new Grid(size);
-        for(int row = 0, column = 0; row < size; row++) {
-            for(column = 0; column < size; column++) {
-                if(matrix[row][column] != 0)
-                    grid.setValue(row, column, matrix[row][column]);
-            }
-        }
-        return grid;
+        return Grid.of(matrix);
     }
 }
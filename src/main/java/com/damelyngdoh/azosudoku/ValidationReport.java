@@ -0,0 +1,146 @@
+package com.damelyngdoh.azosudoku;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of the validation of a {@link Grid}, listing the conflicting values found in the houses of
+ * the grid and the invalid empty cells, that is, the empty cells which have no permissible value.
+ * A report is created with {@link Grid#validate()}.
+ *
+ * @author Dame Lyngdoh
+ */
+public final class ValidationReport {
+
+    /**
+     * A value which occurs more than once in a house.
+     */
+    public static final class Conflict {
+
+        private static final String CONFLICT_STRING = "[Conflict houseType=%s; houseIndex=%d; value=%d; cells=%s]";
+
+        /**
+         * Type of the house containing the conflicting value.
+         */
+        private final HouseType houseType;
+
+        /**
+         * Index of the house containing the conflicting value.
+         */
+        private final int houseIndex;
+
+        /**
+         * The conflicting value.
+         */
+        private final int value;
+
+        /**
+         * Cells of the house containing the conflicting value.
+         */
+        private final List<Cell> cells;
+
+        /**
+         * Constructs a conflict. Only invoked by the grid and hence the arguments are not validated.
+         * @param houseType type of the house.
+         * @param houseIndex index of the house.
+         * @param value the conflicting value.
+         * @param cells cells of the house containing the value.
+         */
+        Conflict(HouseType houseType, int houseIndex, int value, List<Cell> cells) {
+            this.houseType = houseType;
+            this.houseIndex = houseIndex;
+            this.value = value;
+            this.cells = Collections.unmodifiableList(cells);
+        }
+
+        /**
+         * @return type of the house containing the conflicting value.
+         */
+        public HouseType getHouseType() {
+            return houseType;
+        }
+
+        /**
+         * @return index of the house containing the conflicting value.
+         */
+        public int getHouseIndex() {
+            return houseIndex;
+        }
+
+        /**
+         * @return the conflicting value.
+         */
+        public int getValue() {
+            return value;
+        }
+
+        /**
+         * @return unmodifiable list of the cells of the house containing the conflicting value, in the order of the house.
+         */
+        public List<Cell> getCells() {
+            return cells;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(CONFLICT_STRING, houseType, houseIndex, value, cells);
+        }
+    }
+
+    /**
+     * Conflicts found in the grid.
+     */
+    private final List<Conflict> conflicts;
+
+    /**
+     * Empty cells of the grid which have no permissible value.
+     */
+    private final List<Cell> invalidEmptyCells;
+
+    /**
+     * Constructs a report. Only invoked by the grid and hence the arguments are not validated.
+     * @param conflicts conflicts found in the grid.
+     * @param invalidEmptyCells invalid empty cells found in the grid.
+     */
+    ValidationReport(List<Conflict> conflicts, List<Cell> invalidEmptyCells) {
+        this.conflicts = Collections.unmodifiableList(conflicts);
+        this.invalidEmptyCells = Collections.unmodifiableList(invalidEmptyCells);
+    }
+
+    /**
+     * @return true if the grid has neither conflicting values nor invalid empty cells or false otherwise.
+     */
+    public boolean isValid() {
+        return conflicts.isEmpty() && invalidEmptyCells.isEmpty();
+    }
+
+    /**
+     * @return true if a value occurs more than once in a house of the grid or false otherwise.
+     */
+    public boolean hasConflicts() {
+        return !conflicts.isEmpty();
+    }
+
+    /**
+     * @return true if the grid has an empty cell with no permissible value or false otherwise.
+     */
+    public boolean hasInvalidEmptyCells() {
+        return !invalidEmptyCells.isEmpty();
+    }
+
+    /**
+     * Gets the conflicts of the grid, ordered by house type (rows, columns and then nonets), house index and value.
+     * @return unmodifiable list of conflicts.
+     */
+    public List<Conflict> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Gets the invalid empty cells of the grid, ordered row after row.
+     * @return unmodifiable list of invalid empty cells.
+     */
+    public List<Cell> getInvalidEmptyCells() {
+        return invalidEmptyCells;
+    }
+}
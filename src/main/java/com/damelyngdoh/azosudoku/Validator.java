@@ -14,12 +14,18 @@ import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
 public class Validator {
 
     /**
-     * Validate size of Sudoku. Size must be a positive integer and a perfect nonet.
+     * Largest supported grid size. The values present in a house are tracked as bits of a {@code long}, 
+     * hence a grid cannot have more than 64 values.
+     */
+    public static final int MAX_SIZE = Long.SIZE;
+
+    /**
+     * Validate size of Sudoku. Size must be a positive integer, a perfect nonet and not greater than {@link #MAX_SIZE}.
      * @param size size value to validate.
-     * @throws InvalidSizeException thrown when size is not a positive integer and a perfect nonet.
+     * @throws InvalidSizeException thrown when size is not a positive integer and a perfect nonet or is greater than {@link #MAX_SIZE}.
      */
     public static void validateSize(int size) throws InvalidSizeException {
-        if(size <= 0) {
+        if(size <= 0 || size > MAX_SIZE) {
             throw new InvalidSizeException(size);
         }
         double realSqrt = Math.sqrt(size);
@@ -53,7 +59,7 @@ public class Validator {
     private static void validateValues(int[] row, int size) throws ValueOutOfBoundsException {
         for(int column = 0; column < size; column++) {
             if(row[column] < 0 || row[column] > size) {
-                throw new ValueOutOfBoundsException(row[column], row.length);
+                throw new ValueOutOfBoundsException(row[column], row.length, false);
             }
         }
     }
@@ -72,6 +78,20 @@ public class Validator {
      * @throws ValueOutOfBoundsException thrown if any of the value in the matrix is not in the range of 0 to size (inclusively)
      */
     public static void validateMatrix(int[][] matrix) throws InvalidSizeException, ValueOutOfBoundsException {
+        validateMatrixShape(matrix);
+        for(int row = 0; row < matrix.length; row++) {
+            validateValues(matrix[row], matrix.length);
+        }
+    }
+
+    /**
+     * Validates if the given matrix has the shape of a sudoku, that is, the first two conditions of 
+     * {@link #validateMatrix(int[][])}, without validating the values of the matrix.
+     * @param matrix as two-dimensional int array.
+     * @throws NullPointerException thrown if matrix argument is null or if any one of the rows is null.
+     * @throws InvalidSizeException thrown if the row count or column count of any of the rows is not a perfect nonet.
+     */
+    public static void validateMatrixShape(int[][] matrix) throws InvalidSizeException {
         if(matrix == null) {
             throw new NullPointerException("Null two-dimensional array passed.");
         }
@@ -79,7 +99,6 @@ public class Validator {
         validateSize(size);
         for(int row = 0; row < size; row++) {
             validateRow(matrix[row], size);
-            validateValues(matrix[row], size);
         }
     }
 
@@ -122,7 +141,7 @@ public class Validator {
     public static void validateValue(Grid grid, int value) throws ValueOutOfBoundsException {
         validateGrid(grid);
         if(value <= 0 || value > grid.getSize()) {
-            throw new ValueOutOfBoundsException(value, grid.getSize());
+            throw new ValueOutOfBoundsException(value, grid.getSize(), false);
         }
     }
 
@@ -21,4 +21,17 @@ public class DisallowedValueException extends Exception {
     public DisallowedValueException(int row, int column, int value) {
         super(String.format(MESSAGE, value, row, column));
     }
+
+    /**
+     * Constructs a new DisallowedValueException object, optionally without capturing the stack trace. 
+     * The library throws stackless instances from its validation, where the message identifies the 
+     * cell and value and capturing the stack trace would dominate the cost of a rejected value.
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     * @param value the disallowed value.
+     * @param writableStackTrace whether or not the stack trace should be captured.
+     */
+    public DisallowedValueException(int row, int column, int value, boolean writableStackTrace) {
+        super(String.format(MESSAGE, value, row, column), null, false, writableStackTrace);
+    }
 }
@@ -5,13 +5,14 @@ package com.damelyngdoh.azosudoku.exceptions;
  * <ul>
  * <li>perfect nonet<li>
  * <li>positive integer</li>
+ * <li>not greater than 64</li>
  * </ul>
  * 
  * @author Dame Lyngdoh
  */
 public class InvalidSizeException extends Exception {
     
-    private static final String MESSAGE = "Invalid size %d. Must be a perfect nonet integer.";
+    private static final String MESSAGE = "Invalid size %d. Must be a perfect nonet integer not greater than 64.";
 
     /**
      * Constructs a new InvalidSizeException.
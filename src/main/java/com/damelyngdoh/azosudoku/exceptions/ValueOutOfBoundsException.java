@@ -28,4 +28,16 @@ public class ValueOutOfBoundsException extends Exception {
     public ValueOutOfBoundsException(int value, int gridSize, Throwable throwable) {
         super(String.format(MESSAGE, value, gridSize), throwable);
     }
+
+    /**
+     * Constructs a new ValueOutOfBoundsException object, optionally without capturing the stack trace. 
+     * The library throws stackless instances from its validation, where the message identifies the 
+     * invalid value.
+     * @param value the invalid value.
+     * @param gridSize the size of the grid.
+     * @param writableStackTrace whether or not the stack trace should be captured.
+     */
+    public ValueOutOfBoundsException(int value, int gridSize, boolean writableStackTrace) {
+        super(String.format(MESSAGE, value, gridSize), null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,91 @@
+package com.damelyngdoh.azosudoku.generators;
+
+import java.util.concurrent.CancellationException;
+
+import com.damelyngdoh.azosudoku.Cell;
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.Utils;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+
+/**
+ * Utilities shared by the generators which populate the grid cell after cell by trial and error.
+ * 
+ * @author Dame Lyngdoh
+ */
+final class GeneratorUtils {
+
+    /**
+     * Mask of the number of values set before polling the interrupt flag, which is polled once every 1024 values.
+     */
+    private static final long INTERRUPT_CHECK_MASK = 1024 - 1;
+
+    private GeneratorUtils() {}
+
+    /**
+     * Populates the empty cells which are not fixed, from the first cell to the last cell of the grid 
+     * row after row, with a random permissible value. When a cell has no permissible value left, the 
+     * search backtracks to the previous cell and tries another of its values. The search runs on 
+     * preallocated stacks of the candidates left to try and of the trail checkpoints of every cell, 
+     * so the depth of the search is not bound by the stack of the thread. The values set by a failed 
+     * attempt are reverted through the trail of the grid. The interrupt flag of the thread is polled 
+     * periodically, and the cells populated so far are reverted when it is set.
+     * @param grid the grid context.
+     * @param firstCell index of the cell from which the grid is populated, {@code (row * size) + column}.
+     * @return true if all the cells could be populated or false otherwise.
+     * @throws CancellationException thrown if the thread is interrupted, in which case the interrupt flag of the thread stays set.
+     */
+    static boolean populate(Grid grid, int firstCell) {
+        final int size = grid.getSize();
+        final int cellCount = size * size;
+        final Cell[] cells = new Cell[Math.max(cellCount - firstCell, 0)];
+        int count = 0;
+        for(int index = firstCell; index < cellCount; index++) {
+            final Cell cell = grid.getCell(index / size, index % size);
+            if(!cell.isFixed() && cell.isEmpty()) {
+                cells[count++] = cell;
+            }
+        }
+        if(count == 0) {
+            return true;
+        }
+        final long[] remaining = new long[count];
+        final int[] checkpoints = new int[count];
+        long setCount = 0;
+        int depth = 0;
+        remaining[depth] = grid.getCandidateMask(cells[depth].getRow(), cells[depth].getColumn());
+        checkpoints[depth] = grid.mark();
+        while(depth >= 0) {
+            if(remaining[depth] == 0) {
+                if(--depth >= 0) {
+                    grid.undoTo(checkpoints[depth]);
+                }
+                continue;
+            }
+            final int value = Utils.getRandomValueFromMask(remaining[depth]);
+            remaining[depth] &= ~(1L << (value - 1));
+            setValueForced(cells[depth], value);
+            if((++setCount & INTERRUPT_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                grid.undoTo(checkpoints[0]);
+                throw new CancellationException("Interrupted while populating the grid.");
+            }
+            if(++depth == count) {
+                return true;
+            }
+            remaining[depth] = grid.getCandidateMask(cells[depth].getRow(), cells[depth].getColumn());
+            checkpoints[depth] = grid.mark();
+        }
+        return false;
+    }
+
+    /**
+     * Sets a value to the cell and ignores the ValueOutOfBoundsException 
+     * exception as the value has been confirmed by the invoking method.
+     * @param cell the cell reference.
+     * @param value the value to fill the cell.
+     **/
+    private static void setValueForced(Cell cell, int value) {
+        try {
+            cell.setValue(value);
+        } catch (ValueOutOfBoundsException e) {}
+    }
+}
@@ -1,7 +1,10 @@
 package com.damelyngdoh.azosudoku.generators;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import com.damelyngdoh.azosudoku.AsyncTasks;
 import com.damelyngdoh.azosudoku.Cell;
 import com.damelyngdoh.azosudoku.Grid;
 import com.damelyngdoh.azosudoku.Utils;
@@ -83,4 +86,33 @@ public interface SudokuGenerator {
         randomNonEmptyCells.forEach(cell -> cell.removeValue());
         return grid;
     }
+
+    /**
+     * Generates a partially empty grid asynchronously on the default executor, see {@link #generateAsync(int, int, Executor)}.
+     * @param size the size of the grid.
+     * @param nonEmptyCellCount the number of non-empty cell count in the range 0 to total number of cells in the grid.
+     * @return future of the partially empty grid.
+     * @throws InvalidSizeException thrown if size is not a perfect nonet positive integer.
+     * @throws IllegalArgumentException thrown if nonEmptyCellCount is less than 0 or greater than the size of the grid.
+     */
+    default CompletableFuture<Grid> generateAsync(int size, int nonEmptyCellCount) throws InvalidSizeException {
+        return generateAsync(size, nonEmptyCellCount, AsyncTasks.defaultExecutor());
+    }
+
+    /**
+     * Generates a partially empty grid asynchronously on the executor, like {@link #generate(int, int)}. 
+     * The arguments are validated before returning. Cancelling the future interrupts the generation, 
+     * which the generators of this package stop at their next check of the interrupt flag.
+     * @param size the size of the grid.
+     * @param nonEmptyCellCount the number of non-empty cell count in the range 0 to total number of cells in the grid.
+     * @param executor executor running the generation.
+     * @return future of the partially empty grid.
+     * @throws InvalidSizeException thrown if size is not a perfect nonet positive integer.
+     * @throws IllegalArgumentException thrown if nonEmptyCellCount is less than 0 or greater than the size of the grid.
+     * @throws NullPointerException thrown if executor argument is null.
+     */
+    default CompletableFuture<Grid> generateAsync(int size, int nonEmptyCellCount, Executor executor) throws InvalidSizeException {
+        validateNonEmptyCellCount(size, nonEmptyCellCount);
+        return AsyncTasks.supply(() -> generate(size, nonEmptyCellCount), executor);
+    }
 }
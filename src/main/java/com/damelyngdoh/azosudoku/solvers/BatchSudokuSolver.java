@@ -0,0 +1,403 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.Topology;
+import com.damelyngdoh.azosudoku.Validator;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+
+/**
+ * Solver of batches of puzzles. The puzzles are read from the input on the calling thread, grouped into
+ * chunks and solved on an executor with the same bitboard search as {@link BitboardSudokuSolver}, every 
+ * thread reusing its own search workspace. The outcome of every puzzle is reported as a {@link SolveOutcome}
+ * rather than an exception, either in the order of the input or in the order the chunks complete. The
+ * solutions of grids are written into them on the calling thread, just before their outcomes are reported,
+ * so the grids are never modified by the threads of the executor. The
+ * outcomes are returned as a list or, for batches too large to hold in memory, passed to a sink as they
+ * are reported.
+ * 
+ * @author Dame Lyngdoh
+ */
+public class BatchSudokuSolver {
+
+    /**
+     * Number of puzzles solved by a single task of the executor.
+     */
+    private static final int CHUNK_SIZE = 64;
+
+    /**
+     * Maximum number of chunks submitted to the executor and not yet reported, bounding the number of
+     * puzzles read ahead of the solving and of outcomes waiting for an earlier chunk.
+     */
+    private static final int MAX_PENDING_CHUNKS = 256;
+
+    /**
+     * A puzzle of the batch.
+     */
+    private static final class Puzzle {
+
+        private final int index;
+        private final Topology topology;
+        private final int[] values;
+        private final Grid grid;
+
+        Puzzle(int index, Topology topology, int[] values, Grid grid) {
+            this.index = index;
+            this.topology = topology;
+            this.values = values;
+            this.grid = grid;
+        }
+    }
+
+    /**
+     * A chunk of the batch solved by a single task of the executor.
+     */
+    private static final class Chunk {
+
+        private final int number;
+        private final List<Puzzle> puzzles;
+        private final SolveOutcome[] outcomes;
+
+        Chunk(int number, List<Puzzle> puzzles, SolveOutcome[] outcomes) {
+            this.number = number;
+            this.puzzles = puzzles;
+            this.outcomes = outcomes;
+        }
+    }
+
+    private final Executor executor;
+    private final boolean ordered;
+    private final SolveLimits limits;
+
+    /**
+     * Constructs a new BatchSudokuSolver object solving on the common pool, reporting the outcomes 
+     * in the order of the input and without limits.
+     */
+    public BatchSudokuSolver() {
+        this(ForkJoinPool.commonPool(), true, SolveLimits.NONE);
+    }
+
+    /**
+     * Constructs a new BatchSudokuSolver object.
+     * @param executor executor solving the chunks of puzzles.
+     * @param ordered true to report the outcomes in the order of the input or false to report them as the chunks complete.
+     * @param limits limits applied to every puzzle, a timeout starting when the puzzle starts being solved.
+     * @throws NullPointerException thrown if executor or limits arguments are null.
+     */
+    public BatchSudokuSolver(Executor executor, boolean ordered, SolveLimits limits) {
+        if(executor == null) {
+            throw new NullPointerException("Null executor passed.");
+        }
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        this.executor = executor;
+        this.ordered = ordered;
+        this.limits = limits;
+    }
+
+    /**
+     * @return executor solving the chunks of puzzles.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return true if the outcomes are reported in the order of the input or false otherwise.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * @return limits applied to every puzzle.
+     */
+    public SolveLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Solves every grid of the stream in place. The solution of a grid is written into it on the calling 
+     * thread when its outcome is reported. Grids which are not solved are left unchanged. Every 
+     * outcome of the batch is held in memory until the call returns, see {@link #solveAll(Stream, Consumer)} 
+     * for batches too large for that.
+     * @param grids the grids to solve, every grid appearing once.
+     * @return the outcomes of the grids, their index being the position of the grid in the stream.
+     * @throws NullPointerException thrown if grids argument or any of the grids is null.
+     * @throws CancellationException thrown if the calling thread is interrupted while waiting for the outcomes, in which case the interrupt flag of the thread is set.
+     */
+    public List<SolveOutcome> solveAll(Stream<Grid> grids) {
+        final List<SolveOutcome> outcomes = new ArrayList<>();
+        solveAll(grids, outcomes::add);
+        return outcomes;
+    }
+
+    /**
+     * Solves every grid of the stream in place like {@link #solveAll(Stream)}, passing the outcome of 
+     * every grid to the sink on the calling thread as soon as it can be reported, so that the outcomes 
+     * are not held in memory. The solution of a grid is written into it before its outcome is passed to 
+     * the sink.
+     * @param grids the grids to solve, every grid appearing once.
+     * @param sink consumer of the outcomes, their index being the position of the grid in the stream.
+     * @throws NullPointerException thrown if grids or sink arguments or any of the grids is null.
+     * @throws CancellationException thrown if the calling thread is interrupted while waiting for the outcomes, in which case the interrupt flag of the thread is set.
+     */
+    public void solveAll(Stream<Grid> grids, Consumer<? super SolveOutcome> sink) {
+        if(grids == null) {
+            throw new NullPointerException("Null grids passed.");
+        }
+        if(sink == null) {
+            throw new NullPointerException("Null sink passed.");
+        }
+        final Iterator<Grid> iterator = grids.iterator();
+        solveAll(new Iterator<Puzzle>() {
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Puzzle next() {
+                final Grid grid = iterator.next();
+                Validator.validateGrid(grid);
+                return new Puzzle(index++, grid.getTopology(), grid.toFlatArray(), grid);
+            }
+        }, sink);
+    }
+
+    /**
+     * Solves every puzzle of the iterable. The arrays are copied when read and are not modified. Every 
+     * outcome of the batch, with its solution, is held in memory until the call returns, see 
+     * {@link #solveAll(Iterable, Consumer)} for batches too large for that.
+     * @param puzzles the values of the cells of every puzzle stored row after row, 0 denoting an empty cell.
+     * @return the outcomes of the puzzles, their index being the position of the puzzle in the iterable.
+     * @throws NullPointerException thrown if puzzles argument or any of the puzzles is null.
+     * @throws IllegalArgumentException thrown if the length of a puzzle is not the cell count of a valid size or a value is out of the range 0 to the size.
+     * @throws CancellationException thrown if the calling thread is interrupted while waiting for the outcomes, in which case the interrupt flag of the thread is set.
+     */
+    public List<SolveOutcome> solveAll(Iterable<int[]> puzzles) {
+        final List<SolveOutcome> outcomes = new ArrayList<>();
+        solveAll(puzzles, outcomes::add);
+        return outcomes;
+    }
+
+    /**
+     * Solves every puzzle of the iterable like {@link #solveAll(Iterable)}, passing the outcome of every 
+     * puzzle to the sink on the calling thread as soon as it can be reported. Only the puzzles read ahead 
+     * and the outcomes waiting for an earlier chunk are held in memory, so the batch can be of any length.
+     * @param puzzles the values of the cells of every puzzle stored row after row, 0 denoting an empty cell.
+     * @param sink consumer of the outcomes, their index being the position of the puzzle in the iterable.
+     * @throws NullPointerException thrown if puzzles or sink arguments or any of the puzzles is null.
+     * @throws IllegalArgumentException thrown if the length of a puzzle is not the cell count of a valid size or a value is out of the range 0 to the size.
+     * @throws CancellationException thrown if the calling thread is interrupted while waiting for the outcomes, in which case the interrupt flag of the thread is set.
+     */
+    public void solveAll(Iterable<int[]> puzzles, Consumer<? super SolveOutcome> sink) {
+        if(puzzles == null) {
+            throw new NullPointerException("Null puzzles passed.");
+        }
+        if(sink == null) {
+            throw new NullPointerException("Null sink passed.");
+        }
+        final Iterator<int[]> iterator = puzzles.iterator();
+        solveAll(new Iterator<Puzzle>() {
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Puzzle next() {
+                return toPuzzle(index++, iterator.next());
+            }
+        }, sink);
+    }
+
+    /**
+     * Validates the values of a puzzle.
+     * @param index position of the puzzle in the batch.
+     * @param values values of the cells of the puzzle stored row after row.
+     * @return the puzzle holding a copy of the values.
+     */
+    private static Puzzle toPuzzle(int index, int[] values) {
+        if(values == null) {
+            throw new NullPointerException(String.format("Null puzzle passed at index %d.", index));
+        }
+        final int size = (int)Math.round(Math.sqrt(values.length));
+        final Topology topology = size * size == values.length ? topology(size) : null;
+        if(topology == null) {
+            throw new IllegalArgumentException(String.format("Invalid puzzle length %d at index %d. Must be the cell count of a valid size.", values.length, index));
+        }
+        for(final int value : values) {
+            if(value < 0 || value > size) {
+                throw new IllegalArgumentException(String.format("Invalid value %d in puzzle at index %d. Must be in the range 0 to %d.", value, index, size));
+            }
+        }
+        return new Puzzle(index, topology, values.clone(), null);
+    }
+
+    /**
+     * @param size size of the grid.
+     * @return topology of the size or null if the size is invalid.
+     */
+    private static Topology topology(int size) {
+        try {
+            return Topology.of(size);
+        } catch (InvalidSizeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Solves the puzzles of the iterator in chunks on the executor, passing the outcomes to the sink. At 
+     * most {@link #MAX_PENDING_CHUNKS} chunks are submitted and not yet passed to the sink. When the call 
+     * ends abnormally, because the input, a chunk or the sink failed or the calling thread was interrupted, 
+     * the chunks still pending are cancelled.
+     * @param puzzles the puzzles to solve.
+     * @param sink consumer of the outcomes.
+     */
+    private void solveAll(Iterator<Puzzle> puzzles, Consumer<? super SolveOutcome> sink) {
+        final CompletionService<Chunk> completionService = new ExecutorCompletionService<>(executor);
+        final Set<Future<Chunk>> pending = new HashSet<>();
+        final Map<Integer,Chunk> completed = new HashMap<>();
+        int submitted = 0;
+        int reported = 0;
+        try {
+            List<Puzzle> chunk = new ArrayList<>(CHUNK_SIZE);
+            while(puzzles.hasNext()) {
+                chunk.add(puzzles.next());
+                if(chunk.size() == CHUNK_SIZE || !puzzles.hasNext()) {
+                    final int number = submitted;
+                    final List<Puzzle> submittedChunk = chunk;
+                    pending.add(completionService.submit(() -> solveChunk(number, submittedChunk)));
+                    submitted++;
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                    while(submitted - reported >= MAX_PENDING_CHUNKS) {
+                        reported += collect(completionService, pending, completed, reported, sink);
+                    }
+                }
+            }
+            while(reported < submitted) {
+                reported += collect(completionService, pending, completed, reported, sink);
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Waits for the next chunk to complete and passes to the sink the outcomes which can be reported. In 
+     * the order of the input, a chunk completed before an earlier one waits for it.
+     * @param completionService the completion service the chunks are submitted to.
+     * @param pending the futures of the chunks not yet completed.
+     * @param completed the outcomes of the completed chunks waiting for an earlier chunk, by chunk number.
+     * @param reported the number of chunks already passed to the sink.
+     * @param sink consumer of the outcomes.
+     * @return the number of chunks passed to the sink.
+     */
+    private int collect(CompletionService<Chunk> completionService, Set<Future<Chunk>> pending, Map<Integer,Chunk> completed, int reported, Consumer<? super SolveOutcome> sink) {
+        final Chunk chunk = take(completionService, pending);
+        if(!ordered) {
+            report(chunk, sink);
+            return 1;
+        }
+        completed.put(chunk.number, chunk);
+        int count = 0;
+        for(Chunk next = completed.remove(reported); next != null; next = completed.remove(reported + count)) {
+            report(next, sink);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes the solutions of the grids of a chunk into them and passes the outcomes of the chunk to the sink.
+     * @param chunk the completed chunk.
+     * @param sink consumer of the outcomes.
+     */
+    private static void report(Chunk chunk, Consumer<? super SolveOutcome> sink) {
+        for(int position = 0; position < chunk.outcomes.length; position++) {
+            final Puzzle puzzle = chunk.puzzles.get(position);
+            final SolveOutcome outcome = chunk.outcomes[position];
+            if(puzzle.grid != null && outcome.isSolved()) {
+                SolverUtils.writeSolution(puzzle.grid, puzzle.values, outcome.getSolution());
+            }
+            sink.accept(outcome);
+        }
+    }
+
+    /**
+     * Waits for the next chunk to complete.
+     * @param completionService the completion service the chunks are submitted to.
+     * @param pending the futures of the chunks not yet completed, from which the future of the chunk is removed.
+     * @return the completed chunk.
+     */
+    private static Chunk take(CompletionService<Chunk> completionService, Set<Future<Chunk>> pending) {
+        try {
+            final Future<Chunk> future = completionService.take();
+            pending.remove(future);
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the outcomes.");
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Solves the puzzles of a chunk on the current thread, without writing into their grids.
+     * @param number position of the chunk in the batch.
+     * @param puzzles the puzzles to solve.
+     * @return the chunk holding the outcomes of the puzzles.
+     */
+    private Chunk solveChunk(int number, List<Puzzle> puzzles) {
+        final SolveOutcome[] outcomes = new SolveOutcome[puzzles.size()];
+        for(int position = 0; position < outcomes.length; position++) {
+            outcomes[position] = solve(puzzles.get(position));
+        }
+        return new Chunk(number, puzzles, outcomes);
+    }
+
+    /**
+     * Solves a puzzle with the workspace of the current thread.
+     * @param puzzle the puzzle to solve.
+     * @return the outcome of the puzzle.
+     */
+    private SolveOutcome solve(Puzzle puzzle) {
+        final BitboardSearch search = BitboardSearch.workspace(puzzle.topology);
+        if(!search.load(puzzle.values)) {
+            return new SolveOutcome(puzzle.index, SolveStatus.UNSOLVABLE, null);
+        }
+        final SolveStatus status = search.solve(limits.start());
+        if(status != SolveStatus.SOLVED) {
+            return new SolveOutcome(puzzle.index, status, null);
+        }
+        return new SolveOutcome(puzzle.index, SolveStatus.SOLVED, search.getSolution().clone());
+    }
+}
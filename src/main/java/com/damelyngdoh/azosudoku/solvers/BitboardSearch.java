@@ -0,0 +1,345 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.util.function.BooleanSupplier;
+
+import com.damelyngdoh.azosudoku.Topology;
+
+/**
+ * Backtracking search over a bitboard representation of a grid. The values present in every row, column
+ * and nonet are kept as bitmasks, the bit {@code value - 1} being set when the value is present, hence the
+ * candidates of a cell are computed with a few bitwise operations. At every node the empty cell with the
+ * fewest candidates is chosen, and the search backtracks through fixed-size stacks, so that nothing is
+ * allocated once the workspace is created.
+ *
+ * A workspace is created for a size and can be reused for any number of grids of that size, but is not
+ * thread-safe. {@link #workspace(Topology)} returns the workspace of the current thread, so that solves
+ * running one after the other on a thread allocate it only once per size.
+ *
+ * @author Dame Lyngdoh
+ */
+final class BitboardSearch {
+
+    /**
+     * Mask of the node count checked before polling the stop condition, which is polled once every 1024 nodes.
+     */
+    private static final long STOP_CHECK_MASK = 1024 - 1;
+
+    /**
+     * Search workspace of every thread, replaced when a puzzle of another size is solved.
+     */
+    private static final ThreadLocal<BitboardSearch> WORKSPACES = new ThreadLocal<>();
+
+    private final Topology topology;
+    private final int size;
+    private final long allValuesMask;
+
+    /**
+     * Values of the cells stored row after row, 0 denoting an empty cell.
+     */
+    private final int[] values;
+
+    /**
+     * Bitmasks of the values present in each row, column and nonet.
+     */
+    private final long[] rowMasks;
+    private final long[] columnMasks;
+    private final long[] nonetMasks;
+
+    /**
+     * Indices of the cells empty when the grid was loaded. The cells at positions lower than the depth of
+     * the search are filled, in the order they were chosen.
+     */
+    private final int[] emptyCells;
+    private int emptyCount;
+
+    /**
+     * Candidates left to try and value bit placed at every depth of the search.
+     */
+    private final long[] remaining;
+    private final long[] placed;
+
+    /**
+     * Values of the cells of the first solution found.
+     */
+    private final int[] solution;
+
+    /**
+     * Number of values placed by the last search.
+     */
+    private long nodeCount;
+
+    /**
+     * Number of dead ends reached by the last search.
+     */
+    private long backtrackCount;
+
+    /**
+     * Maximum number of values placed at once by the last search.
+     */
+    private int maxDepth;
+
+    /**
+     * Flag indicating if the last search was stopped by the stop condition.
+     */
+    private boolean stopped;
+
+    /**
+     * Creates a workspace for grids of the size of the topology.
+     * @param topology topology of the grids to search.
+     */
+    BitboardSearch(Topology topology) {
+        this.topology = topology;
+        this.size = topology.getSize();
+        this.allValuesMask = size == Long.SIZE ? -1L : (1L << size) - 1;
+        final int cellCount = topology.getCellCount();
+        this.values = new int[cellCount];
+        this.rowMasks = new long[size];
+        this.columnMasks = new long[size];
+        this.nonetMasks = new long[size];
+        this.emptyCells = new int[cellCount];
+        this.remaining = new long[cellCount];
+        this.placed = new long[cellCount];
+        this.solution = new int[cellCount];
+    }
+
+    /**
+     * Gets the workspace of the current thread for the topology, creating it if the thread has none or
+     * has one for another topology. The workspace must not be used once the thread gets it again.
+     * @param topology topology of the grids to search.
+     * @return the workspace of the current thread.
+     */
+    static BitboardSearch workspace(Topology topology) {
+        BitboardSearch search = WORKSPACES.get();
+        if(search == null || search.topology != topology) {
+            search = new BitboardSearch(topology);
+            WORKSPACES.set(search);
+        }
+        return search;
+    }
+
+    /**
+     * @return topology of the grids the workspace is created for.
+     */
+    Topology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Loads the values of a grid into the workspace.
+     * @param givens values of the cells stored row after row, 0 denoting an empty cell, each in the range 0 to size.
+     * @return true if the values were loaded or false if a value is present twice in a house.
+     */
+    boolean load(int[] givens) {
+        for(int house = 0; house < size; house++) {
+            rowMasks[house] = 0;
+            columnMasks[house] = 0;
+            nonetMasks[house] = 0;
+        }
+        emptyCount = 0;
+        for(int cell = 0; cell < values.length; cell++) {
+            final int value = givens[cell];
+            values[cell] = value;
+            if(value == 0) {
+                emptyCells[emptyCount++] = cell;
+                continue;
+            }
+            final long bit = 1L << (value - 1);
+            final int row = topology.getRow(cell);
+            final int column = topology.getColumn(cell);
+            final int nonet = topology.getNonet(cell);
+            if(((rowMasks[row] | columnMasks[column] | nonetMasks[nonet]) & bit) != 0) {
+                return false;
+            }
+            rowMasks[row] |= bit;
+            columnMasks[column] |= bit;
+            nonetMasks[nonet] |= bit;
+        }
+        return true;
+    }
+
+    /**
+     * @param cell index of the cell.
+     * @return bitmask of the candidates of the cell.
+     */
+    private long candidates(int cell) {
+        return allValuesMask & ~(rowMasks[topology.getRow(cell)] | columnMasks[topology.getColumn(cell)] | nonetMasks[topology.getNonet(cell)]);
+    }
+
+    /**
+     * Toggles the bit of a value in the houses of a cell, placing the value if it was absent and removing it otherwise.
+     * @param cell index of the cell.
+     * @param bit bit of the value.
+     */
+    private void toggle(int cell, long bit) {
+        rowMasks[topology.getRow(cell)] ^= bit;
+        columnMasks[topology.getColumn(cell)] ^= bit;
+        nonetMasks[topology.getNonet(cell)] ^= bit;
+    }
+
+    /**
+     * Chooses the unfilled cell with the fewest candidates, moves it to the position of the depth and
+     * records its candidates as the candidates left to try at the depth.
+     * @param depth the depth of the search.
+     */
+    private void choose(int depth) {
+        int best = depth;
+        long bestCandidates = candidates(emptyCells[depth]);
+        int bestCount = Long.bitCount(bestCandidates);
+        for(int position = depth + 1; position < emptyCount && bestCount > 1; position++) {
+            final long cellCandidates = candidates(emptyCells[position]);
+            final int count = Long.bitCount(cellCandidates);
+            if(count < bestCount) {
+                best = position;
+                bestCandidates = cellCandidates;
+                bestCount = count;
+            }
+        }
+        final int cell = emptyCells[best];
+        emptyCells[best] = emptyCells[depth];
+        emptyCells[depth] = cell;
+        remaining[depth] = bestCandidates;
+    }
+
+    /**
+     * Searches the solutions of the loaded grid until the limit is reached or every solution has been
+     * found. The first solution found is kept, see {@link #getSolution()}. The values of the workspace are
+     * restored to the loaded values when the search ends.
+     * @param limit the number of solutions after which the search stops, at least 1.
+     * @return the number of solutions found, not greater than the limit.
+     */
+    int search(int limit) {
+        return search(limit, null);
+    }
+
+    /**
+     * Searches the solutions of the loaded grid like {@link #search(int)}, polling the stop condition 
+     * periodically and abandoning the search as soon as it is met.
+     * @param limit the number of solutions after which the search stops, at least 1.
+     * @param stopCondition condition which stops the search when met, or null to never stop.
+     * @return the number of solutions found before the search ended or was stopped.
+     */
+    int search(int limit, BooleanSupplier stopCondition) {
+        nodeCount = 0;
+        backtrackCount = 0;
+        maxDepth = 0;
+        stopped = false;
+        if(emptyCount == 0) {
+            System.arraycopy(values, 0, solution, 0, values.length);
+            return 1;
+        }
+        int solutionCount = 0;
+        int depth = 0;
+        choose(depth);
+        while(depth >= 0) {
+            if(remaining[depth] == 0) {
+                backtrackCount++;
+                if(--depth >= 0) {
+                    unplace(depth);
+                }
+                continue;
+            }
+            final long bit = remaining[depth] & -remaining[depth];
+            remaining[depth] ^= bit;
+            final int cell = emptyCells[depth];
+            placed[depth] = bit;
+            values[cell] = Long.numberOfTrailingZeros(bit) + 1;
+            toggle(cell, bit);
+            if((++nodeCount & STOP_CHECK_MASK) == 0 && stopCondition != null && stopCondition.getAsBoolean()) {
+                stopped = true;
+                while(depth >= 0) {
+                    unplace(depth--);
+                }
+                break;
+            }
+            if(depth + 1 < emptyCount) {
+                choose(++depth);
+                if(depth > maxDepth) {
+                    maxDepth = depth;
+                }
+                continue;
+            }
+            maxDepth = emptyCount;
+            if(++solutionCount == 1) {
+                System.arraycopy(values, 0, solution, 0, values.length);
+            }
+            unplace(depth);
+            if(solutionCount >= limit) {
+                while(--depth >= 0) {
+                    unplace(depth);
+                }
+            }
+        }
+        return solutionCount;
+    }
+
+    /**
+     * Searches the first solution of the loaded grid within a budget, checking the budget whenever 
+     * the stop condition is polled.
+     * @param budget budget of the solve.
+     * @return {@link SolveStatus#SOLVED} if a solution was found, {@link SolveStatus#UNSOLVABLE} if the grid has no solution or the status of the limit exceeded.
+     */
+    SolveStatus solve(SolveBudget budget) {
+        if(!budget.check(0, 0)) {
+            return budget.getStatus();
+        }
+        if(search(1, () -> !budget.check(nodeCount, backtrackCount)) > 0) {
+            return SolveStatus.SOLVED;
+        }
+        return stopped ? budget.getStatus() : SolveStatus.UNSOLVABLE;
+    }
+
+    /**
+     * Removes the value placed at the depth.
+     * @param depth the depth of the search.
+     */
+    private void unplace(int depth) {
+        final int cell = emptyCells[depth];
+        toggle(cell, placed[depth]);
+        values[cell] = 0;
+    }
+
+    /**
+     * @return values of the cells of the first solution found by the last search which found a solution.
+     */
+    int[] getSolution() {
+        return solution;
+    }
+
+    /**
+     * @return true if the last search was stopped by the stop condition or false otherwise.
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * @return number of values placed by the last search.
+     */
+    long getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @return number of dead ends reached by the last search.
+     */
+    long getBacktrackCount() {
+        return backtrackCount;
+    }
+
+    /**
+     * @return maximum number of values placed at once by the last search.
+     */
+    int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Adds the counts of the last search to the statistics.
+     * @param stats statistics of the solve, or null if the statistics are not recorded.
+     */
+    void addTo(SolveStats stats) {
+        if(stats != null) {
+            stats.addSearch(nodeCount, backtrackCount, maxDepth);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.GridSnapshot;
+import com.damelyngdoh.azosudoku.ReadableGrid;
+import com.damelyngdoh.azosudoku.Validator;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+
+/**
+ * Backtracking solver which copies the grid into primitive arrays and keeps the values present in 
+ * every house as bitmasks. Unlike {@link SortedSimpleSudokuSolver}, which orders the empty cells once, 
+ * the cell with the minimum remaining values is chosen again at every step of the search using bit 
+ * counts, and no object is allocated per step. Every thread reuses its own search workspace, so solves 
+ * running one after the other on a thread allocate it only once per size.
+ * 
+ * @author Dame Lyngdoh
+ */
+public class BitboardSudokuSolver implements SudokuSolver {
+
+    @Override
+    public void solve(Grid grid) throws InvalidSudokuException {
+        Validator.validateGrid(grid);
+        final int[] values = grid.toFlatArray();
+        final BitboardSearch search = BitboardSearch.workspace(grid.getTopology());
+        if(!search.load(values) || search.search(1) == 0) {
+            throw new InvalidSudokuException();
+        }
+        SolverUtils.writeSolution(grid, values, search.getSolution());
+    }
+
+    /**
+     * Solves the sudoku puzzle within limits with the same search as {@link #solve(Grid)}, checking 
+     * the limits while searching and recording the statistics of the search.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+        Validator.validateGrid(grid);
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        if(stats != null) {
+            stats.begin();
+        }
+        SolveStatus status = null;
+        try {
+            status = solveWithin(grid, limits, stats);
+            return status;
+        } finally {
+            if(stats != null) {
+                stats.end(status);
+            }
+        }
+    }
+
+    /**
+     * Searches a bitboard loaded from the values of the grid within the limits.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return the status of the solve.
+     */
+    private SolveStatus solveWithin(Grid grid, SolveLimits limits, SolveStats stats) {
+        final int[] values = grid.toFlatArray();
+        final BitboardSearch search = BitboardSearch.workspace(grid.getTopology());
+        SolveStatus status = SolveStatus.UNSOLVABLE;
+        if(search.load(values)) {
+            status = search.solve(limits.start());
+            search.addTo(stats);
+        }
+        if(status == SolveStatus.SOLVED) {
+            SolverUtils.writeSolution(grid, values, search.getSolution());
+        }
+        return status;
+    }
+
+    /**
+     * Solves the sudoku puzzle within limits without modifying the grid, searching on a bitboard loaded 
+     * straight from the values of the grid so that no {@link Grid} is created.
+     * @param grid the sudoku grid, left untouched.
+     * @param limits the limits of the solve.
+     * @return the result of the solve, whose solution is null unless the status is {@link SolveStatus#SOLVED}.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    @Override
+    public SolveResult solve(ReadableGrid grid, SolveLimits limits) {
+        if(grid == null) {
+            throw new NullPointerException("Null grid passed.");
+        }
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        final SolveStats stats = new SolveStats();
+        stats.begin();
+        final BitboardSearch search = BitboardSearch.workspace(grid.getTopology());
+        SolveStatus status = SolveStatus.UNSOLVABLE;
+        if(search.load(grid.toFlatArray())) {
+            status = search.solve(limits.start());
+            search.addTo(stats);
+        }
+        final GridSnapshot solution = status == SolveStatus.SOLVED ? grid.snapshot().withValues(search.getSolution()) : null;
+        return new SolveResult(stats.end(status), solution, stats);
+    }
+}
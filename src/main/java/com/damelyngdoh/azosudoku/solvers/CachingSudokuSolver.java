@@ -0,0 +1,440 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.GridSnapshot;
+import com.damelyngdoh.azosudoku.ReadableGrid;
+import com.damelyngdoh.azosudoku.Validator;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+
+/**
+ * Solver which caches the solutions found by another solver, so that a puzzle submitted again is
+ * answered without searching. The cache is keyed by the values of the cells of the puzzle, packed one
+ * byte per cell with a precomputed 64-bit hash, and holds a bounded number of solutions, evicting the
+ * least recently used one when full. Only solved puzzles are cached.
+ *
+ * With canonicalization, isomorphic puzzles share an entry: the puzzle is transformed by each of the
+ * 8 symmetries of the square (rotations, reflections and transposition), which map nonets to nonets,
+ * and its values are relabelled in the order of their first occurrence. The smallest of the 8 forms is
+ * the key. A cached solution is stored in the canonical form and mapped back to the puzzle through the
+ * inverse relabelling and the inverse symmetry. Puzzles isomorphic through other symmetries, such as
+ * swapping rows within a band, get their own entries.
+ *
+ * The solver is thread-safe if the solver it wraps is. Concurrent misses on the same puzzle each solve it.
+ *
+ * @author Dame Lyngdoh
+ */
+public class CachingSudokuSolver implements SudokuSolver {
+
+    /**
+     * Default maximum number of solutions held by the cache.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    /**
+     * Number of symmetries of the square.
+     */
+    private static final int SYMMETRY_COUNT = 8;
+
+    /**
+     * Cells mapped by every symmetry for every size, built on the first request for the size. The
+     * element {@code [symmetry][cell]} is the index of the cell of the puzzle moved to the cell of the
+     * transformed puzzle.
+     */
+    private static final AtomicReferenceArray<int[][]> SYMMETRIES = new AtomicReferenceArray<>(Validator.MAX_SIZE + 1);
+
+    /**
+     * Values of the cells of a puzzle packed one byte per cell, compared in full so that hash collisions
+     * never return the solution of another puzzle.
+     */
+    private static final class PuzzleKey {
+
+        private final byte[] values;
+        private final int hash;
+
+        PuzzleKey(byte[] values) {
+            this.values = values;
+            long hash = 0xcbf29ce484222325L;
+            for(final byte value : values) {
+                hash = (hash ^ value) * 0x100000001b3L;
+            }
+            this.hash = (int)(hash ^ (hash >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof PuzzleKey)) {
+                return false;
+            }
+            final PuzzleKey key = (PuzzleKey)o;
+            return hash == key.hash && Arrays.equals(values, key.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Key of a puzzle with the symmetry and relabelling which produced it.
+     */
+    private static final class CanonicalForm {
+
+        private final PuzzleKey key;
+
+        /**
+         * Cells mapped by the symmetry, or null for the identity.
+         */
+        private final int[] symmetry;
+
+        /**
+         * Label of every value and value of every label, indexed from 1, or null for the identity.
+         */
+        private final int[] labels;
+        private final int[] inverseLabels;
+
+        CanonicalForm(PuzzleKey key, int[] symmetry, int[] labels) {
+            this.key = key;
+            this.symmetry = symmetry;
+            this.labels = labels;
+            if(labels == null) {
+                this.inverseLabels = null;
+                return;
+            }
+            this.inverseLabels = new int[labels.length];
+            for(int value = 1; value < labels.length; value++) {
+                inverseLabels[labels[value]] = value;
+            }
+        }
+
+        /**
+         * Transforms a solution of the puzzle into the canonical form.
+         * @param solution values of the cells of the solution stored row after row.
+         * @return the packed values of the transformed solution.
+         */
+        byte[] toCanonical(int[] solution) {
+            final byte[] canonical = new byte[solution.length];
+            for(int cell = 0; cell < solution.length; cell++) {
+                canonical[cell] = (byte)(symmetry == null ? solution[cell] : labels[solution[symmetry[cell]]]);
+            }
+            return canonical;
+        }
+
+        /**
+         * Transforms a solution in the canonical form back into a solution of the puzzle.
+         * @param canonical the packed values of the transformed solution.
+         * @return values of the cells of the solution stored row after row.
+         */
+        int[] fromCanonical(byte[] canonical) {
+            final int[] solution = new int[canonical.length];
+            for(int cell = 0; cell < canonical.length; cell++) {
+                if(symmetry == null) {
+                    solution[cell] = canonical[cell];
+                } else {
+                    solution[symmetry[cell]] = inverseLabels[canonical[cell]];
+                }
+            }
+            return solution;
+        }
+    }
+
+    private final SudokuSolver delegate;
+    private final int maxEntries;
+    private final boolean canonicalize;
+
+    /**
+     * Solutions in the canonical form of their puzzle, in access order. Guarded by itself.
+     */
+    private final LinkedHashMap<PuzzleKey,byte[]> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new CachingSudokuSolver object holding the default maximum number of solutions, with canonicalization.
+     * @param delegate solver solving the puzzles missing from the cache.
+     * @throws NullPointerException thrown if delegate argument is null.
+     */
+    public CachingSudokuSolver(SudokuSolver delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES, true);
+    }
+
+    /**
+     * Constructs a new CachingSudokuSolver object.
+     * @param delegate solver solving the puzzles missing from the cache.
+     * @param maxEntries maximum number of solutions held by the cache.
+     * @param canonicalize true to share an entry between isomorphic puzzles or false to key on the puzzle as is.
+     * @throws NullPointerException thrown if delegate argument is null.
+     * @throws IllegalArgumentException thrown if maxEntries is less than 1.
+     */
+    public CachingSudokuSolver(SudokuSolver delegate, int maxEntries, boolean canonicalize) {
+        if(delegate == null) {
+            throw new NullPointerException("Null delegate solver passed.");
+        }
+        if(maxEntries < 1) {
+            throw new IllegalArgumentException(String.format("Invalid maximum number of entries %d. Must be a positive integer.", maxEntries));
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.canonicalize = canonicalize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PuzzleKey,byte[]> eldest) {
+                if(size() > CachingSudokuSolver.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return solver solving the puzzles missing from the cache.
+     */
+    public SudokuSolver getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return maximum number of solutions held by the cache.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return true if isomorphic puzzles share an entry or false otherwise.
+     */
+    public boolean isCanonicalizing() {
+        return canonicalize;
+    }
+
+    /**
+     * @return number of solutions held by the cache.
+     */
+    public int size() {
+        synchronized(cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * @return number of solves answered from the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of solves passed on to the delegate solver.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of solutions evicted to make room for others.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return ratio of the solves answered from the cache, or 0 if nothing was solved.
+     */
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double)hitCount / total;
+    }
+
+    /**
+     * Removes every solution from the cache and resets the hit, miss and eviction counts to 0.
+     */
+    public void clear() {
+        synchronized(cache) {
+            cache.clear();
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public void solve(Grid grid) throws InvalidSudokuException {
+        Validator.validateGrid(grid);
+        final int[] givens = grid.toFlatArray();
+        final CanonicalForm form = canonicalForm(grid.getSize(), givens);
+        final int[] solution = lookup(form);
+        if(solution != null) {
+            SolverUtils.writeSolution(grid, givens, solution);
+            return;
+        }
+        delegate.solve(grid);
+        store(form, grid.toFlatArray());
+    }
+
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+        Validator.validateGrid(grid);
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        final int[] givens = grid.toFlatArray();
+        final CanonicalForm form = canonicalForm(grid.getSize(), givens);
+        final int[] solution = lookup(form);
+        if(solution != null) {
+            if(stats != null) {
+                stats.begin();
+            }
+            SolveStatus status = null;
+            try {
+                SolverUtils.writeSolution(grid, givens, solution);
+                status = SolveStatus.SOLVED;
+                return status;
+            } finally {
+                if(stats != null) {
+                    stats.end(status);
+                }
+            }
+        }
+        final SolveStatus status = delegate.solve(grid, limits, stats);
+        if(status == SolveStatus.SOLVED) {
+            store(form, grid.toFlatArray());
+        }
+        return status;
+    }
+
+    @Override
+    public SolveResult solve(ReadableGrid grid, SolveLimits limits) {
+        if(grid == null) {
+            throw new NullPointerException("Null grid passed.");
+        }
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        final GridSnapshot snapshot = grid.snapshot();
+        final CanonicalForm form = canonicalForm(snapshot.getSize(), snapshot.toFlatArray());
+        final int[] solution = lookup(form);
+        if(solution != null) {
+            final SolveStats stats = new SolveStats();
+            stats.begin();
+            return new SolveResult(stats.end(SolveStatus.SOLVED), snapshot.withValues(solution), stats);
+        }
+        final SolveResult result = delegate.solve(snapshot, limits);
+        if(result.isSolved()) {
+            store(form, result.getSolution().toFlatArray());
+        }
+        return result;
+    }
+
+    /**
+     * Looks up the solution of a puzzle, counting a hit or a miss.
+     * @param form canonical form of the puzzle.
+     * @return values of the cells of the solution of the puzzle, or null if the puzzle is not cached.
+     */
+    private int[] lookup(CanonicalForm form) {
+        final byte[] canonical;
+        synchronized(cache) {
+            canonical = cache.get(form.key);
+        }
+        if(canonical == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return form.fromCanonical(canonical);
+    }
+
+    /**
+     * Caches the solution of a puzzle.
+     * @param form canonical form of the puzzle.
+     * @param solution values of the cells of the solution of the puzzle.
+     */
+    private void store(CanonicalForm form, int[] solution) {
+        final byte[] canonical = form.toCanonical(solution);
+        synchronized(cache) {
+            cache.put(form.key, canonical);
+        }
+    }
+
+    /**
+     * Computes the key of a puzzle, canonicalized if the solver canonicalizes.
+     * @param size size of the grid.
+     * @param values values of the cells stored row after row, 0 denoting an empty cell.
+     * @return the canonical form of the puzzle.
+     */
+    private CanonicalForm canonicalForm(int size, int[] values) {
+        if(!canonicalize) {
+            final byte[] packed = new byte[values.length];
+            for(int cell = 0; cell < values.length; cell++) {
+                packed[cell] = (byte)values[cell];
+            }
+            return new CanonicalForm(new PuzzleKey(packed), null, null);
+        }
+        final int[][] symmetries = symmetries(size);
+        final byte[] candidate = new byte[values.length];
+        final int[] labels = new int[size + 1];
+        byte[] best = null;
+        int[] bestSymmetry = null;
+        int[] bestLabels = null;
+        for(final int[] symmetry : symmetries) {
+            Arrays.fill(labels, 0);
+            int nextLabel = 1;
+            for(int cell = 0; cell < values.length; cell++) {
+                final int value = values[symmetry[cell]];
+                if(value != 0 && labels[value] == 0) {
+                    labels[value] = nextLabel++;
+                }
+                candidate[cell] = (byte)(value == 0 ? 0 : labels[value]);
+            }
+            if(best == null || Arrays.compare(candidate, best) < 0) {
+                for(int value = 1; value <= size; value++) {
+                    if(labels[value] == 0) {
+                        labels[value] = nextLabel++;
+                    }
+                }
+                best = candidate.clone();
+                bestSymmetry = symmetry;
+                bestLabels = labels.clone();
+            }
+        }
+        return new CanonicalForm(new PuzzleKey(best), bestSymmetry, bestLabels);
+    }
+
+    /**
+     * Gets the cells mapped by the symmetries of the square for a size. Every symmetry is a combination
+     * of transposition, reversal of the rows and reversal of the columns.
+     * @param size size of the grid.
+     * @return cells mapped by every symmetry.
+     */
+    private static int[][] symmetries(int size) {
+        int[][] symmetries = SYMMETRIES.get(size);
+        if(symmetries == null) {
+            symmetries = new int[SYMMETRY_COUNT][size * size];
+            for(int symmetry = 0; symmetry < SYMMETRY_COUNT; symmetry++) {
+                for(int row = 0; row < size; row++) {
+                    for(int column = 0; column < size; column++) {
+                        final int sourceRow = (symmetry & 2) != 0 ? size - 1 - row : row;
+                        final int sourceColumn = (symmetry & 4) != 0 ? size - 1 - column : column;
+                        symmetries[symmetry][(row * size) + column] = (symmetry & 1) != 0 ? (sourceColumn * size) + sourceRow : (sourceRow * size) + sourceColumn;
+                    }
+                }
+            }
+            SYMMETRIES.compareAndSet(size, null, symmetries);
+            symmetries = SYMMETRIES.get(size);
+        }
+        return symmetries;
+    }
+}
@@ -0,0 +1,246 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.HouseType;
+import com.damelyngdoh.azosudoku.SetValueStatus;
+import com.damelyngdoh.azosudoku.Topology;
+import com.damelyngdoh.azosudoku.Validator;
+
+/**
+ * Propagation engine which fills the cells of a grid whose value is forced, until no more cell is forced.
+ * Two rules are applied:
+ * <ul>
+ *  <li>naked single: an empty cell with a single permissible value is filled with the value.</li>
+ *  <li>hidden single: a value missing from a house which is permissible for a single cell of the house
+ *  fills the cell.</li>
+ * </ul>
+ * A contradiction is detected when an empty cell has no permissible value or a value missing from a house
+ * is not permissible for any cell of the house. The values are set through the grid, hence they are
+ * recorded in the trail of the grid when a checkpoint is marked and can be reverted with
+ * {@link Grid#undoTo(int)}. A propagator holds no state and can be shared.
+ *
+ * After the first pass over the grid, the rules are only applied where a value just placed can have
+ * forced another one: the peers of the cell, which lost a candidate, the houses of the cell, which lost
+ * an empty cell, and, for the value only, the other houses holding an empty peer of the cell, which lost
+ * a candidate cell for the value. Hence {@link #assign(Grid, int, int, int)}
+ * is cheap enough to be called at every node of a search.
+ *
+ * @author Dame Lyngdoh
+ */
+public class ConstraintPropagator {
+
+    private static final HouseType[] HOUSE_TYPES = HouseType.values();
+
+    /**
+     * Sets the value of a cell and propagates the consequences to a fixpoint. The grid is assumed to be
+     * propagated already, so only the consequences of the value set are propagated.
+     * @param grid the grid context.
+     * @param row the row coordinate of the cell.
+     * @param column the column coordinate of the cell.
+     * @param value the value to set.
+     * @return true if the value was set and no contradiction was found or false otherwise.
+     * @throws NullPointerException thrown if grid argument is null.
+     * @throws com.damelyngdoh.azosudoku.exceptions.GridIndexOutOfBoundsException thrown when row or column arguments are out of bounds of the grid.
+     */
+    public boolean assign(Grid grid, int row, int column, int value) {
+        Validator.validateGrid(grid);
+        if(grid.trySetValue(row, column, value) != SetValueStatus.OK) {
+            return false;
+        }
+        final Topology topology = grid.getTopology();
+        final int[] queue = new int[topology.getCellCount()];
+        queue[0] = topology.getIndex(row, column);
+        return propagateFrom(grid, queue, 1);
+    }
+
+    /**
+     * Sets the value of a cell and propagates the consequences to a fixpoint, using a queue owned by the
+     * caller so that a search assigning values repeatedly does not allocate.
+     * @param grid the grid context.
+     * @param cell index of the cell.
+     * @param value the value to set.
+     * @param queue queue of the cells filled, as long as the number of cells of the grid.
+     * @return true if the value was set and no contradiction was found or false otherwise.
+     */
+    boolean assign(Grid grid, int cell, int value, int[] queue) {
+        final int tail = place(grid, queue, 0, cell, 1L << (value - 1));
+        return tail > 0 && propagateFrom(grid, queue, tail);
+    }
+
+    /**
+     * Applies the naked single and hidden single rules to the grid until no more cell is forced or a
+     * contradiction is found. The cells filled before a contradiction is found are left filled.
+     * @param grid the grid context.
+     * @return true if no contradiction was found or false otherwise.
+     * @throws NullPointerException thrown if grid argument is null.
+     */
+    public boolean propagate(Grid grid) {
+        Validator.validateGrid(grid);
+        final Topology topology = grid.getTopology();
+        final int[] queue = new int[topology.getCellCount()];
+        int tail = 0;
+        for(int cell = 0; cell < topology.getCellCount(); cell++) {
+            if(grid.rawValueAt(cell) != 0) {
+                continue;
+            }
+            final long candidates = grid.candidateMaskAt(cell);
+            if(candidates == 0) {
+                return false;
+            }
+            if(Long.bitCount(candidates) == 1 && (tail = place(grid, queue, tail, cell, candidates)) < 0) {
+                return false;
+            }
+        }
+        final long allValues = allValues(topology.getSize());
+        for(final HouseType houseType : HOUSE_TYPES) {
+            for(int house = 0; house < topology.getSize(); house++) {
+                if((tail = applyHiddenSingles(grid, queue, tail, houseType, house, allValues)) < 0) {
+                    return false;
+                }
+            }
+        }
+        return propagateFrom(grid, queue, tail);
+    }
+
+    /**
+     * Applies the rules where the values of the cells in the queue can have forced other values, adding
+     * the cells filled to the queue, until the queue is drained or a contradiction is found. The naked
+     * single rule is applied to the peers of a cell filled. The hidden single rule is applied to all the
+     * values of the houses of the cell, and to the value of the cell in the other houses holding an empty
+     * peer of the cell, which are the only houses where the value can have lost a candidate cell.
+     * @param grid the grid context.
+     * @param queue queue of the cells filled.
+     * @param tail number of cells in the queue.
+     * @return true if no contradiction was found or false otherwise.
+     */
+    private boolean propagateFrom(Grid grid, int[] queue, int tail) {
+        final Topology topology = grid.getTopology();
+        final long allValues = allValues(topology.getSize());
+        for(int head = 0; head < tail; head++) {
+            final int cell = queue[head];
+            long rows = 1L << topology.getRow(cell);
+            long columns = 1L << topology.getColumn(cell);
+            long nonets = 1L << topology.getNonet(cell);
+            for(int position = 0; position < topology.getPeerCount(); position++) {
+                final int peer = topology.getPeer(cell, position);
+                if(grid.rawValueAt(peer) != 0) {
+                    continue;
+                }
+                rows |= 1L << topology.getRow(peer);
+                columns |= 1L << topology.getColumn(peer);
+                nonets |= 1L << topology.getNonet(peer);
+                final long candidates = grid.candidateMaskAt(peer);
+                if(candidates == 0) {
+                    return false;
+                }
+                if(Long.bitCount(candidates) == 1 && (tail = place(grid, queue, tail, peer, candidates)) < 0) {
+                    return false;
+                }
+            }
+            final long bit = 1L << (grid.rawValueAt(cell) - 1);
+            if((tail = applyHiddenSingles(grid, queue, tail, HouseType.ROW, rows, topology.getRow(cell), allValues, bit)) < 0
+                    || (tail = applyHiddenSingles(grid, queue, tail, HouseType.COLUMN, columns, topology.getColumn(cell), allValues, bit)) < 0
+                    || (tail = applyHiddenSingles(grid, queue, tail, HouseType.NONET, nonets, topology.getNonet(cell), allValues, bit)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies the hidden single rule to the houses of a type in the bitmask, considering all the values
+     * in the house of the cell filled and only the value of the cell in the other houses.
+     * @param grid the grid context.
+     * @param queue queue of the cells filled, to which the cells filled are added.
+     * @param tail number of cells in the queue.
+     * @param houseType type of the houses.
+     * @param houses bitmask of the indices of the houses.
+     * @param cellHouse index of the house of the type which contains the cell filled.
+     * @param allValues bitmask of all the values.
+     * @param bit bit of the value of the cell filled.
+     * @return the number of cells in the queue or -1 if a contradiction was found.
+     */
+    private int applyHiddenSingles(Grid grid, int[] queue, int tail, HouseType houseType, long houses, int cellHouse, long allValues, long bit) {
+        for(long remaining = houses; remaining != 0 && tail >= 0; remaining &= remaining - 1) {
+            final int house = Long.numberOfTrailingZeros(remaining);
+            tail = applyHiddenSingles(grid, queue, tail, houseType, house, house == cellHouse ? allValues : bit);
+        }
+        return tail;
+    }
+
+    /**
+     * Fills the cells of a house which are the only cell of the house where a missing value is permissible,
+     * considering only the values of the mask.
+     * @param grid the grid context.
+     * @param queue queue of the cells filled, to which the cells filled are added.
+     * @param tail number of cells in the queue.
+     * @param houseType type of the house.
+     * @param house index of the house.
+     * @param values bitmask of the values considered.
+     * @return the number of cells in the queue or -1 if a contradiction was found.
+     */
+    private int applyHiddenSingles(Grid grid, int[] queue, int tail, HouseType houseType, int house, long values) {
+        final Topology topology = grid.getTopology();
+        final int size = topology.getSize();
+        long present = 0;
+        long once = 0;
+        long twice = 0;
+        for(int position = 0; position < size; position++) {
+            final int cell = topology.getHouseCell(houseType, house, position);
+            final int value = grid.rawValueAt(cell);
+            if(value != 0) {
+                present |= 1L << (value - 1);
+                continue;
+            }
+            final long candidates = grid.candidateMaskAt(cell) & values;
+            twice |= once & candidates;
+            once |= candidates;
+        }
+        if(((present | once) & values) != values) {
+            return -1;
+        }
+        long hidden = once & ~twice & ~present;
+        for(int position = 0; position < size && hidden != 0; position++) {
+            final int cell = topology.getHouseCell(houseType, house, position);
+            if(grid.rawValueAt(cell) != 0) {
+                continue;
+            }
+            final long single = grid.candidateMaskAt(cell) & hidden;
+            if(single == 0) {
+                continue;
+            }
+            if(Long.bitCount(single) > 1 || (tail = place(grid, queue, tail, cell, single)) < 0) {
+                return -1;
+            }
+            hidden &= ~single;
+        }
+        return tail;
+    }
+
+    /**
+     * Sets the value of a cell and adds the cell to the queue.
+     * @param grid the grid context.
+     * @param queue queue of the cells filled.
+     * @param tail number of cells in the queue.
+     * @param cell index of the cell.
+     * @param bit bit of the value.
+     * @return the number of cells in the queue or -1 if the value was not set.
+     */
+    private static int place(Grid grid, int[] queue, int tail, int cell, long bit) {
+        final Topology topology = grid.getTopology();
+        final int value = Long.numberOfTrailingZeros(bit) + 1;
+        if(grid.trySetValue(topology.getRow(cell), topology.getColumn(cell), value) != SetValueStatus.OK) {
+            return -1;
+        }
+        queue[tail] = cell;
+        return tail + 1;
+    }
+
+    /**
+     * @param size size of the grid.
+     * @return bitmask of all the values of a grid of the size.
+     */
+    private static long allValues(int size) {
+        return size == Long.SIZE ? -1L : (1L << size) - 1;
+    }
+}
@@ -0,0 +1,312 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.Topology;
+import com.damelyngdoh.azosudoku.Validator;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+
+/**
+ * Solver which encodes the puzzle as an exact cover problem and solves it with Knuth's Algorithm X
+ * using dancing links. Every candidate (cell, value) is a row of the matrix covering four constraint
+ * columns: the cell is filled, and the value is present in the row, in the column and in the nonet
+ * of the cell. The links are stored in primitive arrays and the search, which always branches on the
+ * column with the fewest remaining rows, runs on an explicit stack.
+ *
+ * @author Dame Lyngdoh
+ */
+public class DancingLinksSudokuSolver implements SudokuSolver {
+
+    /**
+     * Exact cover matrix of a grid of a specific size, with the links of the nodes stored in arrays.
+     * Node 0 is the root, nodes 1 to the column count are the column headers and the remaining nodes
+     * are the cells of the matrix, four per row.
+     */
+    private static final class Matrix {
+
+        private static final int ROOT = 0;
+
+        private final int size;
+        private final int[] left;
+        private final int[] right;
+        private final int[] up;
+        private final int[] down;
+        private final int[] column;
+        private final int[] candidate;
+        private final int[] columnSizes;
+
+        /**
+         * Builds the matrix of all the candidates of an empty grid.
+         * @param topology topology of the grid.
+         */
+        Matrix(Topology topology) {
+            this.size = topology.getSize();
+            final int cellCount = topology.getCellCount();
+            final int columnCount = 4 * cellCount;
+            final int nodeCount = 1 + columnCount + (4 * cellCount * size);
+            this.left = new int[nodeCount];
+            this.right = new int[nodeCount];
+            this.up = new int[nodeCount];
+            this.down = new int[nodeCount];
+            this.column = new int[nodeCount];
+            this.candidate = new int[nodeCount];
+            this.columnSizes = new int[columnCount + 1];
+            for(int header = 0; header <= columnCount; header++) {
+                left[header] = header == 0 ? columnCount : header - 1;
+                right[header] = header == columnCount ? ROOT : header + 1;
+                up[header] = header;
+                down[header] = header;
+                column[header] = header;
+            }
+            int node = columnCount + 1;
+            for(int cell = 0; cell < cellCount; cell++) {
+                final int rowOffset = cellCount + (topology.getRow(cell) * size);
+                final int columnOffset = (2 * cellCount) + (topology.getColumn(cell) * size);
+                final int nonetOffset = (3 * cellCount) + (topology.getNonet(cell) * size);
+                for(int digit = 0; digit < size; digit++) {
+                    final int first = node;
+                    final int id = (cell * size) + digit;
+                    node = addNode(first, node, cell + 1, id);
+                    node = addNode(first, node, rowOffset + digit + 1, id);
+                    node = addNode(first, node, columnOffset + digit + 1, id);
+                    node = addNode(first, node, nonetOffset + digit + 1, id);
+                }
+            }
+        }
+
+        /**
+         * Appends a node to the bottom of a column and to the end of the circular list of its row.
+         * @param first first node of the row.
+         * @param node the node to add.
+         * @param header header of the column of the node.
+         * @param id candidate of the row, {@code (cell * size) + value - 1}.
+         * @return the next free node.
+         */
+        private int addNode(int first, int node, int header, int id) {
+            column[node] = header;
+            candidate[node] = id;
+            up[node] = up[header];
+            down[node] = header;
+            down[up[header]] = node;
+            up[header] = node;
+            columnSizes[header]++;
+            if(node == first) {
+                left[node] = node;
+                right[node] = node;
+            } else {
+                left[node] = left[first];
+                right[node] = first;
+                right[left[first]] = node;
+                left[first] = node;
+            }
+            return node + 1;
+        }
+
+        /**
+         * Removes the column from the header list and the rows intersecting the column from the other columns.
+         * @param header header of the column.
+         */
+        void cover(int header) {
+            left[right[header]] = left[header];
+            right[left[header]] = right[header];
+            for(int i = down[header]; i != header; i = down[i]) {
+                for(int j = right[i]; j != i; j = right[j]) {
+                    up[down[j]] = up[j];
+                    down[up[j]] = down[j];
+                    columnSizes[column[j]]--;
+                }
+            }
+        }
+
+        /**
+         * Reverts {@link #cover(int)}.
+         * @param header header of the column.
+         */
+        void uncover(int header) {
+            for(int i = up[header]; i != header; i = up[i]) {
+                for(int j = left[i]; j != i; j = left[j]) {
+                    columnSizes[column[j]]++;
+                    up[down[j]] = j;
+                    down[up[j]] = j;
+                }
+            }
+            left[right[header]] = header;
+            right[left[header]] = header;
+        }
+
+        /**
+         * Selects the candidate of a given value by covering the columns of its row.
+         * @param cell index of the cell.
+         * @param value the given value.
+         */
+        void select(int cell, int value) {
+            final int id = (cell * size) + value - 1;
+            final int first = 1 + (4 * size * size) + (4 * id);
+            for(int node = first; node < first + 4; node++) {
+                cover(column[node]);
+            }
+        }
+
+        /**
+         * @return the uncovered column with the fewest rows or the root if every column is covered.
+         */
+        int chooseColumn() {
+            int chosen = ROOT;
+            int chosenSize = Integer.MAX_VALUE;
+            for(int header = right[ROOT]; header != ROOT; header = right[header]) {
+                if(columnSizes[header] < chosenSize) {
+                    chosen = header;
+                    chosenSize = columnSizes[header];
+                    if(chosenSize <= 1) {
+                        break;
+                    }
+                }
+            }
+            return chosen;
+        }
+
+        /**
+         * Searches for an exact cover of the uncovered columns, choosing the rows on an explicit stack.
+         * Every row chosen counts as a node and every column left without a row to try as a backtrack.
+         * When the budget is exceeded the search is abandoned, leaving the matrix unusable.
+         * @param values values of the cells, completed with the values of the chosen rows if a cover is found.
+         * @param budget the budget of the search, or null for an unlimited search.
+         * @return true if a cover was found or false if there is none or the budget was exceeded.
+         */
+        boolean search(int[] values, SolveBudget budget) {
+            int remaining = 0;
+            for(int header = right[ROOT]; header != ROOT; header = right[header]) {
+                remaining++;
+            }
+            final int[] choices = new int[remaining / 4];
+            int depth = 0;
+            boolean descending = true;
+            while(true) {
+                if(descending) {
+                    final int header = chooseColumn();
+                    if(header == ROOT) {
+                        for(int level = 0; level < depth; level++) {
+                            values[candidate[choices[level]] / size] = (candidate[choices[level]] % size) + 1;
+                        }
+                        return true;
+                    }
+                    if(columnSizes[header] == 0) {
+                        if(budget != null && !budget.countBacktrack()) {
+                            return false;
+                        }
+                        descending = false;
+                        continue;
+                    }
+                    cover(header);
+                    choices[depth] = down[header];
+                } else {
+                    if(--depth < 0) {
+                        return false;
+                    }
+                    final int node = choices[depth];
+                    for(int j = left[node]; j != node; j = left[j]) {
+                        uncover(column[j]);
+                    }
+                    choices[depth] = down[node];
+                }
+                final int node = choices[depth];
+                if(node == column[node]) {
+                    uncover(node);
+                    if(budget != null && !budget.countBacktrack()) {
+                        return false;
+                    }
+                    descending = false;
+                    continue;
+                }
+                if(budget != null && !budget.countNode(depth + 1)) {
+                    return false;
+                }
+                for(int j = right[node]; j != node; j = right[j]) {
+                    cover(column[j]);
+                }
+                depth++;
+                descending = true;
+            }
+        }
+    }
+
+    /**
+     * Builds the matrix of a grid with the candidates of its values selected.
+     * @param topology topology of the grid.
+     * @param values values of the cells stored row after row, without conflicting values.
+     * @return the matrix of the empty cells of the grid.
+     */
+    private static Matrix load(Topology topology, int[] values) {
+        final Matrix matrix = new Matrix(topology);
+        for(int cell = 0; cell < values.length; cell++) {
+            if(values[cell] != 0) {
+                matrix.select(cell, values[cell]);
+            }
+        }
+        return matrix;
+    }
+
+    @Override
+    public void solve(Grid grid) throws InvalidSudokuException {
+        Validator.validateGrid(grid);
+        grid.validateGrid();
+        final int[] values = grid.toFlatArray();
+        final int[] solution = values.clone();
+        if(!load(grid.getTopology(), values).search(solution, null)) {
+            throw new InvalidSudokuException();
+        }
+        SolverUtils.writeSolution(grid, values, solution);
+    }
+
+    /**
+     * Solves the sudoku puzzle within limits with the same search as {@link #solve(Grid)}, checking 
+     * the limits while searching and recording the rows chosen and the dead ends of the search.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+        Validator.validateGrid(grid);
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        if(stats != null) {
+            stats.begin();
+        }
+        SolveStatus status = null;
+        try {
+            status = solveWithin(grid, limits, stats);
+            return status;
+        } finally {
+            if(stats != null) {
+                stats.end(status);
+            }
+        }
+    }
+
+    /**
+     * Searches the exact cover matrix of the grid within the limits, recording the rows chosen and the dead ends.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return the status of the solve.
+     */
+    private SolveStatus solveWithin(Grid grid, SolveLimits limits, SolveStats stats) {
+        final SolveBudget budget = limits.start();
+        SolveStatus status = budget.check(0, 0) ? SolveStatus.UNSOLVABLE : budget.getStatus();
+        if(status == SolveStatus.UNSOLVABLE && grid.validate().isValid()) {
+            final int[] values = grid.toFlatArray();
+            final int[] solution = values.clone();
+            if(load(grid.getTopology(), values).search(solution, budget)) {
+                status = SolveStatus.SOLVED;
+                SolverUtils.writeSolution(grid, values, solution);
+            } else if(budget.getStatus() != null) {
+                status = budget.getStatus();
+            }
+            budget.addTo(stats);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,66 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+/**
+ * Difficulty tiers of puzzles rated by {@link DifficultyRater}, declared from the easiest to the 
+ * hardest. A puzzle belongs to the easiest tier whose hardest technique is not easier than the hardest 
+ * technique the puzzle needs.
+ * 
+ * @author Dame Lyngdoh
+ */
+public enum Difficulty {
+
+    /**
+     * Solved with singles only.
+     */
+    EASY(Technique.HIDDEN_SINGLE),
+
+    /**
+     * Needs locked candidates or pairs.
+     */
+    MEDIUM(Technique.HIDDEN_PAIR),
+
+    /**
+     * Needs triples or an X-Wing.
+     */
+    HARD(Technique.X_WING),
+
+    /**
+     * Needs a Swordfish or an XY-Wing.
+     */
+    EXPERT(Technique.XY_WING),
+
+    /**
+     * Needs search, as no technique of {@link Technique} applies at some point.
+     */
+    EXTREME(Technique.SEARCH);
+
+    private final Technique hardestTechnique;
+
+    private Difficulty(Technique hardestTechnique) {
+        this.hardestTechnique = hardestTechnique;
+    }
+
+    /**
+     * @return hardest technique a puzzle of the tier may need.
+     */
+    public Technique getHardestTechnique() {
+        return hardestTechnique;
+    }
+
+    /**
+     * Gets the tier of the puzzles whose hardest technique needed is the technique.
+     * @param technique hardest technique needed, or null if the puzzle needs no technique.
+     * @return the difficulty tier.
+     */
+    public static Difficulty of(Technique technique) {
+        if(technique == null) {
+            return EASY;
+        }
+        for(final Difficulty difficulty : values()) {
+            if(technique.getLevel() <= difficulty.hardestTechnique.getLevel()) {
+                return difficulty;
+            }
+        }
+        return EXTREME;
+    }
+}
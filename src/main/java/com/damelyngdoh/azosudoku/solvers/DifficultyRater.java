@@ -0,0 +1,62 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.Validator;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+
+/**
+ * Rater which scores the difficulty of a puzzle by solving it with the techniques of 
+ * {@link LogicalSudokuSolver}. The steps are only counted, not recorded, so rating a puzzle allocates 
+ * little more than the candidates of its cells.
+ * 
+ * The score is ordered first by the level of the hardest technique needed, then by the work done: every step adds 
+ * the weight of its technique, and every value taken from search, when no technique applies, adds the 
+ * weight of {@link Technique#SEARCH}. The score of a puzzle is the same on every run, and a puzzle 
+ * needing a harder technique always scores higher than a puzzle which does not. A rater holds no state 
+ * and can be shared between threads.
+ * 
+ * @author Dame Lyngdoh
+ */
+public class DifficultyRater {
+
+    /**
+     * Score of a level of the hardest technique, above which the work done cannot reach.
+     */
+    public static final long LEVEL_SCORE = 10_000;
+
+    private static final Technique[] TECHNIQUES = Technique.values();
+
+    /**
+     * Rates the puzzle of the grid, without modifying the grid.
+     * @param grid the sudoku grid.
+     * @return the rating of the puzzle.
+     * @throws NullPointerException thrown if grid argument is null.
+     * @throws InvalidSudokuException thrown when the puzzle does not have a solution.
+     */
+    public DifficultyRating rate(Grid grid) throws InvalidSudokuException {
+        Validator.validateGrid(grid);
+        grid.validateGrid();
+        final LogicalSudokuSolver.Engine engine = new LogicalSudokuSolver.Engine(grid.getTopology(), grid.toFlatArray(), null, false);
+        if(!engine.run()) {
+            throw new InvalidSudokuException();
+        }
+        final int[] techniqueCounts = new int[TECHNIQUES.length];
+        Technique hardestTechnique = null;
+        long work = 0;
+        for(final Technique technique : TECHNIQUES) {
+            final int count = engine.getTechniqueCount(technique);
+            if(count > 0) {
+                techniqueCounts[technique.ordinal()] = count;
+                if(hardestTechnique == null || technique.getLevel() > hardestTechnique.getLevel()) {
+                    hardestTechnique = technique;
+                }
+                work += (long)count * technique.getWeight();
+            }
+        }
+        if(hardestTechnique == null) {
+            return new DifficultyRating(0, null, techniqueCounts);
+        }
+        final long score = (long)hardestTechnique.getLevel() * LEVEL_SCORE + Math.min(work, LEVEL_SCORE - 1);
+        return new DifficultyRating(score, hardestTechnique, techniqueCounts);
+    }
+}
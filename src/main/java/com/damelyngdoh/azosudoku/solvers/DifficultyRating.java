@@ -0,0 +1,84 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+/**
+ * Rating of a puzzle computed by {@link DifficultyRater}, holding the score, the tier, the hardest 
+ * technique needed and the number of steps applied with every technique.
+ * 
+ * @author Dame Lyngdoh
+ */
+public final class DifficultyRating {
+
+    private final long score;
+    private final Difficulty difficulty;
+    private final Technique hardestTechnique;
+    private final int[] techniqueCounts;
+
+    /**
+     * Constructs a new DifficultyRating object.
+     * @param score the score of the puzzle.
+     * @param hardestTechnique hardest technique needed, or null if the puzzle has no empty cell.
+     * @param techniqueCounts number of steps applied with every technique, indexed by the ordinal of the technique.
+     */
+    DifficultyRating(long score, Technique hardestTechnique, int[] techniqueCounts) {
+        this.score = score;
+        this.difficulty = Difficulty.of(hardestTechnique);
+        this.hardestTechnique = hardestTechnique;
+        this.techniqueCounts = techniqueCounts;
+    }
+
+    /**
+     * @return score of the puzzle, 0 for a puzzle without empty cells. A puzzle needing a harder technique always has a higher score.
+     */
+    public long getScore() {
+        return score;
+    }
+
+    /**
+     * @return difficulty tier of the puzzle.
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * @return hardest technique needed to solve the puzzle, or null if the puzzle has no empty cell.
+     */
+    public Technique getHardestTechnique() {
+        return hardestTechnique;
+    }
+
+    /**
+     * @param technique the technique.
+     * @return number of steps applied with the technique.
+     * @throws NullPointerException thrown if technique argument is null.
+     */
+    public int getTechniqueCount(Technique technique) {
+        if(technique == null) {
+            throw new NullPointerException("Null technique passed.");
+        }
+        return techniqueCounts[technique.ordinal()];
+    }
+
+    /**
+     * @return number of steps applied to solve the puzzle, placements and eliminations alike.
+     */
+    public int getStepCount() {
+        int count = 0;
+        for(final int techniqueCount : techniqueCounts) {
+            count += techniqueCount;
+        }
+        return count;
+    }
+
+    /**
+     * @return number of values taken from a solution found by search, since no technique applied.
+     */
+    public int getGuessCount() {
+        return techniqueCounts[Technique.SEARCH.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DifficultyRating[score=%d, difficulty=%s, hardestTechnique=%s, steps=%d, guesses=%d]", score, difficulty, hardestTechnique, getStepCount(), getGuessCount());
+    }
+}
@@ -0,0 +1,127 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.util.concurrent.CancellationException;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.Validator;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+
+/**
+ * Decorator which records the statistics of every solve of another solver and hands them to a 
+ * {@link SolveListener}. Every solve runs through {@link SudokuSolver#solve(Grid, SolveLimits, SolveStats)} 
+ * of the delegate solver into statistics of its own, so the statistics hold the counts of the search of 
+ * the delegate solver. The listener is notified once the statistics have ended, even when the caller's 
+ * statistics are still recording an enclosing solve, and the counts are then added to the caller's 
+ * statistics. A solve which fails with an exception is not reported. Solvers which are not decorated 
+ * record nothing.
+ * 
+ * @author Dame Lyngdoh
+ */
+public class InstrumentedSudokuSolver implements SudokuSolver {
+
+    /**
+     * Solver whose solves are recorded.
+     */
+    private final SudokuSolver delegate;
+
+    /**
+     * Listener notified of the statistics of every solve.
+     */
+    private final SolveListener listener;
+
+    /**
+     * Constructs a new InstrumentedSudokuSolver object.
+     * @param delegate solver whose solves are recorded.
+     * @param listener listener notified of the statistics of every solve.
+     * @throws NullPointerException thrown if delegate or listener arguments are null.
+     */
+    public InstrumentedSudokuSolver(SudokuSolver delegate, SolveListener listener) {
+        if(delegate == null) {
+            throw new NullPointerException("Null delegate solver passed.");
+        }
+        if(listener == null) {
+            throw new NullPointerException("Null listener passed.");
+        }
+        this.delegate = delegate;
+        this.listener = listener;
+    }
+
+    /**
+     * @return solver whose solves are recorded.
+     */
+    public SudokuSolver getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return listener notified of the statistics of every solve.
+     */
+    public SolveListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Solves the grid without limits with the delegate solver and notifies the listener of the statistics.
+     * @param grid the sudoku grid.
+     * @throws InvalidSudokuException thrown when the puzzle does not have a solution.
+     * @throws CancellationException thrown if the delegate solver was interrupted.
+     */
+    @Override
+    public void solve(Grid grid) throws InvalidSudokuException {
+        Validator.validateGrid(grid);
+        SolverUtils.requireSolved(solve(grid, SolveLimits.NONE, null));
+    }
+
+    /**
+     * Solves the grid within limits with the delegate solver and notifies the listener of the statistics.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return the status returned by the delegate solver.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+        return solve(grid, limits, stats, null);
+    }
+
+    /**
+     * Solves the propagated grid within limits with the propagating search of the delegate solver and 
+     * notifies the listener of the statistics.
+     * @param grid the sudoku grid, propagated.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @param propagator the propagator passed on to the delegate solver, or null to search without propagation.
+     * @return the status returned by the delegate solver.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats, ConstraintPropagator propagator) {
+        Validator.validateGrid(grid);
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        if(stats != null) {
+            stats.begin();
+        }
+        SolveStatus status = null;
+        try {
+            final SolveStats recorded = new SolveStats();
+            recorded.begin();
+            try {
+                status = propagator == null ? delegate.solve(grid, limits, recorded) : delegate.solve(grid, limits, recorded, propagator);
+            } finally {
+                recorded.end(status);
+            }
+            if(stats != null) {
+                stats.add(recorded);
+            }
+            listener.onSolve(delegate, recorded);
+            return status;
+        } finally {
+            if(stats != null) {
+                stats.end(status);
+            }
+        }
+    }
+}
@@ -0,0 +1,889 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.HouseType;
+import com.damelyngdoh.azosudoku.Topology;
+import com.damelyngdoh.azosudoku.Validator;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+
+/**
+ * Solver which applies the techniques of human solvers, keeping the candidates of every cell as a
+ * bitmask. The techniques are tried in the order of {@link Technique}, from the cheapest to the most
+ * expensive, and the solver goes back to the cheapest technique after every step. Every placement and
+ * every elimination is recorded as a {@link SolveStep}, so the solve can be explained and hints can be
+ * served. The singles and the locked candidates visit every house a bounded number of times per pass.
+ * The subsets and the fish enumerate the combinations of up to three cells, values or lines of every
+ * house, which is polynomial rather than linear in the size of the grid, and the XY-Wing collects the
+ * bivalue peers of every bivalue cell once and only pairs those. Passes over houses and values which
+ * did not change since a pass found nothing in them are skipped. When no technique applies, the value
+ * of the cell with the fewest candidates is taken from a solution found by search, and the techniques
+ * are applied again.
+ *
+ * @author Dame Lyngdoh
+ */
+public class LogicalSudokuSolver implements SudokuSolver {
+
+    private static final HouseType[] HOUSE_TYPES = HouseType.values();
+    private static final Technique[] TECHNIQUES = Technique.values();
+
+    /**
+     * Candidate grid on which the techniques are applied. The steps are recorded in a list, or only
+     * counted per technique when no list is passed.
+     */
+    static final class Engine {
+
+        private final Topology topology;
+        private final int size;
+        private final long allValues;
+        private final int[] values;
+        private final long[] candidates;
+        private final List<SolveStep> steps;
+        private final int[] techniqueCounts = new int[TECHNIQUES.length];
+        private final boolean stopAfterPlacement;
+        private int emptyCount;
+        private int placementCount;
+        private boolean contradiction;
+
+        /**
+         * Solution found by search when no technique applies, or null before the first search.
+         */
+        private int[] solution;
+
+        /**
+         * Budget checked before every step and by the search, or null for an unlimited solve, and the
+         * counts of the search.
+         */
+        private SolveBudget budget;
+        private long searchNodes;
+        private long searchBacktracks;
+        private int searchDepth;
+
+        /**
+         * Eliminations of the step in progress.
+         */
+        private final int[] eliminationCells;
+        private final long[] eliminationMasks;
+        private int eliminationCount;
+
+        /**
+         * Buffers of the cells, lines and values examined in a house.
+         */
+        private final int[] houseBuffer;
+        private final long[] maskBuffer;
+
+        /**
+         * Number of candidates of the value examined at every position of the lines, used to skip the
+         * fish which eliminate nothing.
+         */
+        private final int[] positionCounts;
+
+        /**
+         * Buffer of the bivalue peers of the pivot of an XY-Wing sharing one candidate with the pivot.
+         */
+        private final int[] pincerBuffer;
+
+        /**
+         * Clock ticking at every change of candidates, the stamps of the last change of every house and
+         * value, and the stamps of the last pass of every technique over a house or value which found
+         * nothing. As candidates are only ever removed, a pass which found nothing finds nothing again
+         * until the house or value changes, so it is skipped.
+         */
+        private int clock;
+        private final int[][] houseChangedAt;
+        private final int[][][] houseScannedAt;
+        private final int[] valueChangedAt;
+        private final int[][] valueScannedAt;
+        private int xyWingScannedAt = -1;
+
+        /**
+         * Builds the candidates of the empty cells of a grid without conflicting values.
+         * @param topology topology of the grid.
+         * @param givens values of the cells stored row after row, 0 denoting an empty cell.
+         * @param steps list the steps are appended to, or null to only count the steps.
+         * @param stopAfterPlacement true to stop after the first placement.
+         */
+        Engine(Topology topology, int[] givens, List<SolveStep> steps, boolean stopAfterPlacement) {
+            this.topology = topology;
+            this.size = topology.getSize();
+            this.allValues = size == Long.SIZE ? -1L : (1L << size) - 1;
+            this.values = givens.clone();
+            this.candidates = new long[values.length];
+            this.steps = steps;
+            this.stopAfterPlacement = stopAfterPlacement;
+            this.eliminationCells = new int[values.length];
+            this.eliminationMasks = new long[values.length];
+            this.houseBuffer = new int[size];
+            this.maskBuffer = new long[size];
+            this.positionCounts = new int[size];
+            this.pincerBuffer = new int[topology.getPeerCount()];
+            this.houseChangedAt = new int[HOUSE_TYPES.length][size];
+            this.houseScannedAt = new int[TECHNIQUES.length][HOUSE_TYPES.length][size];
+            for(final int[][] techniqueScannedAt : houseScannedAt) {
+                for(final int[] typeScannedAt : techniqueScannedAt) {
+                    Arrays.fill(typeScannedAt, -1);
+                }
+            }
+            this.valueChangedAt = new int[size];
+            this.valueScannedAt = new int[2][size];
+            Arrays.fill(valueScannedAt[0], -1);
+            Arrays.fill(valueScannedAt[1], -1);
+            final long[] rowMasks = new long[size];
+            final long[] columnMasks = new long[size];
+            final long[] nonetMasks = new long[size];
+            for(int cell = 0; cell < values.length; cell++) {
+                if(values[cell] != 0) {
+                    final long bit = 1L << (values[cell] - 1);
+                    rowMasks[topology.getRow(cell)] |= bit;
+                    columnMasks[topology.getColumn(cell)] |= bit;
+                    nonetMasks[topology.getNonet(cell)] |= bit;
+                }
+            }
+            for(int cell = 0; cell < values.length; cell++) {
+                if(values[cell] == 0) {
+                    candidates[cell] = allValues & ~(rowMasks[topology.getRow(cell)] | columnMasks[topology.getColumn(cell)] | nonetMasks[topology.getNonet(cell)]);
+                    emptyCount++;
+                }
+            }
+        }
+
+        /**
+         * Applies the techniques until every cell is filled, or until the first placement.
+         * @return true if no contradiction was found or false if the grid has no solution.
+         */
+        boolean run() {
+            return run(null);
+        }
+
+        /**
+         * Applies the techniques like {@link #run()}, checking the budget before every step and within
+         * the search for the values which no technique can place.
+         * @param budget budget of the solve, or null for an unlimited solve.
+         * @return true if no contradiction was found or false if the grid has no solution or the budget was exceeded.
+         */
+        boolean run(SolveBudget budget) {
+            this.budget = budget;
+            while(emptyCount > 0 && !(stopAfterPlacement && placementCount > 0)) {
+                if(budget != null && !budget.check(searchNodes, searchBacktracks)) {
+                    return false;
+                }
+                final boolean progress = applyNakedSingles()
+                    || applyHiddenSingles()
+                    || applyLockedCandidates()
+                    || applyNakedSubsets(2, Technique.NAKED_PAIR)
+                    || applyHiddenSubsets(2, Technique.HIDDEN_PAIR)
+                    || applyNakedSubsets(3, Technique.NAKED_TRIPLE)
+                    || applyHiddenSubsets(3, Technique.HIDDEN_TRIPLE)
+                    || applyFish(2, Technique.X_WING)
+                    || applyFish(3, Technique.SWORDFISH)
+                    || applyXyWing();
+                if(contradiction || (!progress && !guess())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return values of the cells stored row after row, 0 denoting an empty cell.
+         */
+        int[] getValues() {
+            return values;
+        }
+
+        /**
+         * @param technique the technique.
+         * @return number of steps applied with the technique.
+         */
+        int getTechniqueCount(Technique technique) {
+            return techniqueCounts[technique.ordinal()];
+        }
+
+        /**
+         * Adds the counts of the solve to the statistics: the values placed and the dead ends of the
+         * search as nodes and backtracks, and the values placed by the techniques as propagations.
+         * @param stats statistics of the solve, or null if the statistics are not recorded.
+         */
+        void addTo(SolveStats stats) {
+            if(stats != null) {
+                stats.addSearch(searchNodes, searchBacktracks, searchDepth);
+                stats.addPropagations(placementCount - techniqueCounts[Technique.SEARCH.ordinal()]);
+            }
+        }
+
+        /**
+         * Places a value and removes it from the candidates of the peers of the cell.
+         * @param cell index of the cell.
+         * @param value the value to place.
+         * @param technique technique which justified the placement.
+         */
+        private void place(int cell, int value, Technique technique) {
+            values[cell] = value;
+            touch(cell, candidates[cell]);
+            candidates[cell] = 0;
+            emptyCount--;
+            placementCount++;
+            final long bit = 1L << (value - 1);
+            for(int position = 0; position < topology.getPeerCount(); position++) {
+                final int peer = topology.getPeer(cell, position);
+                if(values[peer] == 0 && (candidates[peer] & bit) != 0) {
+                    touch(peer, bit);
+                    if((candidates[peer] &= ~bit) == 0) {
+                        contradiction = true;
+                    }
+                }
+            }
+            techniqueCounts[technique.ordinal()]++;
+            if(steps != null) {
+                steps.add(SolveStep.placement(technique, size, cell, value));
+            }
+        }
+
+        /**
+         * Eliminates candidates from a cell as part of the step in progress.
+         * @param cell index of the cell.
+         * @param mask bitmask of the candidates to eliminate.
+         */
+        private void eliminate(int cell, long mask) {
+            final long removed = candidates[cell] & mask;
+            if(values[cell] != 0 || removed == 0) {
+                return;
+            }
+            touch(cell, removed);
+            if((candidates[cell] &= ~removed) == 0) {
+                contradiction = true;
+            }
+            eliminationCells[eliminationCount] = cell;
+            eliminationMasks[eliminationCount++] = removed;
+        }
+
+        /**
+         * Records a change of the candidates of a cell.
+         * @param cell index of the cell.
+         * @param removed bitmask of the candidates removed.
+         */
+        private void touch(int cell, long removed) {
+            final int stamp = ++clock;
+            for(final HouseType houseType : HOUSE_TYPES) {
+                houseChangedAt[houseType.ordinal()][topology.getHouse(houseType, cell)] = stamp;
+            }
+            for(long remaining = removed; remaining != 0; remaining &= remaining - 1) {
+                valueChangedAt[Long.numberOfTrailingZeros(remaining)] = stamp;
+            }
+        }
+
+        /**
+         * @param technique the technique.
+         * @param houseType type of the house.
+         * @param house index of the house.
+         * @return true if the house did not change since the last pass of the technique over it found nothing.
+         */
+        private boolean isClean(Technique technique, HouseType houseType, int house) {
+            return houseScannedAt[technique.ordinal()][houseType.ordinal()][house] >= houseChangedAt[houseType.ordinal()][house];
+        }
+
+        /**
+         * Records that a pass of the technique over the house found nothing.
+         * @param technique the technique.
+         * @param houseType type of the house.
+         * @param house index of the house.
+         */
+        private void markClean(Technique technique, HouseType houseType, int house) {
+            houseScannedAt[technique.ordinal()][houseType.ordinal()][house] = clock;
+        }
+
+        /**
+         * Records the eliminations of the step in progress as a step.
+         * @param technique technique which justified the eliminations.
+         * @return true if candidates were eliminated or false otherwise.
+         */
+        private boolean commit(Technique technique) {
+            if(eliminationCount == 0) {
+                return false;
+            }
+            techniqueCounts[technique.ordinal()]++;
+            if(steps != null) {
+                steps.add(SolveStep.elimination(technique, size, Arrays.copyOf(eliminationCells, eliminationCount), Arrays.copyOf(eliminationMasks, eliminationCount)));
+            }
+            eliminationCount = 0;
+            return true;
+        }
+
+        /**
+         * Places the single candidate of every empty cell which has one.
+         * @return true if a value was placed or a contradiction was found or false otherwise.
+         */
+        private boolean applyNakedSingles() {
+            boolean placed = false;
+            for(int cell = 0; cell < values.length; cell++) {
+                if(values[cell] != 0) {
+                    continue;
+                }
+                final long cellCandidates = candidates[cell];
+                if(cellCandidates == 0) {
+                    contradiction = true;
+                    return true;
+                }
+                if((cellCandidates & (cellCandidates - 1)) == 0) {
+                    place(cell, Long.numberOfTrailingZeros(cellCandidates) + 1, Technique.NAKED_SINGLE);
+                    placed = true;
+                    if(stopAfterPlacement || contradiction) {
+                        return true;
+                    }
+                }
+            }
+            return placed;
+        }
+
+        /**
+         * Places every value which is a candidate of a single cell of a house.
+         * @return true if a value was placed or a contradiction was found or false otherwise.
+         */
+        private boolean applyHiddenSingles() {
+            boolean placed = false;
+            for(final HouseType houseType : HOUSE_TYPES) {
+                for(int house = 0; house < size; house++) {
+                    if(isClean(Technique.HIDDEN_SINGLE, houseType, house)) {
+                        continue;
+                    }
+                    long present = 0;
+                    long once = 0;
+                    long twice = 0;
+                    for(int position = 0; position < size; position++) {
+                        final int cell = topology.getHouseCell(houseType, house, position);
+                        if(values[cell] != 0) {
+                            present |= 1L << (values[cell] - 1);
+                        } else {
+                            twice |= once & candidates[cell];
+                            once |= candidates[cell];
+                        }
+                    }
+                    final long missing = allValues & ~present;
+                    if((once & missing) != missing) {
+                        contradiction = true;
+                        return true;
+                    }
+                    final long hiddenValues = once & ~twice;
+                    if(hiddenValues == 0) {
+                        markClean(Technique.HIDDEN_SINGLE, houseType, house);
+                    }
+                    for(long hidden = hiddenValues; hidden != 0; hidden &= hidden - 1) {
+                        final long bit = hidden & -hidden;
+                        for(int position = 0; position < size; position++) {
+                            final int cell = topology.getHouseCell(houseType, house, position);
+                            if(values[cell] == 0 && (candidates[cell] & bit) != 0) {
+                                place(cell, Long.numberOfTrailingZeros(bit) + 1, Technique.HIDDEN_SINGLE);
+                                placed = true;
+                                break;
+                            }
+                        }
+                        if((placed && stopAfterPlacement) || contradiction) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return placed;
+        }
+
+        /**
+         * Eliminates a value from the cells of a house which are outside another house.
+         * @param houseType type of the house the value is eliminated from.
+         * @param house index of the house the value is eliminated from.
+         * @param excludedType type of the house whose cells are kept.
+         * @param excludedHouse index of the house whose cells are kept.
+         * @param bit bit of the value.
+         */
+        private void eliminateOutside(HouseType houseType, int house, HouseType excludedType, int excludedHouse, long bit) {
+            for(int position = 0; position < size; position++) {
+                final int cell = topology.getHouseCell(houseType, house, position);
+                if(topology.getHouse(excludedType, cell) != excludedHouse) {
+                    eliminate(cell, bit);
+                }
+            }
+        }
+
+        /**
+         * @param houseType type of the house.
+         * @param house index of the house.
+         * @return union of the candidates of the cells of the house.
+         */
+        private long houseCandidates(HouseType houseType, int house) {
+            long union = 0;
+            for(int position = 0; position < size; position++) {
+                union |= candidates[topology.getHouseCell(houseType, house, position)];
+            }
+            return union;
+        }
+
+        /**
+         * Finds a value whose candidates in a nonet lie in one row or column (pointing), or whose
+         * candidates in a row or column lie in one nonet (claiming), and eliminates the value from
+         * the rest of the other house.
+         * @return true if candidates were eliminated or false otherwise.
+         */
+        private boolean applyLockedCandidates() {
+            for(int nonet = 0; nonet < size; nonet++) {
+                if(isClean(Technique.LOCKED_CANDIDATES, HouseType.NONET, nonet)) {
+                    continue;
+                }
+                for(long union = houseCandidates(HouseType.NONET, nonet); union != 0; union &= union - 1) {
+                    final long bit = union & -union;
+                    long rows = 0;
+                    long columns = 0;
+                    for(int position = 0; position < size; position++) {
+                        final int cell = topology.getHouseCell(HouseType.NONET, nonet, position);
+                        if((candidates[cell] & bit) != 0) {
+                            rows |= 1L << topology.getRow(cell);
+                            columns |= 1L << topology.getColumn(cell);
+                        }
+                    }
+                    if(Long.bitCount(rows) == 1) {
+                        eliminateOutside(HouseType.ROW, Long.numberOfTrailingZeros(rows), HouseType.NONET, nonet, bit);
+                    }
+                    if(Long.bitCount(columns) == 1) {
+                        eliminateOutside(HouseType.COLUMN, Long.numberOfTrailingZeros(columns), HouseType.NONET, nonet, bit);
+                    }
+                    if(commit(Technique.LOCKED_CANDIDATES)) {
+                        return true;
+                    }
+                }
+                markClean(Technique.LOCKED_CANDIDATES, HouseType.NONET, nonet);
+            }
+            for(final HouseType lineType : new HouseType[] {HouseType.ROW, HouseType.COLUMN}) {
+                for(int line = 0; line < size; line++) {
+                    if(isClean(Technique.LOCKED_CANDIDATES, lineType, line)) {
+                        continue;
+                    }
+                    for(long union = houseCandidates(lineType, line); union != 0; union &= union - 1) {
+                        final long bit = union & -union;
+                        long nonets = 0;
+                        for(int position = 0; position < size; position++) {
+                            final int cell = topology.getHouseCell(lineType, line, position);
+                            if((candidates[cell] & bit) != 0) {
+                                nonets |= 1L << topology.getNonet(cell);
+                            }
+                        }
+                        if(Long.bitCount(nonets) == 1) {
+                            eliminateOutside(HouseType.NONET, Long.numberOfTrailingZeros(nonets), lineType, line, bit);
+                            if(commit(Technique.LOCKED_CANDIDATES)) {
+                                return true;
+                            }
+                        }
+                    }
+                    markClean(Technique.LOCKED_CANDIDATES, lineType, line);
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Finds k cells of a house whose candidates are k values between them, and eliminates the
+         * values from the other cells of the house.
+         * @param k the number of cells, 2 or 3.
+         * @param technique technique of the subset size.
+         * @return true if candidates were eliminated or false otherwise.
+         */
+        private boolean applyNakedSubsets(int k, Technique technique) {
+            for(final HouseType houseType : HOUSE_TYPES) {
+                for(int house = 0; house < size; house++) {
+                    if(isClean(technique, houseType, house)) {
+                        continue;
+                    }
+                    int count = 0;
+                    for(int position = 0; position < size; position++) {
+                        final int cell = topology.getHouseCell(houseType, house, position);
+                        final int candidateCount = Long.bitCount(candidates[cell]);
+                        if(values[cell] == 0 && candidateCount >= 2 && candidateCount <= k) {
+                            houseBuffer[count++] = cell;
+                        }
+                    }
+                    for(int first = 0; first < count; first++) {
+                        for(int second = first + 1; second < count; second++) {
+                            final long pair = candidates[houseBuffer[first]] | candidates[houseBuffer[second]];
+                            if(k == 2) {
+                                if(Long.bitCount(pair) == 2 && eliminateNakedSubset(houseType, house, pair, houseBuffer[first], houseBuffer[second], -1, technique)) {
+                                    return true;
+                                }
+                                continue;
+                            }
+                            if(Long.bitCount(pair) > 3) {
+                                continue;
+                            }
+                            for(int third = second + 1; third < count; third++) {
+                                final long triple = pair | candidates[houseBuffer[third]];
+                                if(Long.bitCount(triple) == 3 && eliminateNakedSubset(houseType, house, triple, houseBuffer[first], houseBuffer[second], houseBuffer[third], technique)) {
+                                    return true;
+                                }
+                            }
+                        }
+                    }
+                    markClean(technique, houseType, house);
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Eliminates the values of a naked subset from the other cells of the house.
+         * @param houseType type of the house.
+         * @param house index of the house.
+         * @param mask bitmask of the values of the subset.
+         * @param first first cell of the subset.
+         * @param second second cell of the subset.
+         * @param third third cell of the subset, or -1 for a pair.
+         * @param technique technique of the subset size.
+         * @return true if candidates were eliminated or false otherwise.
+         */
+        private boolean eliminateNakedSubset(HouseType houseType, int house, long mask, int first, int second, int third, Technique technique) {
+            for(int position = 0; position < size; position++) {
+                final int cell = topology.getHouseCell(houseType, house, position);
+                if(cell != first && cell != second && cell != third) {
+                    eliminate(cell, mask);
+                }
+            }
+            return commit(technique);
+        }
+
+        /**
+         * Finds k values which are candidates of the same k cells of a house only, and eliminates the
+         * other candidates of the cells.
+         * @param k the number of values, 2 or 3.
+         * @param technique technique of the subset size.
+         * @return true if candidates were eliminated or false otherwise.
+         */
+        private boolean applyHiddenSubsets(int k, Technique technique) {
+            for(final HouseType houseType : HOUSE_TYPES) {
+                for(int house = 0; house < size; house++) {
+                    if(isClean(technique, houseType, house)) {
+                        continue;
+                    }
+                    Arrays.fill(maskBuffer, 0);
+                    for(int position = 0; position < size; position++) {
+                        final int cell = topology.getHouseCell(houseType, house, position);
+                        for(long remaining = candidates[cell]; remaining != 0; remaining &= remaining - 1) {
+                            maskBuffer[Long.numberOfTrailingZeros(remaining)] |= 1L << position;
+                        }
+                    }
+                    int count = 0;
+                    for(int value = 0; value < size; value++) {
+                        final int positionCount = Long.bitCount(maskBuffer[value]);
+                        if(positionCount >= 2 && positionCount <= k) {
+                            houseBuffer[count++] = value;
+                        }
+                    }
+                    for(int first = 0; first < count; first++) {
+                        for(int second = first + 1; second < count; second++) {
+                            final long pairPositions = maskBuffer[houseBuffer[first]] | maskBuffer[houseBuffer[second]];
+                            final long pairValues = (1L << houseBuffer[first]) | (1L << houseBuffer[second]);
+                            if(k == 2) {
+                                if(Long.bitCount(pairPositions) == 2 && eliminateHiddenSubset(houseType, house, pairPositions, pairValues, technique)) {
+                                    return true;
+                                }
+                                continue;
+                            }
+                            if(Long.bitCount(pairPositions) > 3) {
+                                continue;
+                            }
+                            for(int third = second + 1; third < count; third++) {
+                                final long triplePositions = pairPositions | maskBuffer[houseBuffer[third]];
+                                if(Long.bitCount(triplePositions) == 3 && eliminateHiddenSubset(houseType, house, triplePositions, pairValues | (1L << houseBuffer[third]), technique)) {
+                                    return true;
+                                }
+                            }
+                        }
+                    }
+                    markClean(technique, houseType, house);
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Eliminates the candidates of the cells of a hidden subset which are not values of the subset.
+         * @param houseType type of the house.
+         * @param house index of the house.
+         * @param positions bitmask of the positions of the cells of the subset in the house.
+         * @param kept bitmask of the values of the subset.
+         * @param technique technique of the subset size.
+         * @return true if candidates were eliminated or false otherwise.
+         */
+        private boolean eliminateHiddenSubset(HouseType houseType, int house, long positions, long kept, Technique technique) {
+            for(long remaining = positions; remaining != 0; remaining &= remaining - 1) {
+                eliminate(topology.getHouseCell(houseType, house, Long.numberOfTrailingZeros(remaining)), allValues & ~kept);
+            }
+            return commit(technique);
+        }
+
+        /**
+         * Finds k base lines whose candidates of a value lie in the same k cover lines, and eliminates
+         * the value from the cells of the cover lines outside the base lines. Rows are used as base
+         * lines and columns as cover lines, then the other way round.
+         * @param k the number of lines, 2 for an X-Wing or 3 for a Swordfish.
+         * @param technique technique of the number of lines.
+         * @return true if candidates were eliminated or false otherwise.
+         */
+        private boolean applyFish(int k, Technique technique) {
+            final int[] scannedAt = valueScannedAt[k - 2];
+            for(int value = 0; value < size; value++) {
+                if(scannedAt[value] >= valueChangedAt[value]) {
+                    continue;
+                }
+                final long bit = 1L << value;
+                for(final HouseType baseType : new HouseType[] {HouseType.ROW, HouseType.COLUMN}) {
+                    int count = 0;
+                    Arrays.fill(positionCounts, 0);
+                    for(int line = 0; line < size; line++) {
+                        long positions = 0;
+                        for(int position = 0; position < size; position++) {
+                            if((candidates[topology.getHouseCell(baseType, line, position)] & bit) != 0) {
+                                positions |= 1L << position;
+                                positionCounts[position]++;
+                            }
+                        }
+                        maskBuffer[line] = positions;
+                        if(Long.bitCount(positions) >= 2 && Long.bitCount(positions) <= k) {
+                            houseBuffer[count++] = line;
+                        }
+                    }
+                    for(int first = 0; first < count; first++) {
+                        for(int second = first + 1; second < count; second++) {
+                            final long pairCover = maskBuffer[houseBuffer[first]] | maskBuffer[houseBuffer[second]];
+                            final long pairBase = (1L << houseBuffer[first]) | (1L << houseBuffer[second]);
+                            final int pairCount = Long.bitCount(maskBuffer[houseBuffer[first]]) + Long.bitCount(maskBuffer[houseBuffer[second]]);
+                            if(k == 2) {
+                                if(Long.bitCount(pairCover) == 2 && coverCount(pairCover) > pairCount && eliminateFish(baseType, pairBase, pairCover, bit, technique)) {
+                                    return true;
+                                }
+                                continue;
+                            }
+                            if(Long.bitCount(pairCover) > 3) {
+                                continue;
+                            }
+                            for(int third = second + 1; third < count; third++) {
+                                final long tripleCover = pairCover | maskBuffer[houseBuffer[third]];
+                                if(Long.bitCount(tripleCover) == 3 && coverCount(tripleCover) > pairCount + Long.bitCount(maskBuffer[houseBuffer[third]]) && eliminateFish(baseType, pairBase | (1L << houseBuffer[third]), tripleCover, bit, technique)) {
+                                    return true;
+                                }
+                            }
+                        }
+                    }
+                }
+                scannedAt[value] = clock;
+            }
+            return false;
+        }
+
+        /**
+         * @param cover bitmask of the cover lines of a fish, as positions in the base lines.
+         * @return number of candidates of the value examined in the cover lines.
+         */
+        private int coverCount(long cover) {
+            int count = 0;
+            for(long remaining = cover; remaining != 0; remaining &= remaining - 1) {
+                count += positionCounts[Long.numberOfTrailingZeros(remaining)];
+            }
+            return count;
+        }
+
+        /**
+         * Eliminates a value from the cells of the cover lines of a fish which are outside its base lines.
+         * @param baseType type of the base lines.
+         * @param base bitmask of the base lines.
+         * @param cover bitmask of the cover lines, as positions in the base lines.
+         * @param bit bit of the value.
+         * @param technique technique of the number of lines.
+         * @return true if candidates were eliminated or false otherwise.
+         */
+        private boolean eliminateFish(HouseType baseType, long base, long cover, long bit, Technique technique) {
+            for(int line = 0; line < size; line++) {
+                if((base & (1L << line)) != 0) {
+                    continue;
+                }
+                for(long remaining = cover; remaining != 0; remaining &= remaining - 1) {
+                    eliminate(topology.getHouseCell(baseType, line, Long.numberOfTrailingZeros(remaining)), bit);
+                }
+            }
+            return commit(technique);
+        }
+
+        /**
+         * Finds a pivot cell with candidates xy seeing a cell with candidates xz and a cell with
+         * candidates yz, and eliminates z from the cells which see both of the latter cells. The peers of
+         * every pivot are visited once to collect the candidate pincers, and only the pincers are paired,
+         * so a pass costs the peers of every bivalue cell plus the pairs of its pincers.
+         * @return true if candidates were eliminated or false otherwise.
+         */
+        private boolean applyXyWing() {
+            if(xyWingScannedAt == clock) {
+                return false;
+            }
+            final int peerCount = topology.getPeerCount();
+            for(int pivot = 0; pivot < values.length; pivot++) {
+                final long pivotCandidates = candidates[pivot];
+                if(Long.bitCount(pivotCandidates) != 2) {
+                    continue;
+                }
+                int pincerCount = 0;
+                for(int position = 0; position < peerCount; position++) {
+                    final int peer = topology.getPeer(pivot, position);
+                    if(Long.bitCount(candidates[peer]) == 2 && Long.bitCount(candidates[peer] & pivotCandidates) == 1) {
+                        pincerBuffer[pincerCount++] = peer;
+                    }
+                }
+                for(int first = 0; first < pincerCount; first++) {
+                    final int pincer = pincerBuffer[first];
+                    final long z = candidates[pincer] & ~pivotCandidates;
+                    final long otherPincerCandidates = (pivotCandidates & ~candidates[pincer]) | z;
+                    for(int second = first + 1; second < pincerCount; second++) {
+                        final int otherPincer = pincerBuffer[second];
+                        if(candidates[otherPincer] != otherPincerCandidates) {
+                            continue;
+                        }
+                        for(int position = 0; position < peerCount; position++) {
+                            final int cell = topology.getPeer(pincer, position);
+                            if(cell != otherPincer && topology.areRelated(cell, otherPincer)) {
+                                eliminate(cell, z);
+                            }
+                        }
+                        if(commit(Technique.XY_WING)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            xyWingScannedAt = clock;
+            return false;
+        }
+
+        /**
+         * Places the value of the empty cell with the fewest candidates taken from a solution found by
+         * search. The solution is searched once and reused, as the steps are valid for every solution.
+         * @return true if a value was placed or false if the grid has no solution.
+         */
+        private boolean guess() {
+            if(solution == null) {
+                final BitboardSearch search = BitboardSearch.workspace(topology);
+                if(!search.load(values)) {
+                    return false;
+                }
+                final boolean found = budget == null ? search.search(1) == 1 : search.solve(budget) == SolveStatus.SOLVED;
+                searchNodes += search.getNodeCount();
+                searchBacktracks += search.getBacktrackCount();
+                searchDepth = Math.max(searchDepth, search.getMaxDepth());
+                if(!found) {
+                    return false;
+                }
+                solution = search.getSolution().clone();
+            }
+            int best = -1;
+            for(int cell = 0; cell < values.length; cell++) {
+                if(values[cell] == 0 && (best < 0 || Long.bitCount(candidates[cell]) < Long.bitCount(candidates[best]))) {
+                    best = cell;
+                }
+            }
+            place(best, solution[best], Technique.SEARCH);
+            return !contradiction;
+        }
+    }
+
+    /**
+     * Solves the grid and returns the steps which solved it.
+     * @param grid the sudoku grid.
+     * @return unmodifiable list of the steps in the order they were applied.
+     * @throws NullPointerException thrown if grid argument is null.
+     * @throws InvalidSudokuException thrown when the puzzle does not have a solution.
+     */
+    public List<SolveStep> solveWithSteps(Grid grid) throws InvalidSudokuException {
+        Validator.validateGrid(grid);
+        grid.validateGrid();
+        final int[] givens = grid.toFlatArray();
+        final List<SolveStep> steps = new ArrayList<>();
+        final Engine engine = new Engine(grid.getTopology(), givens, steps, false);
+        if(!engine.run()) {
+            throw new InvalidSudokuException();
+        }
+        SolverUtils.writeSolution(grid, givens, engine.getValues());
+        return Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * Finds the next value which can be placed in the grid, without modifying the grid.
+     * @param grid the sudoku grid.
+     * @return unmodifiable list of the eliminations leading to the next placement followed by the placement, or an empty list if the grid is full.
+     * @throws NullPointerException thrown if grid argument is null.
+     * @throws InvalidSudokuException thrown when the puzzle does not have a solution.
+     */
+    public List<SolveStep> hint(Grid grid) throws InvalidSudokuException {
+        Validator.validateGrid(grid);
+        grid.validateGrid();
+        final List<SolveStep> steps = new ArrayList<>();
+        if(!new Engine(grid.getTopology(), grid.toFlatArray(), steps, true).run()) {
+            throw new InvalidSudokuException();
+        }
+        return Collections.unmodifiableList(steps);
+    }
+
+    @Override
+    public void solve(Grid grid) throws InvalidSudokuException {
+        solveWithSteps(grid);
+    }
+
+    /**
+     * Solves the sudoku puzzle within limits with the same techniques as {@link #solve(Grid)}, checking 
+     * the limits before every step. The values placed by the techniques are recorded as propagations 
+     * and the search for the values which no technique can place as nodes and backtracks.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+        Validator.validateGrid(grid);
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        if(stats != null) {
+            stats.begin();
+        }
+        SolveStatus status = null;
+        try {
+            status = solveWithin(grid, limits, stats);
+            return status;
+        } finally {
+            if(stats != null) {
+                stats.end(status);
+            }
+        }
+    }
+
+    /**
+     * Applies the techniques, and search where none applies, within the limits.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return the status of the solve.
+     */
+    private SolveStatus solveWithin(Grid grid, SolveLimits limits, SolveStats stats) {
+        final SolveBudget budget = limits.start();
+        SolveStatus status = budget.check(0, 0) ? SolveStatus.UNSOLVABLE : budget.getStatus();
+        if(status == SolveStatus.UNSOLVABLE && grid.validate().isValid()) {
+            final int[] givens = grid.toFlatArray();
+            final Engine engine = new Engine(grid.getTopology(), givens, null, false);
+            if(engine.run(budget)) {
+                status = SolveStatus.SOLVED;
+                SolverUtils.writeSolution(grid, givens, engine.getValues());
+            } else if(budget.getStatus() != null) {
+                status = budget.getStatus();
+            }
+            engine.addTo(stats);
+        }
+        return status;
+    }
+}
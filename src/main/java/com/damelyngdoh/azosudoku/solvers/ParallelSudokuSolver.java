@@ -0,0 +1,300 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.Topology;
+import com.damelyngdoh.azosudoku.Validator;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+
+/**
+ * Solver which splits the top levels of the search tree into tasks of a {@link ForkJoinPool}, so that
+ * the branches are searched on several cores at once. Down to the split depth, the empty cell with the
+ * fewest permissible values is chosen and a task is forked for each of its values, working on its own
+ * copy of the grid. Below the split depth, each task searches its branch sequentially with the same
+ * bitboard search as {@link BitboardSudokuSolver}. As soon as a task finds a solution, the other tasks
+ * stop at their next check. The tasks publish their counts as they search, and the calling thread checks
+ * the limits of the solve against them while it waits, stopping the tasks when a limit is exceeded.
+ *
+ * @author Dame Lyngdoh
+ */
+public class ParallelSudokuSolver implements SudokuSolver {
+
+    /**
+     * Default number of levels of the search tree split into tasks.
+     */
+    public static final int DEFAULT_SPLIT_DEPTH = 2;
+
+    /**
+     * Interval in milliseconds at which the calling thread checks the limits while the tasks search.
+     */
+    private static final long CHECK_INTERVAL_MILLIS = 10;
+
+    /**
+     * Pool running the tasks.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Number of levels of the search tree split into tasks.
+     */
+    private final int splitDepth;
+
+    /**
+     * Progress of a solve shared by its tasks: the solution found, the counts published by the tasks 
+     * and the flag set by the calling thread when a limit is exceeded.
+     */
+    private static final class Progress {
+
+        private final AtomicReference<int[]> solution = new AtomicReference<>();
+        private final LongAdder nodes = new LongAdder();
+        private final LongAdder backtracks = new LongAdder();
+        private final AtomicInteger maxDepth = new AtomicInteger();
+        private volatile boolean stopped;
+
+        /**
+         * @return true if a solution was found or the solve was stopped, or false if the tasks can go on.
+         */
+        boolean isOver() {
+            return stopped || solution.get() != null;
+        }
+    }
+
+    /**
+     * Task searching the branch of the search tree rooted at a partially filled grid.
+     */
+    private final class SearchTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Grid grid;
+        private final int depth;
+        private final Progress progress;
+        private long publishedNodes;
+        private long publishedBacktracks;
+
+        SearchTask(Grid grid, int depth, Progress progress) {
+            this.grid = grid;
+            this.depth = depth;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            if(progress.isOver()) {
+                return;
+            }
+            if(depth >= splitDepth) {
+                searchSequentially();
+                return;
+            }
+            final Topology topology = grid.getTopology();
+            final int[] values = grid.toFlatArray();
+            int bestCell = -1;
+            long bestCandidates = 0;
+            for(int cell = 0; cell < values.length; cell++) {
+                if(values[cell] != 0) {
+                    continue;
+                }
+                final long candidates = grid.getCandidateMask(topology.getRow(cell), topology.getColumn(cell));
+                if(bestCell < 0 || Long.bitCount(candidates) < Long.bitCount(bestCandidates)) {
+                    bestCell = cell;
+                    bestCandidates = candidates;
+                    if(Long.bitCount(candidates) <= 1) {
+                        break;
+                    }
+                }
+            }
+            if(bestCell < 0) {
+                progress.solution.compareAndSet(null, values);
+                return;
+            }
+            if(bestCandidates == 0) {
+                progress.backtracks.increment();
+                return;
+            }
+            progress.nodes.add(Long.bitCount(bestCandidates));
+            progress.maxDepth.accumulateAndGet(depth + 1, Math::max);
+            final List<SearchTask> tasks = new ArrayList<>(Long.bitCount(bestCandidates));
+            for(long candidates = bestCandidates; candidates != 0; candidates &= candidates - 1) {
+                final Grid branch = grid.copy();
+                SolverUtils.setValue(branch, topology.getRow(bestCell), topology.getColumn(bestCell), Long.numberOfTrailingZeros(candidates) + 1);
+                tasks.add(new SearchTask(branch, depth + 1, progress));
+            }
+            invokeAll(tasks);
+        }
+
+        /**
+         * Searches the branch on the current thread, publishing the counts of the search periodically and 
+         * stopping when another task has found a solution or the solve was stopped.
+         */
+        private void searchSequentially() {
+            final BitboardSearch search = BitboardSearch.workspace(grid.getTopology());
+            if(!search.load(grid.toFlatArray())) {
+                progress.backtracks.increment();
+                return;
+            }
+            final int found = search.search(1, () -> {
+                publish(search);
+                return progress.isOver();
+            });
+            publish(search);
+            progress.maxDepth.accumulateAndGet(depth + search.getMaxDepth(), Math::max);
+            if(found == 1) {
+                progress.solution.compareAndSet(null, search.getSolution().clone());
+            }
+        }
+
+        /**
+         * Adds the counts of the search since they were last published to the progress of the solve.
+         * @param search the search of the task.
+         */
+        private void publish(BitboardSearch search) {
+            progress.nodes.add(search.getNodeCount() - publishedNodes);
+            progress.backtracks.add(search.getBacktrackCount() - publishedBacktracks);
+            publishedNodes = search.getNodeCount();
+            publishedBacktracks = search.getBacktrackCount();
+        }
+    }
+
+    /**
+     * Constructs a new ParallelSudokuSolver object running on the common pool with the default split depth.
+     */
+    public ParallelSudokuSolver() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SPLIT_DEPTH);
+    }
+
+    /**
+     * Constructs a new ParallelSudokuSolver object.
+     * @param pool pool running the tasks.
+     * @param splitDepth number of levels of the search tree split into tasks, 0 to search sequentially on the pool.
+     * @throws NullPointerException thrown if pool argument is null.
+     * @throws IllegalArgumentException thrown if splitDepth is negative.
+     */
+    public ParallelSudokuSolver(ForkJoinPool pool, int splitDepth) {
+        if(pool == null) {
+            throw new NullPointerException("Null pool passed.");
+        }
+        if(splitDepth < 0) {
+            throw new IllegalArgumentException(String.format("Invalid split depth %d. Must not be negative.", splitDepth));
+        }
+        this.pool = pool;
+        this.splitDepth = splitDepth;
+    }
+
+    /**
+     * @return pool running the tasks.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * @return number of levels of the search tree split into tasks.
+     */
+    public int getSplitDepth() {
+        return splitDepth;
+    }
+
+    /**
+     * Solves the grid with the tasks of the pool.
+     * @param grid the sudoku grid.
+     * @throws InvalidSudokuException thrown when the puzzle does not have a solution.
+     * @throws CancellationException thrown if the calling thread is interrupted while waiting for the tasks, in which case the interrupt flag of the thread is set.
+     */
+    @Override
+    public void solve(Grid grid) throws InvalidSudokuException {
+        Validator.validateGrid(grid);
+        SolverUtils.requireSolved(solve(grid, SolveLimits.NONE, null));
+    }
+
+    /**
+     * Solves the sudoku puzzle within limits with the tasks of the pool. The calling thread checks the 
+     * limits against the counts published by the tasks while it waits, and records the values placed 
+     * and the dead ends of all the tasks. An interrupt of the calling thread stops the tasks.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+        Validator.validateGrid(grid);
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        if(stats != null) {
+            stats.begin();
+        }
+        SolveStatus status = null;
+        try {
+            status = solveWithin(grid, limits, stats);
+            return status;
+        } finally {
+            if(stats != null) {
+                stats.end(status);
+            }
+        }
+    }
+
+    /**
+     * Runs the search tasks on the pool within the limits and adds up the counts they publish.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return the status of the solve.
+     */
+    private SolveStatus solveWithin(Grid grid, SolveLimits limits, SolveStats stats) {
+        final SolveBudget budget = limits.start();
+        SolveStatus status = budget.check(0, 0) ? SolveStatus.UNSOLVABLE : budget.getStatus();
+        if(status == SolveStatus.UNSOLVABLE && grid.validate().isValid()) {
+            final Progress progress = new Progress();
+            await(pool.submit(new SearchTask(grid.copy(), 0, progress)), progress, budget);
+            if(progress.solution.get() != null) {
+                status = SolveStatus.SOLVED;
+                SolverUtils.writeSolution(grid, grid.toFlatArray(), progress.solution.get());
+            } else if(budget.getStatus() != null) {
+                status = budget.getStatus();
+            }
+            if(stats != null) {
+                stats.addSearch(progress.nodes.sum(), progress.backtracks.sum(), progress.maxDepth.get());
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Waits for the tasks of a solve, checking the budget against the counts published by the tasks 
+     * periodically and stopping the tasks as soon as it is exceeded.
+     * @param task the root task of the solve.
+     * @param progress the progress of the solve.
+     * @param budget the budget of the solve.
+     */
+    private static void await(ForkJoinTask<Void> task, Progress progress, SolveBudget budget) {
+        while(!task.isDone()) {
+            try {
+                task.get(CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if(!budget.check(progress.nodes.sum(), progress.backtracks.sum())) {
+                progress.stopped = true;
+                task.quietlyJoin();
+            }
+        }
+        task.join();
+    }
+}
@@ -0,0 +1,273 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.Validator;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+
+/**
+ * Solver which races several strategies against each other. Every strategy solves its own copy of the
+ * grid concurrently through {@link SudokuSolver#solve(Grid, SolveLimits, SolveStats)}. The first strategy
+ * to find a solution wins, the other strategies are interrupted and the solution of the winner is copied
+ * back into the grid. The first strategy to find the puzzle unsolvable ends the race in the same way.
+ * The solvers of this package check the interrupt flag while they search, so the losing strategies stop
+ * shortly after the race ends. The number of races won by every strategy is recorded. A portfolio which
+ * created its own executor must be closed to release its threads.
+ *
+ * @author Dame Lyngdoh
+ */
+public class PortfolioSudokuSolver implements SudokuSolver, AutoCloseable {
+
+    /**
+     * Strategies raced against each other.
+     */
+    private final List<SudokuSolver> strategies;
+
+    /**
+     * Executor running the strategies.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * True if the executor was created by the portfolio and is shut down when it is closed.
+     */
+    private final boolean ownsExecutor;
+
+    /**
+     * Number of races won by every strategy, indexed the same way as the strategies.
+     */
+    private final AtomicLongArray wins;
+
+    /**
+     * Constructs a new PortfolioSudokuSolver object running the strategies on daemon threads created as 
+     * needed, which are released when the portfolio is closed.
+     * @param strategies strategies raced against each other.
+     * @throws NullPointerException thrown if strategies argument or any of the strategies is null.
+     * @throws IllegalArgumentException thrown if no strategy is passed.
+     */
+    public PortfolioSudokuSolver(SudokuSolver... strategies) {
+        this(List.of(strategies), Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "portfolio-sudoku-solver");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * Constructs a new PortfolioSudokuSolver object.
+     * @param strategies strategies raced against each other.
+     * @param executor executor running the strategies, which must be able to run all the strategies at once. The executor is owned by the caller and is not shut down when the portfolio is closed.
+     * @throws NullPointerException thrown if strategies or executor arguments or any of the strategies is null.
+     * @throws IllegalArgumentException thrown if no strategy is passed.
+     */
+    public PortfolioSudokuSolver(List<? extends SudokuSolver> strategies, ExecutorService executor) {
+        this(strategies, executor, false);
+    }
+
+    /**
+     * Constructs a new PortfolioSudokuSolver object.
+     * @param strategies strategies raced against each other.
+     * @param executor executor running the strategies.
+     * @param ownsExecutor true if the executor is shut down when the portfolio is closed.
+     */
+    private PortfolioSudokuSolver(List<? extends SudokuSolver> strategies, ExecutorService executor, boolean ownsExecutor) {
+        if(strategies == null) {
+            throw new NullPointerException("Null strategies passed.");
+        }
+        if(executor == null) {
+            throw new NullPointerException("Null executor passed.");
+        }
+        this.strategies = List.copyOf(strategies);
+        if(this.strategies.isEmpty()) {
+            throw new IllegalArgumentException("No strategy passed.");
+        }
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.wins = new AtomicLongArray(this.strategies.size());
+    }
+
+    /**
+     * @return unmodifiable list of the strategies raced against each other.
+     */
+    public List<SudokuSolver> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * Gets the number of races won by the strategy at the index of the list of strategies.
+     * @param strategyIndex index of the strategy.
+     * @return number of races won.
+     * @throws IndexOutOfBoundsException thrown if strategyIndex is not an index of the list of strategies.
+     */
+    public long getWins(int strategyIndex) {
+        return wins.get(strategyIndex);
+    }
+
+    /**
+     * Gets a snapshot of the number of races won by every strategy.
+     * @return unmodifiable map of the strategies to the number of races they won, in the order of the strategies.
+     */
+    public Map<SudokuSolver,Long> getWinStatistics() {
+        final Map<SudokuSolver,Long> statistics = new LinkedHashMap<>();
+        for(int index = 0; index < strategies.size(); index++) {
+            statistics.put(strategies.get(index), wins.get(index));
+        }
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Resets the number of races won by every strategy to 0.
+     */
+    public void resetWinStatistics() {
+        for(int index = 0; index < strategies.size(); index++) {
+            wins.set(index, 0);
+        }
+    }
+
+    /**
+     * Solves the grid with the first strategy which finds a solution, interrupting the other strategies.
+     * @param grid the sudoku grid.
+     * @throws InvalidSudokuException thrown when a strategy finds the puzzle unsolvable.
+     * @throws CancellationException thrown if the calling thread is interrupted while waiting for the strategies, in which case the interrupt flag of the thread is set.
+     * @throws RejectedExecutionException thrown if the portfolio was closed.
+     */
+    @Override
+    public void solve(Grid grid) throws InvalidSudokuException {
+        SolverUtils.requireSolved(solve(grid, SolveLimits.NONE, null));
+    }
+
+    /**
+     * Solves the grid within limits with the first strategy which finds a solution. Every strategy solves 
+     * within the limits on its own thread and records its own statistics, and the statistics of the 
+     * strategies which finished before the race ended are added up. The race ends as soon as a strategy 
+     * finds a solution or finds the puzzle unsolvable, without waiting for the slower strategies. When 
+     * every strategy stops without either, the status of the first limit exceeded is returned. When no 
+     * strategy finds a solution or finds the puzzle unsolvable and a strategy fails, the failure of the 
+     * first strategy to fail is rethrown, even if other strategies exceeded a limit, so a failing strategy 
+     * is not hidden by a timeout. The failure of a strategy is ignored when another strategy ends the race. 
+     * An interrupt of the calling thread interrupts the strategies and returns {@link SolveStatus#INTERRUPTED}.
+     * @param grid the sudoku grid.
+     * @param limits the limits of every strategy.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     * @throws RejectedExecutionException thrown if the portfolio was closed.
+     * @throws IllegalStateException thrown if a strategy failed without another ending the race and the first failure is a checked exception, which is the cause.
+     */
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+        Validator.validateGrid(grid);
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        if(stats != null) {
+            stats.begin();
+        }
+        SolveStatus status = null;
+        try {
+            status = race(grid, limits, stats);
+            return status;
+        } finally {
+            if(stats != null) {
+                stats.end(status);
+            }
+        }
+    }
+
+    /**
+     * Races the strategies on copies of the grid and writes the solution of the winner into the grid.
+     * @param grid the sudoku grid.
+     * @param limits the limits of every strategy.
+     * @param stats the statistics to which the statistics of the finished strategies are added, or null.
+     * @return the status of the race.
+     */
+    private SolveStatus race(Grid grid, SolveLimits limits, SolveStats stats) {
+        final int[] values = grid.toFlatArray();
+        final CompletionService<SolveStatus> completionService = new ExecutorCompletionService<>(executor);
+        final List<Future<SolveStatus>> futures = new ArrayList<>(strategies.size());
+        final Grid[] copies = new Grid[strategies.size()];
+        final SolveStats[] strategyStats = new SolveStats[strategies.size()];
+        SolveStatus status = null;
+        boolean unsolvable = false;
+        boolean interrupted = false;
+        Throwable failure = null;
+        try {
+            for(int index = 0; index < strategies.size(); index++) {
+                final SudokuSolver strategy = strategies.get(index);
+                final Grid copy = copies[index] = grid.copy();
+                final SolveStats recorded = strategyStats[index] = new SolveStats();
+                futures.add(completionService.submit(() -> strategy.solve(copy, limits, recorded)));
+            }
+            for(int finished = 0; finished < futures.size() && status != SolveStatus.SOLVED && !unsolvable; finished++) {
+                final Future<SolveStatus> future = completionService.take();
+                final int index = futures.indexOf(future);
+                try {
+                    final SolveStatus strategyStatus = future.get();
+                    if(stats != null) {
+                        stats.add(strategyStats[index]);
+                    }
+                    if(strategyStatus == SolveStatus.SOLVED) {
+                        wins.incrementAndGet(index);
+                        SolverUtils.writeSolution(grid, values, copies[index].toFlatArray());
+                        status = SolveStatus.SOLVED;
+                    } else if(strategyStatus == SolveStatus.UNSOLVABLE) {
+                        unsolvable = true;
+                    } else if(status == null) {
+                        status = strategyStatus;
+                    }
+                } catch (ExecutionException e) {
+                    if(failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interrupted = true;
+            status = SolveStatus.INTERRUPTED;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        if(status == SolveStatus.SOLVED || interrupted) {
+            return status;
+        }
+        if(unsolvable) {
+            return SolveStatus.UNSOLVABLE;
+        }
+        if(failure == null) {
+            return status;
+        }
+        if(failure instanceof Error) {
+            throw (Error)failure;
+        }
+        if(failure instanceof RuntimeException) {
+            throw (RuntimeException)failure;
+        }
+        throw new IllegalStateException(failure);
+    }
+
+    /**
+     * Shuts down the executor running the strategies if the portfolio created it, interrupting the 
+     * strategies still running. An executor passed by the caller is left running.
+     */
+    @Override
+    public void close() {
+        if(ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.GridSnapshot;
+import com.damelyngdoh.azosudoku.Validator;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+
+/**
+ * Decorator which fills the forced cells of the grid with a {@link ConstraintPropagator} before 
+ * handing the grid to another solver, so that the other solver does not search on cells whose value 
+ * is forced. The grid is handed over through {@link SudokuSolver#solve(Grid, SolveLimits, SolveStats, ConstraintPropagator)}, 
+ * so a solver which implements it keeps propagating at every node of its search: every value it tries 
+ * is assigned through the propagator, the cells forced by the value are never guessed and a value leading 
+ * to a contradiction is reverted at once. {@link SimpleSudokuSolver} and {@link SortedSimpleSudokuSolver} 
+ * do, and {@link InstrumentedSudokuSolver} passes the propagator on to its delegate. Other solvers only 
+ * start from the propagated grid. If the grid is not solved, the values filled by the propagation are reverted.
+ * 
+ * @author Dame Lyngdoh
+ */
+public class PropagatingSolver implements SudokuSolver {
+
+    /**
+     * Solver which solves the grid after the propagation.
+     */
+    private final SudokuSolver delegate;
+
+    /**
+     * Propagation engine applied before the delegate solver.
+     */
+    private final ConstraintPropagator propagator;
+
+    /**
+     * Constructs a new PropagatingSolver object with a default propagator.
+     * @param delegate solver which solves the grid after the propagation.
+     * @throws NullPointerException thrown if delegate argument is null.
+     */
+    public PropagatingSolver(SudokuSolver delegate) {
+        this(delegate, new ConstraintPropagator());
+    }
+
+    /**
+     * Constructs a new PropagatingSolver object.
+     * @param delegate solver which solves the grid after the propagation.
+     * @param propagator propagation engine applied before the delegate solver.
+     * @throws NullPointerException thrown if delegate or propagator arguments are null.
+     */
+    public PropagatingSolver(SudokuSolver delegate, ConstraintPropagator propagator) {
+        if(delegate == null) {
+            throw new NullPointerException("Null delegate solver passed.");
+        }
+        if(propagator == null) {
+            throw new NullPointerException("Null propagator passed.");
+        }
+        this.delegate = delegate;
+        this.propagator = propagator;
+    }
+
+    /**
+     * @return solver which solves the grid after the propagation.
+     */
+    public SudokuSolver getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void solve(Grid grid) throws InvalidSudokuException {
+        Validator.validateGrid(grid);
+        SolverUtils.requireSolved(solveWithin(grid, SolveLimits.NONE, null));
+    }
+
+    /**
+     * Solves the grid within limits by propagating and then handing the grid to the delegate solver, 
+     * the limits applying to the delegate solver. The search of the delegate solver propagates at every 
+     * node when it implements the propagating solve. The values placed by the propagation are added to the statistics. When 
+     * the puzzle is not solved, the values filled by the propagation are reverted.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the delegate solver.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+        Validator.validateGrid(grid);
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        if(stats != null) {
+            stats.begin();
+        }
+        SolveStatus status = null;
+        try {
+            status = solveWithin(grid, limits, stats);
+            return status;
+        } finally {
+            if(stats != null) {
+                stats.end(status);
+            }
+        }
+    }
+
+    /**
+     * Propagates the forced values and solves the rest with the delegate, reverting the grid when it is not solved, 
+     * even when the delegate throws or discards the trail of the grid.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return the status of the solve.
+     */
+    private SolveStatus solveWithin(Grid grid, SolveLimits limits, SolveStats stats) {
+        final boolean trailActive = grid.isTrailActive();
+        final int checkpoint = grid.mark();
+        final GridSnapshot input = grid.snapshot();
+        SolveStatus status = SolveStatus.UNSOLVABLE;
+        try {
+            if(grid.validate().isValid() && propagator.propagate(grid)) {
+                if(stats != null) {
+                    stats.addPropagations(grid.mark() - checkpoint);
+                }
+                status = delegate.solve(grid, limits, stats, propagator);
+            }
+        } finally {
+            if(status != SolveStatus.SOLVED) {
+                SolverUtils.revert(grid, checkpoint, input);
+            }
+            if(!trailActive) {
+                grid.clearTrail();
+            }
+        }
+        return status;
+    }
+}
@@ -1,10 +1,10 @@
 package com.damelyngdoh.azosudoku.solvers;
 
 import java.util.List;
-import java.util.Set;
 
 import com.damelyngdoh.azosudoku.Cell;
 import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.Topology;
 import com.damelyngdoh.azosudoku.Validator;
 import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
 import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
@@ -12,7 +12,8 @@ import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
 /**
  * This implementation is a brute-force style approach where each permissible 
  * value is used on a cell until, and this is done for all the cells until 
- * there are no emtpy cells in the grid.
+ * there are no emtpy cells in the grid. The search is iterative, hence large 
+ * grids do not risk overflowing the stack of the thread.
  * 
  * @author Dame Lyngdoh
  */
@@ -31,43 +32,191 @@ public class SimpleSudokuSolver implements SudokuSolver {
     }
 
     /**
-     * Solves the sudoku by calling itself recursively and each invocation will proceed to the 
-     * next empty cell in the list of empty cells specified by the emptyCellsList argument. The 
-     * currentIndex marks the current cell in the list being processed.
+     * Solves the sudoku by filling the empty cells specified by the emptyCellsList argument in order, 
+     * trying the permissible values of every cell and backtracking to the previous cell when a cell has 
+     * no permissible value left. The search runs on preallocated stacks of the candidates left to try 
+     * and of the trail checkpoints of every cell, so the depth of the search is not bound by the stack 
+     * of the thread. The values set by a failed attempt are reverted through the trail of the grid.
+     * 
+     * When a propagator is passed, every value tried is assigned through the propagator, so the cells 
+     * forced by the value are filled at once and a value leading to a contradiction is reverted without 
+     * searching below it. The cells of the list filled by propagation are skipped, both when going down 
+     * and when backtracking. The grid is expected to be propagated before the search starts.
      * @param grid the grid context.
      * @param emptyCellsList the list of empty cells of the grid.
-     * @param currentIndex the current index of the emtpy cells list which the recursion has reached.
-     * @return true if from the perspective of the current index a value was set and no invalid empty cell was encountered or false otherwise.
+     * @param budget the budget counting the values set and the dead ends, or null for an unlimited search.
+     * @param propagator the propagator assigning the values tried, or null to set the values only.
+     * @return true if all the empty cells were filled or false if the grid has no solution or a limit was exceeded.
      */
-    boolean solveRecursively(Grid grid, List<Cell> emptyCellsList, int currentIndex) {
-        if(currentIndex >= emptyCellsList.size()) {
+    boolean search(Grid grid, List<Cell> emptyCellsList, SolveBudget budget, ConstraintPropagator propagator) {
+        final int count = emptyCellsList.size();
+        if(count == 0) {
             return true;
         }
-        final Cell currentCell = emptyCellsList.get(currentIndex);
-        Set<Integer> permissibleValues = grid.getPermissibleValues(currentCell);
-        if(permissibleValues.isEmpty()) {
-            return false;
-        }
-        for(Integer value : permissibleValues) {
-            setValue(currentCell, value);
-            if(solveRecursively(grid, emptyCellsList, currentIndex + 1)) {
+        final Topology topology = grid.getTopology();
+        final Cell[] cells = emptyCellsList.toArray(new Cell[count]);
+        final long[] remaining = new long[count];
+        final int[] checkpoints = new int[count];
+        final int[] queue = propagator == null ? null : new int[topology.getCellCount()];
+        int depth = 0;
+        remaining[depth] = grid.getCandidateMask(cells[depth].getRow(), cells[depth].getColumn());
+        checkpoints[depth] = grid.mark();
+        while(depth >= 0) {
+            if(remaining[depth] == 0) {
+                do {
+                    --depth;
+                } while(depth >= 0 && checkpoints[depth] < 0);
+                if(depth >= 0) {
+                    grid.undoTo(checkpoints[depth]);
+                    if(budget != null && !budget.countBacktrack()) {
+                        return false;
+                    }
+                }
+                continue;
+            }
+            if(budget != null && !budget.countNode(depth + 1)) {
+                return false;
+            }
+            final long bit = remaining[depth] & -remaining[depth];
+            remaining[depth] ^= bit;
+            final int value = Long.numberOfTrailingZeros(bit) + 1;
+            if(propagator == null) {
+                setValue(cells[depth], value);
+            } else {
+                final boolean consistent = propagator.assign(grid, topology.getIndex(cells[depth].getRow(), cells[depth].getColumn()), value, queue);
+                if(budget != null) {
+                    budget.countPropagations(Math.max(0, grid.mark() - checkpoints[depth] - 1));
+                }
+                if(!consistent) {
+                    grid.undoTo(checkpoints[depth]);
+                    if(budget != null && !budget.countBacktrack()) {
+                        return false;
+                    }
+                    continue;
+                }
+            }
+            ++depth;
+            while(propagator != null && depth < count && !cells[depth].isEmpty()) {
+                checkpoints[depth++] = -1;
+            }
+            if(depth == count) {
                 return true;
             }
-            currentCell.removeValue();
+            remaining[depth] = grid.getCandidateMask(cells[depth].getRow(), cells[depth].getColumn());
+            checkpoints[depth] = grid.mark();
         }
         return false;
     }
 
+    /**
+     * Orders the empty cells of the grid in which they are filled by the search.
+     * @param grid the grid to solve.
+     * @return the empty cells of the grid in the order in which they are filled.
+     */
+    List<Cell> orderEmptyCells(Grid grid) {
+        return List.copyOf(grid.getEmptyCells());
+    }
+
     @Override
     public void solve(Grid grid) throws InvalidSudokuException {
         Validator.validateGrid(grid);
         if(grid.hasEmptyAndInvalidCells()) {
             throw new InvalidSudokuException();
         }
-        final List<Cell> list = List.copyOf(grid.getEmptyCells());
-        if(!solveRecursively(grid, list, 0)) {
+        if(solveWithTrail(grid, orderEmptyCells(grid), null, null) != SolveStatus.SOLVED) {
             throw new InvalidSudokuException();
         }
     }
+
+    /**
+     * Solves the sudoku puzzle within limits with the same search as {@link #solve(Grid)}, recording 
+     * the statistics of the solve. When the puzzle is not solved, the values set by the search are reverted.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+        return solve(grid, limits, stats, null);
+    }
+
+    /**
+     * Solves the propagated sudoku puzzle within limits with the search of {@link #solve(Grid)} in 
+     * propagating mode: every value tried is assigned through the propagator, so the cells forced by the 
+     * value are never guessed and a value leading to a contradiction is reverted at once, counting as a 
+     * backtrack. When the puzzle is not solved, the values set by the search are reverted. A subclass 
+     * which overrides the other solve methods should override this one too.
+     * @param grid the sudoku grid, propagated.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @param propagator the propagator assigning the values tried by the search, or null to search without propagation.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    @Override
+    public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats, ConstraintPropagator propagator) {
+        Validator.validateGrid(grid);
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        if(stats != null) {
+            stats.begin();
+        }
+        SolveStatus status = null;
+        try {
+            status = solveWithin(grid, limits, stats, propagator);
+            return status;
+        } finally {
+            if(stats != null) {
+                stats.end(status);
+            }
+        }
+    }
+
+    /**
+     * Searches the empty cells of the grid within the limits, reverting the values set when no solution is found.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @param propagator the propagator assigning the values tried, or null to set the values only.
+     * @return the status of the solve.
+     */
+    private SolveStatus solveWithin(Grid grid, SolveLimits limits, SolveStats stats, ConstraintPropagator propagator) {
+        final SolveBudget budget = limits.start();
+        SolveStatus status = budget.check(0, 0) ? SolveStatus.UNSOLVABLE : budget.getStatus();
+        if(status == SolveStatus.UNSOLVABLE && !grid.hasEmptyAndInvalidCells()) {
+            status = solveWithTrail(grid, orderEmptyCells(grid), budget, propagator);
+            budget.addTo(stats);
+        }
+        return status;
+    }
+
+    /**
+     * Solves the grid by filling the cells of the list in order, recording the value changes in the 
+     * trail of the grid for the duration of the search unless the trail was already active. When the 
+     * search fails, the values it set are reverted.
+     * @param grid the grid to solve.
+     * @param emptyCellsList the empty cells of the grid in the order in which they are filled.
+     * @param budget the budget of the search, or null for an unlimited search.
+     * @param propagator the propagator assigning the values tried, or null to set the values only.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the grid has no solution or the status of the limit exceeded.
+     */
+    SolveStatus solveWithTrail(Grid grid, List<Cell> emptyCellsList, SolveBudget budget, ConstraintPropagator propagator) {
+        final boolean trailActive = grid.isTrailActive();
+        final int checkpoint = grid.mark();
+        try {
+            if(search(grid, emptyCellsList, budget, propagator)) {
+                return SolveStatus.SOLVED;
+            }
+            grid.undoTo(checkpoint);
+            return budget == null || budget.getStatus() == null ? SolveStatus.UNSOLVABLE : budget.getStatus();
+        } finally {
+            if(!trailActive) {
+                grid.clearTrail();
+            }
+        }
+    }
     
 }
@@ -0,0 +1,131 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Tracks the nodes and backtracks of a single solve against its {@link SolveLimits}. The clock and 
+ * the interrupt flag of the thread are only read once every 4096 nodes, so that counting is cheap. 
+ * Once a limit is exceeded, the budget stays exceeded.
+ * 
+ * @author Dame Lyngdoh
+ */
+final class SolveBudget {
+
+    /**
+     * Mask of the node count checked before checking the limits, which are checked once every 4096 nodes.
+     */
+    private static final long CHECK_MASK = 4096 - 1;
+
+    private final long startNanos;
+    private final long remainingNanos;
+    private final long maxNodes;
+    private final long maxBacktracks;
+    private long nodes;
+    private long backtracks;
+    private int maxDepth;
+    private long propagations;
+    private SolveStatus status;
+
+    /**
+     * Starts tracking a solve.
+     * @param limits limits of the solve.
+     */
+    SolveBudget(SolveLimits limits) {
+        this.startNanos = System.nanoTime();
+        long remaining = Long.MAX_VALUE;
+        if(limits.getTimeout() != null) {
+            remaining = limits.getTimeout().toNanos();
+        }
+        if(limits.getDeadline() != null) {
+            remaining = Math.min(remaining, toNanos(Duration.between(Instant.now(), limits.getDeadline())));
+        }
+        this.remainingNanos = remaining;
+        this.maxNodes = limits.getMaxNodes();
+        this.maxBacktracks = limits.getMaxBacktracks();
+    }
+
+    /**
+     * @param duration a duration, possibly negative.
+     * @return the duration in nanoseconds, saturated to the range of long.
+     */
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Counts a value placed by the search and checks the limits periodically.
+     * @param depth number of values placed by the search once the value is placed.
+     * @return true if the search can go on or false if a limit is exceeded.
+     */
+    boolean countNode(int depth) {
+        if(status != null) {
+            return false;
+        }
+        if(depth > maxDepth) {
+            maxDepth = depth;
+        }
+        return (++nodes & CHECK_MASK) != 0 || check(nodes, backtracks);
+    }
+
+    /**
+     * Counts a dead end of the search.
+     * @return true if the search can go on or false if a limit is exceeded.
+     */
+    boolean countBacktrack() {
+        if(status != null) {
+            return false;
+        }
+        return ++backtracks <= maxBacktracks || check(nodes, backtracks);
+    }
+
+    /**
+     * Counts values placed by propagation during the search. They are not limited, as every one of 
+     * them follows a value counted as a node.
+     * @param count number of values placed by propagation.
+     */
+    void countPropagations(long count) {
+        propagations += count;
+    }
+
+    /**
+     * Checks the limits against counts of a search, recording the status of the first limit exceeded.
+     * @param nodeCount number of values placed by the search.
+     * @param backtrackCount number of dead ends of the search.
+     * @return true if the search can go on or false if a limit is exceeded.
+     */
+    boolean check(long nodeCount, long backtrackCount) {
+        if(status == null) {
+            if(Thread.currentThread().isInterrupted()) {
+                status = SolveStatus.INTERRUPTED;
+            } else if(nodeCount > maxNodes || backtrackCount > maxBacktracks) {
+                status = SolveStatus.BUDGET_EXCEEDED;
+            } else if(remainingNanos != Long.MAX_VALUE && System.nanoTime() - startNanos > remainingNanos) {
+                status = SolveStatus.TIMEOUT;
+            }
+        }
+        return status == null;
+    }
+
+    /**
+     * @return the status of the first limit exceeded or null if no limit is exceeded.
+     */
+    SolveStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Adds the nodes, backtracks, maximum depth and propagations counted by the budget to the statistics.
+     * @param stats statistics of the solve, or null if the statistics are not recorded.
+     */
+    void addTo(SolveStats stats) {
+        if(stats != null) {
+            stats.addSearch(nodes, backtracks, maxDepth);
+            stats.addPropagations(propagations);
+        }
+    }
+}
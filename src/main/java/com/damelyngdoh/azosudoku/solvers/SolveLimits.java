@@ -0,0 +1,122 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Immutable limits of a solve, see {@link SudokuSolver#solve(com.damelyngdoh.azosudoku.Grid, SolveLimits)}.
+ * A solve may be limited by a deadline, by a timeout starting when the solve starts, by the number of 
+ * values placed (nodes) and by the number of dead ends (backtracks) of the search. A solve is also 
+ * stopped when its thread is interrupted. The limits are checked periodically rather than at every 
+ * node, hence a search may exceed them by up to a few thousand nodes.
+ * 
+ * @author Dame Lyngdoh
+ */
+public final class SolveLimits {
+
+    /**
+     * Limits which never stop a solve, except when its thread is interrupted.
+     */
+    public static final SolveLimits NONE = new SolveLimits(null, null, Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final Instant deadline;
+    private final Duration timeout;
+    private final long maxNodes;
+    private final long maxBacktracks;
+
+    private SolveLimits(Instant deadline, Duration timeout, long maxNodes, long maxBacktracks) {
+        this.deadline = deadline;
+        this.timeout = timeout;
+        this.maxNodes = maxNodes;
+        this.maxBacktracks = maxBacktracks;
+    }
+
+    /**
+     * Gets limits like these with an absolute deadline.
+     * @param deadline the instant after which the solve is stopped, or null for no deadline.
+     * @return the new limits.
+     */
+    public SolveLimits withDeadline(Instant deadline) {
+        return new SolveLimits(deadline, timeout, maxNodes, maxBacktracks);
+    }
+
+    /**
+     * Gets limits like these with a timeout starting when the solve starts.
+     * @param timeout the time allowed to the solve, or null for no timeout.
+     * @return the new limits.
+     * @throws IllegalArgumentException thrown if timeout is zero or negative.
+     */
+    public SolveLimits withTimeout(Duration timeout) {
+        if(timeout != null && (timeout.isZero() || timeout.isNegative())) {
+            throw new IllegalArgumentException(String.format("Invalid timeout %s. Must be positive.", timeout));
+        }
+        return new SolveLimits(deadline, timeout, maxNodes, maxBacktracks);
+    }
+
+    /**
+     * Gets limits like these with a maximum number of values placed by the search.
+     * @param maxNodes the maximum number of values placed.
+     * @return the new limits.
+     * @throws IllegalArgumentException thrown if maxNodes is less than 1.
+     */
+    public SolveLimits withMaxNodes(long maxNodes) {
+        if(maxNodes < 1) {
+            throw new IllegalArgumentException(String.format("Invalid maximum node count %d. Must be a positive integer.", maxNodes));
+        }
+        return new SolveLimits(deadline, timeout, maxNodes, maxBacktracks);
+    }
+
+    /**
+     * Gets limits like these with a maximum number of dead ends of the search.
+     * @param maxBacktracks the maximum number of dead ends.
+     * @return the new limits.
+     * @throws IllegalArgumentException thrown if maxBacktracks is negative.
+     */
+    public SolveLimits withMaxBacktracks(long maxBacktracks) {
+        if(maxBacktracks < 0) {
+            throw new IllegalArgumentException(String.format("Invalid maximum backtrack count %d. Must not be negative.", maxBacktracks));
+        }
+        return new SolveLimits(deadline, timeout, maxNodes, maxBacktracks);
+    }
+
+    /**
+     * @return the instant after which the solve is stopped, or null for no deadline.
+     */
+    public Instant getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * @return the time allowed to the solve, or null for no timeout.
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @return the maximum number of values placed by the search, {@link Long#MAX_VALUE} for no limit.
+     */
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * @return the maximum number of dead ends of the search, {@link Long#MAX_VALUE} for no limit.
+     */
+    public long getMaxBacktracks() {
+        return maxBacktracks;
+    }
+
+    /**
+     * Starts tracking a solve against the limits.
+     * @return the budget of the solve.
+     */
+    SolveBudget start() {
+        return new SolveBudget(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SolveLimits[deadline=%s, timeout=%s, maxNodes=%d, maxBacktracks=%d]", deadline, timeout, maxNodes, maxBacktracks);
+    }
+}
@@ -0,0 +1,18 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+/**
+ * Listener notified of the statistics of every solve of an {@link InstrumentedSudokuSolver}. The 
+ * listener is called on the solving thread once the solve has ended, hence it should return quickly.
+ * 
+ * @author Dame Lyngdoh
+ */
+@FunctionalInterface
+public interface SolveListener {
+
+    /**
+     * Called when a solve has ended.
+     * @param solver the solver which solved the grid.
+     * @param stats the statistics of the solve.
+     */
+    void onSolve(SudokuSolver solver, SolveStats stats);
+}
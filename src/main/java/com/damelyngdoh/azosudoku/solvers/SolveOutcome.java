@@ -0,0 +1,59 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+/**
+ * Outcome of solving a single puzzle of a batch with {@link BatchSudokuSolver}, holding the position 
+ * of the puzzle in the batch, the status and the solution when the puzzle was solved.
+ * 
+ * @author Dame Lyngdoh
+ */
+public final class SolveOutcome {
+
+    private final int index;
+    private final SolveStatus status;
+    private final int[] solution;
+
+    /**
+     * Constructs a new SolveOutcome object.
+     * @param index position of the puzzle in the batch.
+     * @param status status of the puzzle.
+     * @param solution values of the cells of the solution stored row after row, or null if the puzzle was not solved.
+     */
+    SolveOutcome(int index, SolveStatus status, int[] solution) {
+        this.index = index;
+        this.status = status;
+        this.solution = solution;
+    }
+
+    /**
+     * @return position of the puzzle in the batch, starting from 0.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return status of the puzzle.
+     */
+    public SolveStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return true if the puzzle was solved or false otherwise.
+     */
+    public boolean isSolved() {
+        return status == SolveStatus.SOLVED;
+    }
+
+    /**
+     * @return copy of the values of the cells of the solution stored row after row, or null if the puzzle was not solved.
+     */
+    public int[] getSolution() {
+        return solution == null ? null : solution.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SolveOutcome[index=%d, status=%s]", index, status);
+    }
+}
@@ -0,0 +1,62 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import com.damelyngdoh.azosudoku.GridSnapshot;
+
+/**
+ * Result of solving a puzzle with {@link SudokuSolver#solve(com.damelyngdoh.azosudoku.ReadableGrid)}, 
+ * holding the status, the solution as an immutable snapshot when the puzzle was solved and the 
+ * statistics of the solve.
+ * 
+ * @author Dame Lyngdoh
+ */
+public final class SolveResult {
+
+    private final SolveStatus status;
+    private final GridSnapshot solution;
+    private final SolveStats stats;
+
+    /**
+     * Constructs a new SolveResult object.
+     * @param status status of the solve.
+     * @param solution snapshot of the solution, or null if the puzzle was not solved.
+     * @param stats statistics of the solve.
+     */
+    SolveResult(SolveStatus status, GridSnapshot solution, SolveStats stats) {
+        this.status = status;
+        this.solution = solution;
+        this.stats = stats;
+    }
+
+    /**
+     * @return status of the solve.
+     */
+    public SolveStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return true if the puzzle was solved or false otherwise.
+     */
+    public boolean isSolved() {
+        return status == SolveStatus.SOLVED;
+    }
+
+    /**
+     * @return snapshot of the solution, with the fixed flags of the input, or null if the puzzle was not solved.
+     */
+    public GridSnapshot getSolution() {
+        return solution;
+    }
+
+    /**
+     * @return statistics of the solve.
+     */
+    public SolveStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SolveResult[status=%s, %s]", status, stats);
+    }
+}
@@ -0,0 +1,182 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Statistics of a solve, filled in by {@link SudokuSolver#solve(com.damelyngdoh.azosudoku.Grid, SolveLimits, SolveStats)}:
+ * the number of values placed by the search (nodes), of dead ends (backtracks) and of values placed 
+ * by propagation, the maximum depth of the search, the wall time and the bytes allocated by the 
+ * solving thread. The same object can be reused for several solves, its values being reset when a 
+ * solve starts. It is not thread-safe.
+ * 
+ * @author Dame Lyngdoh
+ */
+public final class SolveStats {
+
+    /**
+     * Bean measuring the bytes allocated by a thread, or null if the measurement is not supported or disabled.
+     */
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = allocationBean();
+
+    private long nodes;
+    private long backtracks;
+    private long propagations;
+    private int maxDepth;
+    private long wallTimeNanos;
+    private long allocatedBytes = -1;
+    private SolveStatus status;
+
+    /**
+     * Number of solves in progress recording into the statistics, a decorator and its delegate solver 
+     * both recording into the same statistics.
+     */
+    private int nesting;
+    private long startNanos;
+    private long startAllocatedBytes;
+
+    /**
+     * @return the bean measuring the bytes allocated by a thread, or null if the measurement is not supported or disabled.
+     */
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if(bean instanceof com.sun.management.ThreadMXBean) {
+                final com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean)bean;
+                if(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+                    return allocationBean;
+                }
+            }
+        } catch (LinkageError | SecurityException e) {}
+        return null;
+    }
+
+    /**
+     * @return bytes allocated by the current thread since it started, or -1 if the measurement is not available.
+     */
+    private static long currentThreadAllocatedBytes() {
+        return ALLOCATION_BEAN == null ? -1 : ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Starts recording a solve. When no solve is in progress, the statistics are reset and the clock 
+     * and the allocation counter of the current thread are read. Every call is paired with a call to 
+     * {@link #end(SolveStatus)} in a finally block, so that a solve which throws does not leave the 
+     * statistics nested.
+     */
+    void begin() {
+        if(nesting++ > 0) {
+            return;
+        }
+        nodes = 0;
+        backtracks = 0;
+        propagations = 0;
+        maxDepth = 0;
+        wallTimeNanos = 0;
+        allocatedBytes = -1;
+        status = null;
+        startNanos = System.nanoTime();
+        startAllocatedBytes = currentThreadAllocatedBytes();
+    }
+
+    /**
+     * Adds the counts of a search to the statistics.
+     * @param nodeCount number of values placed by the search.
+     * @param backtrackCount number of dead ends of the search.
+     * @param depth maximum depth of the search.
+     */
+    void addSearch(long nodeCount, long backtrackCount, int depth) {
+        nodes += nodeCount;
+        backtracks += backtrackCount;
+        maxDepth = Math.max(maxDepth, depth);
+    }
+
+    /**
+     * Adds values placed by propagation to the statistics.
+     * @param count number of values placed.
+     */
+    void addPropagations(long count) {
+        propagations += count;
+    }
+
+    /**
+     * Adds the counts of the search and of the propagation of other statistics to the statistics.
+     * @param other statistics whose counts are added.
+     */
+    void add(SolveStats other) {
+        addSearch(other.nodes, other.backtracks, other.maxDepth);
+        addPropagations(other.propagations);
+    }
+
+    /**
+     * Ends recording a solve. When the outermost solve ends, the status, the wall time and the 
+     * allocated bytes are recorded.
+     * @param solveStatus status of the solve.
+     * @return the status of the solve.
+     */
+    SolveStatus end(SolveStatus solveStatus) {
+        if(--nesting > 0) {
+            return solveStatus;
+        }
+        status = solveStatus;
+        wallTimeNanos = System.nanoTime() - startNanos;
+        final long endAllocatedBytes = currentThreadAllocatedBytes();
+        allocatedBytes = startAllocatedBytes < 0 || endAllocatedBytes < 0 ? -1 : endAllocatedBytes - startAllocatedBytes;
+        return solveStatus;
+    }
+
+    /**
+     * @return number of values placed by the search.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return number of dead ends of the search.
+     */
+    public long getBacktracks() {
+        return backtracks;
+    }
+
+    /**
+     * @return number of values placed by propagation.
+     */
+    public long getPropagations() {
+        return propagations;
+    }
+
+    /**
+     * @return maximum number of values placed by the search at once.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return wall time of the solve in nanoseconds.
+     */
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    /**
+     * @return bytes allocated by the solving thread during the solve, or -1 if the measurement is not available on the JVM.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return status of the solve, or null if no solve has ended.
+     */
+    public SolveStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SolveStats[status=%s, nodes=%d, backtracks=%d, propagations=%d, maxDepth=%d, wallTimeNanos=%d, allocatedBytes=%d]", 
+            status, nodes, backtracks, propagations, maxDepth, wallTimeNanos, allocatedBytes);
+    }
+}
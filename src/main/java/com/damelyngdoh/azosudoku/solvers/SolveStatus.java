@@ -0,0 +1,36 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+/**
+ * Outcome of solving a puzzle within {@link SolveLimits}, either alone with 
+ * {@link SudokuSolver#solve(com.damelyngdoh.azosudoku.Grid, SolveLimits)} or as part of a batch with 
+ * {@link BatchSudokuSolver}.
+ * 
+ * @author Dame Lyngdoh
+ */
+public enum SolveStatus {
+
+    /**
+     * The puzzle was solved.
+     */
+    SOLVED,
+
+    /**
+     * The puzzle has no solution.
+     */
+    UNSOLVABLE,
+
+    /**
+     * The search was abandoned because the deadline passed or the time allowed for the puzzle elapsed.
+     */
+    TIMEOUT,
+
+    /**
+     * The search was abandoned because it placed more values or reached more dead ends than allowed.
+     */
+    BUDGET_EXCEEDED,
+
+    /**
+     * The search was abandoned because its thread was interrupted.
+     */
+    INTERRUPTED
+}
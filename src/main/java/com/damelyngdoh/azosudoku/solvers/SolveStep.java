@@ -0,0 +1,136 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.util.StringJoiner;
+
+import com.damelyngdoh.azosudoku.Utils;
+
+/**
+ * A step of the trace of {@link LogicalSudokuSolver}: either the placement of a value in a cell or 
+ * the elimination of candidates from cells, together with the technique which justified it. Cells 
+ * are denoted by their index, {@code (row * size) + column}. The string representation is compact, 
+ * with rows and columns counted from 1, for example {@code HIDDEN_SINGLE r3c5=7} or 
+ * {@code NAKED_PAIR r1c4-{3,7} r1c8-{3,7}}.
+ * 
+ * @author Dame Lyngdoh
+ */
+public final class SolveStep {
+
+    private final Technique technique;
+    private final int size;
+    private final int cell;
+    private final int value;
+    private final int[] eliminationCells;
+    private final long[] eliminationMasks;
+
+    private SolveStep(Technique technique, int size, int cell, int value, int[] eliminationCells, long[] eliminationMasks) {
+        this.technique = technique;
+        this.size = size;
+        this.cell = cell;
+        this.value = value;
+        this.eliminationCells = eliminationCells;
+        this.eliminationMasks = eliminationMasks;
+    }
+
+    /**
+     * Creates the placement of a value.
+     * @param technique technique which justified the placement.
+     * @param size size of the grid.
+     * @param cell index of the cell.
+     * @param value the value placed.
+     * @return the step.
+     */
+    static SolveStep placement(Technique technique, int size, int cell, int value) {
+        return new SolveStep(technique, size, cell, value, new int[0], new long[0]);
+    }
+
+    /**
+     * Creates the elimination of candidates.
+     * @param technique technique which justified the elimination.
+     * @param size size of the grid.
+     * @param cells indices of the cells, owned by the step.
+     * @param masks bitmasks of the candidates eliminated from each cell, owned by the step.
+     * @return the step.
+     */
+    static SolveStep elimination(Technique technique, int size, int[] cells, long[] masks) {
+        return new SolveStep(technique, size, -1, 0, cells, masks);
+    }
+
+    /**
+     * @return technique which justified the step.
+     */
+    public Technique getTechnique() {
+        return technique;
+    }
+
+    /**
+     * @return true if the step places a value or false if it eliminates candidates.
+     */
+    public boolean isPlacement() {
+        return cell >= 0;
+    }
+
+    /**
+     * @return index of the cell where the value is placed, or -1 if the step eliminates candidates.
+     */
+    public int getCell() {
+        return cell;
+    }
+
+    /**
+     * @return the value placed, or 0 if the step eliminates candidates.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * @return number of cells candidates are eliminated from, 0 if the step places a value.
+     */
+    public int getEliminationCount() {
+        return eliminationCells.length;
+    }
+
+    /**
+     * @param position position of the elimination, in the range 0 to elimination count (exclusively).
+     * @return index of the cell of the elimination.
+     */
+    public int getEliminationCell(int position) {
+        return eliminationCells[position];
+    }
+
+    /**
+     * @param position position of the elimination, in the range 0 to elimination count (exclusively).
+     * @return bitmask of the candidates eliminated, the bit {@code value - 1} being set for every value.
+     */
+    public long getEliminationMask(int position) {
+        return eliminationMasks[position];
+    }
+
+    /**
+     * @param cellIndex index of a cell.
+     * @return the cell in the r{row}c{column} notation.
+     */
+    private String cellName(int cellIndex) {
+        return "r" + ((cellIndex / size) + 1) + "c" + ((cellIndex % size) + 1);
+    }
+
+    @Override
+    public String toString() {
+        if(isPlacement()) {
+            return technique + " " + cellName(cell) + "=" + value;
+        }
+        final StringBuilder builder = new StringBuilder(technique.toString());
+        for(int position = 0; position < eliminationCells.length; position++) {
+            builder.append(' ').append(cellName(eliminationCells[position])).append('-');
+            final long mask = eliminationMasks[position];
+            if(Long.bitCount(mask) == 1) {
+                builder.append(Long.numberOfTrailingZeros(mask) + 1);
+                continue;
+            }
+            final StringJoiner joiner = new StringJoiner(",", "{", "}");
+            Utils.getValuesFromMask(mask).stream().sorted().forEach(eliminated -> joiner.add(eliminated.toString()));
+            builder.append(joiner);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.GridSnapshot;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+
+/**
+ * Utilities shared by the solvers which search on their own representation of the grid 
+ * and write the solution back into the grid.
+ * 
+ * @author Dame Lyngdoh
+ */
+final class SolverUtils {
+
+    private SolverUtils() {}
+
+    /**
+     * Writes the values of a solution into the cells of the grid which were empty. Cells which 
+     * contained a value are left unchanged.
+     * @param grid the grid to write the solution into.
+     * @param givens values of the cells before solving, as returned by {@link Grid#toFlatArray()}.
+     * @param solution values of all the cells stored row after row.
+     */
+    static void writeSolution(Grid grid, int[] givens, int[] solution) {
+        final int size = grid.getSize();
+        for(int row = 0, column = 0; row < size; row++) {
+            for(column = 0; column < size; column++) {
+                if(givens[(row * size) + column] == 0) {
+                    setValue(grid, row, column, solution[(row * size) + column]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets a value to the cell and ignores the ValueOutOfBoundsException 
+     * exception as the value has been confirmed by the invoking method.
+     * @param grid the grid context.
+     * @param row row coordinate of the cell.
+     * @param column column coordinate of the cell.
+     * @param value the value to fill the cell.
+     */
+    static void setValue(Grid grid, int row, int column, int value) {
+        try {
+            grid.getCell(row, column).setValue(value);
+        } catch (ValueOutOfBoundsException e) {}
+    }
+
+    /**
+     * Creates a grid holding the values and fixed flags of a snapshot and ignores the InvalidSizeException 
+     * exception as the size has been confirmed by the grid the snapshot was taken from.
+     * @param snapshot the snapshot of the grid.
+     * @return a new grid restored from the snapshot.
+     */
+    static Grid toGrid(GridSnapshot snapshot) {
+        Grid grid = null;
+        try {
+            grid = new Grid(snapshot.getSize());
+        } catch (InvalidSizeException e) {}
+        grid.restore(snapshot);
+        return grid;
+    }
+
+    /**
+     * Reverts the grid to its state before a solve which did not succeed. The value changes recorded in 
+     * the trail since the checkpoint are undone. If the solve discarded the trail, so that the grid still 
+     * differs from its input state, the snapshot of the input state is restored instead.
+     * @param grid the grid to revert.
+     * @param checkpoint the checkpoint marked before the solve.
+     * @param input snapshot of the grid taken before the solve.
+     */
+    static void revert(Grid grid, int checkpoint, GridSnapshot input) {
+        if(grid.isTrailActive() && checkpoint <= grid.mark()) {
+            grid.undoTo(checkpoint);
+        }
+        if(!Arrays.equals(input.toFlatArray(), grid.toFlatArray())) {
+            grid.restore(input);
+        }
+    }
+
+    /**
+     * Converts the status of a solve within limits into the outcome of {@link SudokuSolver#solve(Grid)}.
+     * @param status status of the solve.
+     * @throws InvalidSudokuException thrown if the status is {@link SolveStatus#UNSOLVABLE}.
+     * @throws CancellationException thrown if the solve was stopped by a limit, or by an interrupt of the thread.
+     */
+    static void requireSolved(SolveStatus status) throws InvalidSudokuException {
+        if(status == SolveStatus.UNSOLVABLE) {
+            throw new InvalidSudokuException();
+        }
+        if(status != SolveStatus.SOLVED) {
+            throw new CancellationException(String.format("Solve stopped with status %s.", status));
+        }
+    }
+}
@@ -4,8 +4,6 @@ import java.util.List;
 
 import com.damelyngdoh.azosudoku.Cell;
 import com.damelyngdoh.azosudoku.Grid;
-import com.damelyngdoh.azosudoku.Validator;
-import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
 
 /**
  * Same brute-force approach as #SimpleSudokuSolver but it 
@@ -20,14 +18,7 @@ import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
 public class SortedSimpleSudokuSolver extends SimpleSudokuSolver {
     
     @Override
-    public void solve(Grid grid) throws InvalidSudokuException {
-        Validator.validateGrid(grid);
-        if(grid.hasEmptyAndInvalidCells()) {
-            throw new InvalidSudokuException();
-        }
-        final List<Cell> list = List.copyOf(grid.getSortedEmptyCellsWithPermissibleValues().navigableKeySet());
-        if(!solveRecursively(grid, list, 0)) {
-            throw new InvalidSudokuException();
-        }
+    List<Cell> orderEmptyCells(Grid grid) {
+        return List.copyOf(grid.getSortedEmptyCellsWithPermissibleValues().navigableKeySet());
     }
 }
@@ -1,6 +1,14 @@
 package com.damelyngdoh.azosudoku.solvers;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.damelyngdoh.azosudoku.AsyncTasks;
 import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.GridSnapshot;
+import com.damelyngdoh.azosudoku.ReadableGrid;
+import com.damelyngdoh.azosudoku.Validator;
 import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
 
 /**
@@ -18,4 +26,203 @@ public interface SudokuSolver {
      * @throws InvalidSudokuException thrown when the puzzle does not have a solution.
      */
     void solve(Grid grid) throws InvalidSudokuException;
+
+    /**
+     * Solves the sudoku puzzle within limits, reporting the outcome rather than throwing an exception. 
+     * When the puzzle is not solved, the grid is left in its input state.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    default SolveStatus solve(Grid grid, SolveLimits limits) {
+        return solve(grid, limits, null);
+    }
+
+    /**
+     * Solves the sudoku puzzle within limits like {@link #solve(Grid, SolveLimits)}, recording the 
+     * statistics of the solve. Passing null statistics records nothing and adds no overhead. The 
+     * default implementation runs {@link #solve(Grid)}, so the strategy of the solver is kept but the 
+     * limits are only checked before the solve starts and no search is recorded. The solvers of this 
+     * package override it to check the limits and record their own search while solving. When the 
+     * puzzle is not solved, including when {@link #solve(Grid)} throws, the values it set are reverted.
+     * @param grid the sudoku grid.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    default SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+        Validator.validateGrid(grid);
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        if(stats != null) {
+            stats.begin();
+        }
+        SolveStatus status = null;
+        try {
+            final SolveBudget budget = limits.start();
+            if(!budget.check(0, 0)) {
+                status = budget.getStatus();
+                return status;
+            }
+            final boolean trailActive = grid.isTrailActive();
+            final int checkpoint = grid.mark();
+            final GridSnapshot input = grid.snapshot();
+            try {
+                solve(grid);
+                status = SolveStatus.SOLVED;
+            } catch (InvalidSudokuException e) {
+                status = Thread.currentThread().isInterrupted() ? SolveStatus.INTERRUPTED : SolveStatus.UNSOLVABLE;
+            } catch (CancellationException e) {
+                status = SolveStatus.INTERRUPTED;
+            } finally {
+                if(status != SolveStatus.SOLVED) {
+                    SolverUtils.revert(grid, checkpoint, input);
+                }
+                if(!trailActive) {
+                    grid.clearTrail();
+                }
+            }
+            return status;
+        } finally {
+            if(stats != null) {
+                stats.end(status);
+            }
+        }
+    }
+
+    /**
+     * Solves the sudoku puzzle within limits like {@link #solve(Grid, SolveLimits, SolveStats)}, assigning
+     * every value tried by the search through the propagator, so that the cells forced by the value are
+     * filled at once and a value leading to a contradiction is abandoned without searching below it. The
+     * grid is expected to be propagated with {@link ConstraintPropagator#propagate(Grid)} before the call.
+     * The values placed by the propagation during the search are added to the statistics.
+     *
+     * The default implementation ignores the propagator and runs {@link #solve(Grid, SolveLimits, SolveStats)},
+     * so a solver which does not override it only gains from the propagation done before the call. The
+     * search of {@link SimpleSudokuSolver} and {@link SortedSimpleSudokuSolver} propagates at every node,
+     * and {@link InstrumentedSudokuSolver} passes the propagator on to its delegate.
+     * @param grid the sudoku grid, propagated.
+     * @param limits the limits of the solve.
+     * @param stats the statistics filled in by the solve, or null to record nothing.
+     * @param propagator the propagator assigning the values tried by the search, or null to search without propagation.
+     * @return {@link SolveStatus#SOLVED} if the grid was solved, {@link SolveStatus#UNSOLVABLE} if the puzzle does not have a solution or the status of the limit exceeded.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    default SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats, ConstraintPropagator propagator) {
+        return solve(grid, limits, stats);
+    }
+
+    /**
+     * Solves the sudoku puzzle without modifying the grid, returning the solution as a snapshot with 
+     * the status and statistics of the solve. Unlike {@link #solve(Grid)}, a failure is reported in the 
+     * result and the caller does not need to copy the grid first.
+     * @param grid the sudoku grid, left untouched.
+     * @return the result of the solve.
+     * @throws NullPointerException thrown if grid argument is null.
+     */
+    default SolveResult solve(ReadableGrid grid) {
+        return solve(grid, SolveLimits.NONE);
+    }
+
+    /**
+     * Solves the sudoku puzzle within limits without modifying the grid, like {@link #solve(ReadableGrid)}. 
+     * The default implementation solves a private copy of the grid with {@link #solve(Grid, SolveLimits, SolveStats)}, 
+     * so the strategy of the solver is kept.
+     * @param grid the sudoku grid, left untouched.
+     * @param limits the limits of the solve.
+     * @return the result of the solve, whose solution is null unless the status is {@link SolveStatus#SOLVED}.
+     * @throws NullPointerException thrown if grid or limits arguments are null.
+     */
+    default SolveResult solve(ReadableGrid grid, SolveLimits limits) {
+        if(grid == null) {
+            throw new NullPointerException("Null grid passed.");
+        }
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        final GridSnapshot snapshot = grid.snapshot();
+        final Grid copy = SolverUtils.toGrid(snapshot);
+        final SolveStats stats = new SolveStats();
+        final SolveStatus status = solve(copy, limits, stats);
+        final GridSnapshot solution = status == SolveStatus.SOLVED ? snapshot.withValues(copy.toFlatArray()) : null;
+        return new SolveResult(status, solution, stats);
+    }
+
+    /**
+     * Solves the sudoku puzzle asynchronously on the default executor, see {@link #solveAsync(ReadableGrid, SolveLimits, Executor)}.
+     * @param grid the sudoku grid, left untouched.
+     * @return future of the result of the solve.
+     * @throws NullPointerException thrown if grid argument is null.
+     */
+    default CompletableFuture<SolveResult> solveAsync(ReadableGrid grid) {
+        return solveAsync(grid, SolveLimits.NONE, AsyncTasks.defaultExecutor());
+    }
+
+    /**
+     * Solves the sudoku puzzle asynchronously on the executor, see {@link #solveAsync(ReadableGrid, SolveLimits, Executor)}.
+     * @param grid the sudoku grid, left untouched.
+     * @param executor executor running the solve.
+     * @return future of the result of the solve.
+     * @throws NullPointerException thrown if grid or executor arguments are null.
+     */
+    default CompletableFuture<SolveResult> solveAsync(ReadableGrid grid, Executor executor) {
+        return solveAsync(grid, SolveLimits.NONE, executor);
+    }
+
+    /**
+     * Solves the sudoku puzzle within limits asynchronously on the executor, like 
+     * {@link #solve(ReadableGrid, SolveLimits)}, so the solve runs the strategy of the solver. A snapshot 
+     * of the grid is taken before returning, so the grid can be modified while the solve runs. Cancelling 
+     * the future interrupts the solve, which stops at its next check of the limits.
+     * @param grid the sudoku grid, left untouched.
+     * @param limits the limits of the solve.
+     * @param executor executor running the solve.
+     * @return future of the result of the solve.
+     * @throws NullPointerException thrown if grid, limits or executor arguments are null.
+     */
+    default CompletableFuture<SolveResult> solveAsync(ReadableGrid grid, SolveLimits limits, Executor executor) {
+        if(grid == null) {
+            throw new NullPointerException("Null grid passed.");
+        }
+        if(limits == null) {
+            throw new NullPointerException("Null limits passed.");
+        }
+        final GridSnapshot snapshot = grid.snapshot();
+        return AsyncTasks.supply(() -> solve(snapshot, limits), executor);
+    }
+
+    /**
+     * Counts the solutions of the sudoku puzzle, stopping as soon as the limit is reached. The grid 
+     * is not modified. The default implementation searches on a bitboard copy of the grid regardless 
+     * of the strategy of the solver.
+     * @param grid the sudoku grid.
+     * @param limit the number of solutions after which the counting stops, for example 2 to check if a puzzle has a unique solution.
+     * @return the number of solutions, not greater than the limit, or 0 if the grid contains conflicting values.
+     * @throws NullPointerException thrown if grid argument is null.
+     * @throws IllegalArgumentException thrown if limit is less than 1.
+     */
+    default int countSolutions(Grid grid, int limit) {
+        Validator.validateGrid(grid);
+        if(limit < 1) {
+            throw new IllegalArgumentException(String.format("Invalid limit %d. Must be a positive integer.", limit));
+        }
+        final BitboardSearch search = BitboardSearch.workspace(grid.getTopology());
+        if(!search.load(grid.toFlatArray())) {
+            return 0;
+        }
+        return search.search(limit);
+    }
+
+    /**
+     * Checks if the sudoku puzzle has exactly one solution. The grid is not modified.
+     * @param grid the sudoku grid.
+     * @return true if the puzzle has a unique solution or false otherwise.
+     * @throws NullPointerException thrown if grid argument is null.
+     */
+    default boolean hasUniqueSolution(Grid grid) {
+        return countSolutions(grid, 2) == 1;
+    }
 }
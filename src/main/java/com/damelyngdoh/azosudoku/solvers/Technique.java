@@ -0,0 +1,96 @@
+package com.damelyngdoh.azosudoku.solvers;
+
+/**
+ * Solving techniques applied by {@link LogicalSudokuSolver}, declared in the order in which they are 
+ * tried, from the cheapest to the most expensive. The level and weight of a technique used in rating are 
+ * held by the constant, so reordering or adding techniques does not change the score of a puzzle.
+ * 
+ * @author Dame Lyngdoh
+ */
+public enum Technique {
+
+    /**
+     * An empty cell has a single candidate, which is placed.
+     */
+    NAKED_SINGLE(1, 1),
+
+    /**
+     * A value is a candidate of a single cell of a house, where it is placed.
+     */
+    HIDDEN_SINGLE(2, 2),
+
+    /**
+     * The candidates of a value in a nonet all lie in one row or column, or the candidates of a value 
+     * in a row or column all lie in one nonet, so the value is eliminated from the rest of the other house.
+     */
+    LOCKED_CANDIDATES(3, 5),
+
+    /**
+     * Two cells of a house have the same two candidates, which are eliminated from the rest of the house.
+     */
+    NAKED_PAIR(4, 8),
+
+    /**
+     * Two values are candidates of the same two cells of a house only, so the other candidates of the 
+     * cells are eliminated.
+     */
+    HIDDEN_PAIR(5, 10),
+
+    /**
+     * Three cells of a house have three candidates between them, which are eliminated from the rest of the house.
+     */
+    NAKED_TRIPLE(6, 14),
+
+    /**
+     * Three values are candidates of the same three cells of a house only, so the other candidates of 
+     * the cells are eliminated.
+     */
+    HIDDEN_TRIPLE(7, 16),
+
+    /**
+     * The candidates of a value in two rows lie in the same two columns, or the other way round, so the 
+     * value is eliminated from the rest of the columns.
+     */
+    X_WING(8, 20),
+
+    /**
+     * The candidates of a value in three rows lie in the same three columns, or the other way round, so 
+     * the value is eliminated from the rest of the columns.
+     */
+    SWORDFISH(9, 28),
+
+    /**
+     * A pivot cell with candidates xy sees two cells with candidates xz and yz, so z is eliminated from 
+     * the cells which see both of them.
+     */
+    XY_WING(10, 30),
+
+    /**
+     * No technique applies, so the value of a cell is taken from a solution found by search.
+     */
+    SEARCH(11, 50);
+
+    private final int level;
+    private final int weight;
+
+    private Technique(int level, int weight) {
+        this.level = level;
+        this.weight = weight;
+    }
+
+    /**
+     * @return level of the technique, from 1 for the easiest, which orders the score of a puzzle rated 
+     * by {@link DifficultyRater} by the hardest technique it needs.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return weight which every step of the technique adds to the score of a puzzle rated by 
+     * {@link DifficultyRater}.
+     */
+    public int getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,97 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.damelyngdoh.azosudoku.AsyncTasks;
+
+public class AsyncTasksTest {
+
+    ExecutorService executor;
+
+    @BeforeEach
+    void initializeExecutor() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void invalid_arguments_supply_test() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> AsyncTasks.supply(null, executor), "supply did not throw NullPointerException when null task argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> AsyncTasks.supply(() -> 1, null), "supply did not throw NullPointerException when null executor argument is passed.")
+        );
+    }
+
+    @Test
+    void supply_test() throws InterruptedException, ExecutionException {
+        final CompletableFuture<Integer> failed = AsyncTasks.supply(() -> {
+            throw new IllegalStateException();
+        }, executor);
+        assertEquals(1, AsyncTasks.supply(() -> 1, executor).get(), "supply did not complete with the value of the task.");
+        final ExecutionException exception = assertThrows(ExecutionException.class, failed::get, "supply did not complete exceptionally when the task threw an exception.");
+        assertTrue(exception.getCause() instanceof IllegalStateException, "supply did not complete with the exception of the task.");
+    }
+
+    @Test
+    void cancel_running_task_supply_test() throws InterruptedException, ExecutionException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final CompletableFuture<Void> future = AsyncTasks.supply(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        }, executor);
+        assertTrue(started.await(10, TimeUnit.SECONDS), "The task did not start.");
+        future.cancel(false);
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS), "Cancelling the future did not interrupt the task.");
+        assertFalse(executor.submit(() -> Thread.currentThread().isInterrupted()).get(), "The thread of the cancelled task was left interrupted.");
+    }
+
+    @Test
+    void cancel_pending_task_supply_test() {
+        final List<Runnable> pending = new ArrayList<>();
+        final AtomicBoolean ran = new AtomicBoolean();
+        final CompletableFuture<Boolean> future = AsyncTasks.supply(() -> ran.getAndSet(true), pending::add);
+        future.cancel(true);
+        pending.forEach(Runnable::run);
+        assertFalse(ran.get(), "A task whose future was cancelled before it started was run.");
+    }
+
+    @Test
+    void defaultExecutor_test() {
+        assertAll(
+            () -> assertNotNull(AsyncTasks.defaultExecutor(), "defaultExecutor returned null."),
+            () -> assertSame(AsyncTasks.defaultExecutor(), AsyncTasks.defaultExecutor(), "defaultExecutor did not return the same executor."),
+            () -> assertTrue(Runtime.version().feature() >= 21 || AsyncTasks.defaultExecutor() == ForkJoinPool.commonPool(), "defaultExecutor did not return the common pool before Java 21.")
+        );
+    }
+}
@@ -0,0 +1,175 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.BatchSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveOutcome;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
+
+public class BatchSudokuSolverTest {
+
+    ExecutorService executor;
+    BatchSudokuSolver solver;
+    int[] hardPuzzle;
+    int[] unsolvablePuzzle;
+
+    @BeforeEach
+    void initializeSolver() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        executor = Executors.newFixedThreadPool(4);
+        solver = new BatchSudokuSolver(executor, true, SolveLimits.NONE);
+        hardPuzzle = Grid.of(TestUtils.HARD_MATRIX).toFlatArray();
+        unsolvablePuzzle = Grid.of(TestUtils.UNSOLVABLE_MATRIX).toFlatArray();
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void invalid_arguments_test() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> new BatchSudokuSolver(null, true, SolveLimits.NONE), "BatchSudokuSolver constructor did not throw NullPointerException when null executor argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> new BatchSudokuSolver(executor, true, null), "BatchSudokuSolver constructor did not throw NullPointerException when null limits argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.solveAll((Iterable<int[]>)null), "solveAll did not throw NullPointerException when null puzzles argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.solveAll((Stream<Grid>)null), "solveAll did not throw NullPointerException when null grids argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.solveAll(List.of(hardPuzzle), null), "solveAll did not throw NullPointerException when null sink argument is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> solver.solveAll(List.of(new int[80])), "solveAll did not throw IllegalArgumentException when puzzle of invalid length is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> solver.solveAll(List.of(new int[] {0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,5})), "solveAll did not throw IllegalArgumentException when puzzle with out of bounds value is passed.")
+        );
+    }
+
+    @Test
+    void ordered_outcomes_test() {
+        final List<int[]> puzzles = new ArrayList<>();
+        for(int index = 0; index < 300; index++) {
+            puzzles.add(index % 3 == 0 ? unsolvablePuzzle : hardPuzzle);
+        }
+        final List<SolveOutcome> outcomes = solver.solveAll(puzzles);
+        assertEquals(puzzles.size(), outcomes.size(), "solveAll did not report an outcome for every puzzle.");
+        for(int index = 0; index < outcomes.size(); index++) {
+            final SolveOutcome outcome = outcomes.get(index);
+            assertEquals(index, outcome.getIndex(), "solveAll did not report the outcomes in the order of the input.");
+            assertEquals(index % 3 == 0 ? SolveStatus.UNSOLVABLE : SolveStatus.SOLVED, outcome.getStatus(), "solveAll did not report the status of the puzzle.");
+        }
+        assertNull(outcomes.get(0).getSolution(), "getSolution did not return null for an unsolvable puzzle.");
+        assertTrue(outcomes.get(1).getSolution()[8] != 0, "getSolution did not return the solution of a solved puzzle.");
+    }
+
+    @Test
+    void unordered_outcomes_test() {
+        final BatchSudokuSolver unorderedSolver = new BatchSudokuSolver(executor, false, SolveLimits.NONE);
+        final List<int[]> puzzles = new ArrayList<>();
+        for(int index = 0; index < 200; index++) {
+            puzzles.add(hardPuzzle);
+        }
+        final List<Integer> indices = unorderedSolver.solveAll(puzzles).stream()
+            .peek(outcome -> assertTrue(outcome.isSolved(), "solveAll did not solve a valid puzzle."))
+            .map(SolveOutcome::getIndex)
+            .sorted()
+            .collect(Collectors.toList());
+        for(int index = 0; index < indices.size(); index++) {
+            assertEquals(index, indices.get(index), "solveAll did not report an outcome for every puzzle.");
+        }
+    }
+
+    @Test
+    void sink_outcomes_test() {
+        final List<int[]> puzzles = new ArrayList<>();
+        for(int index = 0; index < 300; index++) {
+            puzzles.add(index % 3 == 0 ? unsolvablePuzzle : hardPuzzle);
+        }
+        final List<Integer> indices = new ArrayList<>();
+        solver.solveAll(puzzles, outcome -> {
+            assertEquals(outcome.getIndex() % 3 == 0 ? SolveStatus.UNSOLVABLE : SolveStatus.SOLVED, outcome.getStatus(), "solveAll did not pass the status of the puzzle to the sink.");
+            indices.add(outcome.getIndex());
+        });
+        assertEquals(puzzles.size(), indices.size(), "solveAll did not pass an outcome for every puzzle to the sink.");
+        for(int index = 0; index < indices.size(); index++) {
+            assertEquals(index, indices.get(index), "solveAll did not pass the outcomes to the sink in the order of the input.");
+        }
+    }
+
+    @Test
+    void failing_input_cancels_pending_chunks_test() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final BatchSudokuSolver queueingSolver = new BatchSudokuSolver(tasks::add, true, SolveLimits.NONE);
+        final List<Grid> grids = new ArrayList<>();
+        final Stream<Grid> failingGrids = Stream.generate(() -> {
+            if(grids.size() == 100) {
+                throw new IllegalStateException();
+            }
+            final Grid grid = assertDoesNotThrow(() -> Grid.of(TestUtils.HARD_MATRIX));
+            grids.add(grid);
+            return grid;
+        });
+        assertThrowsExactly(IllegalStateException.class, () -> queueingSolver.solveAll(failingGrids), "solveAll did not rethrow the failure of the input.");
+        assertFalse(tasks.isEmpty(), "solveAll did not submit the chunk read before the failure.");
+        tasks.forEach(Runnable::run);
+        for(final Grid grid : grids) {
+            assertArrayEquals(TestUtils.HARD_MATRIX, grid.asArray(), "solveAll did not cancel a pending chunk when the input failed.");
+        }
+    }
+
+    @Test
+    void grid_stream_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid hardGrid = Grid.of(TestUtils.HARD_MATRIX);
+        final Grid unsolvableGrid = Grid.of(TestUtils.UNSOLVABLE_MATRIX);
+        final Grid largeGrid = new Grid(16);
+        final List<SolveOutcome> outcomes = solver.solveAll(Stream.of(hardGrid, unsolvableGrid, largeGrid));
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, outcomes.get(0).getStatus(), "solveAll did not solve the hard grid."),
+            () -> assertTrue(hardGrid.getEmptyCells().isEmpty() && hardGrid.validate().isValid(), "solveAll did not fill the hard grid with a valid solution."),
+            () -> assertEquals(SolveStatus.UNSOLVABLE, outcomes.get(1).getStatus(), "solveAll did not report the unsolvable grid."),
+            () -> assertArrayEquals(TestUtils.UNSOLVABLE_MATRIX, unsolvableGrid.asArray(), "solveAll changed the unsolvable grid."),
+            () -> assertEquals(SolveStatus.SOLVED, outcomes.get(2).getStatus(), "solveAll did not solve the large grid."),
+            () -> assertTrue(largeGrid.getEmptyCells().isEmpty() && largeGrid.validate().isValid(), "solveAll did not fill the large grid with a valid solution.")
+        );
+    }
+
+    @Test
+    void grid_written_on_calling_thread_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid hardGrid = Grid.of(TestUtils.HARD_MATRIX);
+        final BatchSudokuSolver checkingSolver = new BatchSudokuSolver(task -> {
+            task.run();
+            assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solveAll wrote the solution into the grid on the thread of the executor.");
+        }, true, SolveLimits.NONE);
+        final List<SolveOutcome> outcomes = checkingSolver.solveAll(Stream.of(hardGrid));
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, outcomes.get(0).getStatus(), "solveAll did not solve the hard grid."),
+            () -> assertArrayEquals(outcomes.get(0).getSolution(), hardGrid.toFlatArray(), "solveAll did not write the solution into the grid on the calling thread.")
+        );
+    }
+
+    @Test
+    void timeout_test() {
+        final BatchSudokuSolver timedSolver = new BatchSudokuSolver(executor, true, SolveLimits.NONE.withTimeout(Duration.ofNanos(1)));
+        final List<SolveOutcome> outcomes = timedSolver.solveAll(List.of(new int[36 * 36]));
+        assertEquals(SolveStatus.TIMEOUT, outcomes.get(0).getStatus(), "solveAll did not report the timeout of a puzzle whose search exceeds the timeout.");
+    }
+}
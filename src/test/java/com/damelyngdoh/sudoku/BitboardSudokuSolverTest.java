@@ -0,0 +1,92 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.Utils;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.BitboardSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
+
+public class BitboardSudokuSolverTest {
+
+    Grid hardGrid;
+    Grid unsolvableGrid;
+    BitboardSudokuSolver solver;
+
+    @BeforeEach
+    void initializeSolver() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        solver = new BitboardSudokuSolver();
+        hardGrid = Utils.initializeGrid(TestUtils.HARD_MATRIX);
+        unsolvableGrid = Utils.initializeGrid(TestUtils.UNSOLVABLE_MATRIX);
+    }
+
+    @Test
+    void invalid_grid_argument_solve_test() {
+        assertThrows(NullPointerException.class, () -> solver.solve(null), "solve did not throw NullPointerException when null grid argument is passed.");
+    }
+
+    @Test
+    void invalid_sudoku_argument_solve_test() {
+        final int[][] initialValues = unsolvableGrid.asArray();
+        assertThrowsExactly(InvalidSudokuException.class, () -> solver.solve(unsolvableGrid), "solve did not throw InvalidSudokuException when unsolvable grid argument is passed.");
+        assertArrayEquals(initialValues, unsolvableGrid.asArray(), "solve changed the grid although it has no solution.");
+    }
+
+    @Test
+    void hard_grid_argument_solve_test() {
+        assertDoesNotThrow(() -> solver.solve(hardGrid), "solve threw an exception when valid hard grid argument is passed.");
+        assertAll(
+            () -> assertTrue(hardGrid.getEmptyCells().isEmpty(), "solve did not solve the grid as there are some empty cells left in the grid."),
+            () -> assertTrue(hardGrid.validate().isValid(), "solve filled the grid with conflicting values."),
+            () -> assertEquals(1, hardGrid.getValue(0, 7).get(), "solve changed the value of a given cell.")
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 9, 16, 25})
+    void empty_grid_argument_solve_test(int size) throws InvalidSizeException {
+        final Grid grid = new Grid(size);
+        assertDoesNotThrow(() -> solver.solve(grid), "solve threw an exception when empty grid argument is passed.");
+        assertTrue(grid.getEmptyCells().isEmpty() && grid.validate().isValid(), "solve did not fill the empty grid with a valid solution.");
+    }
+
+    @Test
+    void conflicting_grid_argument_solve_test() throws InvalidSudokuException, ValueOutOfBoundsException, DisallowedValueException {
+        unsolvableGrid.setActiveVerification(false);
+        unsolvableGrid.setValue(8, 0, 1);
+        assertThrowsExactly(InvalidSudokuException.class, () -> solver.solve(unsolvableGrid), "solve did not throw InvalidSudokuException when grid argument with conflicting values is passed.");
+    }
+
+    @Test
+    void limited_solve_test() throws InvalidSizeException {
+        final BitboardSudokuSolver solver = new BitboardSudokuSolver();
+        final Grid largeGrid = new Grid(36);
+        assertAll(
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> SolveLimits.NONE.withTimeout(Duration.ZERO), "withTimeout did not throw IllegalArgumentException when zero timeout argument is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> SolveLimits.NONE.withMaxNodes(0), "withMaxNodes did not throw IllegalArgumentException when zero argument is passed."),
+            () -> assertEquals(SolveStatus.UNSOLVABLE, solver.solve(unsolvableGrid, SolveLimits.NONE), "solve did not return UNSOLVABLE when unsolvable grid argument is passed."),
+            () -> assertEquals(SolveStatus.BUDGET_EXCEEDED, solver.solve(largeGrid, SolveLimits.NONE.withMaxNodes(1)), "solve did not return BUDGET_EXCEEDED when the node budget is exceeded."),
+            () -> assertTrue(largeGrid.getEmptyCells().size() == 36 * 36, "solve changed the grid although a limit was exceeded."),
+            () -> assertEquals(SolveStatus.SOLVED, solver.solve(hardGrid, SolveLimits.NONE.withTimeout(Duration.ofMinutes(1))), "solve did not return SOLVED when the limits are not exceeded."),
+            () -> assertTrue(hardGrid.getEmptyCells().isEmpty(), "solve did not solve the grid within the limits.")
+        );
+    }
+}
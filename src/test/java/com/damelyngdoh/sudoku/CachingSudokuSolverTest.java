@@ -0,0 +1,144 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.ReadableGrid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.BitboardSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.CachingSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.InstrumentedSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SimpleSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveResult;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
+
+public class CachingSudokuSolverTest {
+
+    static final int[] DIGIT_PERMUTATION = {0, 5, 3, 9, 1, 7, 2, 8, 4, 6};
+
+    AtomicInteger delegateSolves;
+    CachingSudokuSolver solver;
+    Grid hardGrid;
+    int[] hardSolution;
+
+    @BeforeEach
+    void initializeSolver() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException, InvalidSudokuException {
+        delegateSolves = new AtomicInteger();
+        solver = new CachingSudokuSolver(new InstrumentedSudokuSolver(new SimpleSudokuSolver(), (delegate, stats) -> delegateSolves.incrementAndGet()));
+        hardGrid = Grid.of(TestUtils.HARD_MATRIX);
+        final Grid solvedGrid = hardGrid.copy();
+        new BitboardSudokuSolver().solve(solvedGrid);
+        hardSolution = solvedGrid.toFlatArray();
+    }
+
+    /**
+     * Rotates the matrix a quarter turn clockwise and relabels its values.
+     */
+    static int[][] rotateAndRelabel(int[][] matrix) {
+        final int size = matrix.length;
+        final int[][] transformed = new int[size][size];
+        for(int row = 0; row < size; row++) {
+            for(int column = 0; column < size; column++) {
+                transformed[row][column] = DIGIT_PERMUTATION[matrix[size - 1 - column][row]];
+            }
+        }
+        return transformed;
+    }
+
+    @Test
+    void invalid_arguments_constructor_test() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> new CachingSudokuSolver(null), "Constructor did not throw NullPointerException when null delegate argument is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> new CachingSudokuSolver(new SimpleSudokuSolver(), 0, true), "Constructor did not throw IllegalArgumentException when invalid maximum number of entries is passed.")
+        );
+    }
+
+    @Test
+    void cached_solve_test() throws InvalidSudokuException {
+        final Grid repeatedGrid = hardGrid.copy();
+        solver.solve(hardGrid);
+        solver.solve(repeatedGrid);
+        assertAll(
+            () -> assertArrayEquals(hardSolution, hardGrid.toFlatArray(), "solve did not solve the grid."),
+            () -> assertArrayEquals(hardSolution, repeatedGrid.toFlatArray(), "solve did not fill the repeated grid with the cached solution."),
+            () -> assertEquals(1, delegateSolves.get(), "solve did not answer the repeated grid from the cache."),
+            () -> assertEquals(1, solver.getMissCount(), "solve did not count the miss."),
+            () -> assertEquals(1, solver.getHitCount(), "solve did not count the hit."),
+            () -> assertEquals(0.5, solver.getHitRate(), "getHitRate did not return the ratio of hits."),
+            () -> assertEquals(1, solver.size(), "solve did not cache the solution.")
+        );
+    }
+
+    @Test
+    void isomorphic_grid_solve_test() throws InvalidSudokuException, InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final int[][] isomorphicMatrix = rotateAndRelabel(TestUtils.HARD_MATRIX);
+        final Grid isomorphicGrid = Grid.of(isomorphicMatrix);
+        final Grid expected = Grid.of(isomorphicMatrix);
+        new BitboardSudokuSolver().solve(expected);
+        solver.solve(hardGrid);
+        solver.solve(isomorphicGrid);
+        assertAll(
+            () -> assertEquals(1, solver.getHitCount(), "solve did not answer the isomorphic grid from the cache."),
+            () -> assertArrayEquals(expected.toFlatArray(), isomorphicGrid.toFlatArray(), "solve did not map the cached solution back to the isomorphic grid.")
+        );
+        final CachingSudokuSolver literalSolver = new CachingSudokuSolver(new SimpleSudokuSolver(), CachingSudokuSolver.DEFAULT_MAX_ENTRIES, false);
+        literalSolver.solve(Grid.of(TestUtils.HARD_MATRIX));
+        literalSolver.solve(Grid.of(isomorphicMatrix));
+        assertEquals(0, literalSolver.getHitCount(), "solve shared an entry between isomorphic grids without canonicalization.");
+    }
+
+    @Test
+    void eviction_test() throws InvalidSudokuException, InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final CachingSudokuSolver smallSolver = new CachingSudokuSolver(new SimpleSudokuSolver(), 1, true);
+        smallSolver.solve(hardGrid.copy());
+        smallSolver.solve(Grid.of(ConstraintPropagatorTest.SINGLES_MATRIX));
+        smallSolver.solve(hardGrid.copy());
+        assertAll(
+            () -> assertEquals(3, smallSolver.getMissCount(), "solve did not evict the least recently used solution."),
+            () -> assertEquals(2, smallSolver.getEvictionCount(), "solve did not count the evictions."),
+            () -> assertEquals(1, smallSolver.size(), "The cache holds more solutions than its maximum.")
+        );
+        smallSolver.clear();
+        assertAll(
+            () -> assertEquals(0, smallSolver.size(), "clear did not remove the solutions."),
+            () -> assertEquals(0, smallSolver.getMissCount() + smallSolver.getHitCount() + smallSolver.getEvictionCount(), "clear did not reset the counts.")
+        );
+    }
+
+    @Test
+    void unsolvable_grid_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid unsolvableGrid = Grid.of(TestUtils.UNSOLVABLE_MATRIX);
+        assertThrowsExactly(InvalidSudokuException.class, () -> solver.solve(unsolvableGrid), "solve did not throw InvalidSudokuException when unsolvable grid argument is passed.");
+        assertEquals(0, solver.size(), "solve cached an unsolvable grid.");
+    }
+
+    @Test
+    void cached_limits_and_readable_grid_solve_test() {
+        final Grid limitedGrid = hardGrid.copy();
+        final SolveResult missResult = solver.solve((ReadableGrid)hardGrid, SolveLimits.NONE);
+        final SolveResult hitResult = solver.solve((ReadableGrid)hardGrid.snapshot(), SolveLimits.NONE);
+        final SolveStatus status = solver.solve(limitedGrid, SolveLimits.NONE);
+        assertAll(
+            () -> assertTrue(missResult.isSolved() && hitResult.isSolved(), "solve did not solve the readable grid."),
+            () -> assertArrayEquals(hardSolution, hitResult.getSolution().toFlatArray(), "solve did not return the cached solution of the readable grid."),
+            () -> assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solve modified the readable grid."),
+            () -> assertEquals(SolveStatus.SOLVED, status, "solve did not solve the grid within limits."),
+            () -> assertArrayEquals(hardSolution, limitedGrid.toFlatArray(), "solve did not fill the grid with the cached solution."),
+            () -> assertEquals(2, solver.getHitCount(), "solve did not answer the repeated grids from the cache.")
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.ConstraintPropagator;
+
+public class ConstraintPropagatorTest {
+
+    static final int[][] COMPLETE_MATRIX = {
+        {9,3,8,5,6,4,2,1,7},
+        {5,6,1,8,2,7,3,9,4},
+        {4,2,7,3,1,9,6,5,8},
+        {7,4,6,9,8,1,5,2,3},
+        {2,8,3,7,5,6,1,4,9},
+        {1,9,5,2,4,3,8,7,6},
+        {3,7,2,6,9,5,4,8,1},
+        {8,1,9,4,3,2,7,6,5},
+        {6,5,4,1,7,8,9,3,2}
+    };
+    static final int[][] SINGLES_MATRIX = {
+        {0,3,0,5,6,0,2,0,7},
+        {5,0,1,0,2,7,0,9,0},
+        {4,2,0,3,0,9,6,0,8},
+        {0,4,6,0,8,0,5,2,0},
+        {2,0,3,7,0,6,0,4,9},
+        {0,9,0,2,4,0,8,0,6},
+        {3,0,2,0,9,5,0,8,0},
+        {8,1,0,4,0,2,7,0,5},
+        {0,5,4,0,7,0,9,3,0}
+    };
+    static final int[][] CONTRADICTING_MATRIX = {
+        {1,2,3,0,0,0,0,0,0},
+        {4,5,6,0,0,0,0,0,0},
+        {0,0,0,7,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0}
+    };
+
+    ConstraintPropagator propagator;
+    Grid singlesGrid;
+    Grid contradictingGrid;
+
+    @BeforeEach
+    void initializePropagator() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        propagator = new ConstraintPropagator();
+        singlesGrid = Grid.of(SINGLES_MATRIX);
+        contradictingGrid = Grid.of(CONTRADICTING_MATRIX);
+    }
+
+    @Test
+    void invalid_grid_argument_propagate_test() {
+        assertThrows(NullPointerException.class, () -> propagator.propagate(null), "propagate did not throw NullPointerException when null grid argument is passed.");
+    }
+
+    @Test
+    void propagate_test() throws InvalidSizeException {
+        final Grid emptyGrid = new Grid(9);
+        assertAll(
+            () -> assertTrue(propagator.propagate(singlesGrid), "propagate reported a contradiction for a valid grid."),
+            () -> assertArrayEquals(COMPLETE_MATRIX, singlesGrid.asArray(), "propagate did not fill the cells forced by singles."),
+            () -> assertTrue(propagator.propagate(emptyGrid), "propagate reported a contradiction for an empty grid."),
+            () -> assertEquals(81, emptyGrid.getEmptyCells().size(), "propagate filled cells of an empty grid.")
+        );
+    }
+
+    @Test
+    void contradiction_propagate_test() {
+        assertFalse(propagator.propagate(contradictingGrid), "propagate did not report a contradiction when a value cannot be placed in a nonet.");
+    }
+
+    @Test
+    void assign_test() throws InvalidSizeException {
+        final int checkpoint = contradictingGrid.mark();
+        assertAll(
+            () -> assertFalse(propagator.assign(contradictingGrid, 0, 3, 1), "assign set a value present in the row of the cell."),
+            () -> assertFalse(propagator.assign(singlesGrid, 0, 0, 1), "assign did not report a contradiction for a value leading to a contradiction.")
+        );
+        contradictingGrid.undoTo(checkpoint);
+        assertArrayEquals(CONTRADICTING_MATRIX, contradictingGrid.asArray(), "assign changed a grid when the value was rejected.");
+    }
+
+    @Test
+    void assign_peers_test() throws InvalidSizeException {
+        final Grid smallGrid = new Grid(4);
+        assertAll(
+            () -> assertTrue(propagator.assign(smallGrid, 0, 0, 1), "assign reported a contradiction for a permissible value."),
+            () -> assertTrue(propagator.assign(smallGrid, 0, 1, 2), "assign reported a contradiction for a permissible value."),
+            () -> assertTrue(propagator.assign(smallGrid, 1, 0, 3), "assign reported a contradiction for a permissible value."),
+            () -> assertEquals(4, smallGrid.getRawValue(1, 1), "assign did not fill the peer of the cell left with a single permissible value.")
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.Utils;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.DancingLinksSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveStats;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
+
+public class DancingLinksSudokuSolverTest {
+
+    Grid hardGrid;
+    Grid unsolvableGrid;
+    DancingLinksSudokuSolver solver;
+
+    @BeforeEach
+    void initializeSolver() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        solver = new DancingLinksSudokuSolver();
+        hardGrid = Utils.initializeGrid(TestUtils.HARD_MATRIX);
+        unsolvableGrid = Utils.initializeGrid(TestUtils.UNSOLVABLE_MATRIX);
+    }
+
+    @Test
+    void invalid_grid_argument_solve_test() {
+        assertThrows(NullPointerException.class, () -> solver.solve(null), "solve did not throw NullPointerException when null grid argument is passed.");
+    }
+
+    @Test
+    void invalid_sudoku_argument_solve_test() {
+        final int[][] initialValues = unsolvableGrid.asArray();
+        assertThrowsExactly(InvalidSudokuException.class, () -> solver.solve(unsolvableGrid), "solve did not throw InvalidSudokuException when unsolvable grid argument is passed.");
+        assertArrayEquals(initialValues, unsolvableGrid.asArray(), "solve changed the grid although it has no solution.");
+    }
+
+    @Test
+    void hard_grid_argument_solve_test() {
+        assertDoesNotThrow(() -> solver.solve(hardGrid), "solve threw an exception when valid hard grid argument is passed.");
+        assertAll(
+            () -> assertTrue(hardGrid.getEmptyCells().isEmpty(), "solve did not solve the grid as there are some empty cells left in the grid."),
+            () -> assertTrue(hardGrid.validate().isValid(), "solve filled the grid with conflicting values."),
+            () -> assertEquals(1, hardGrid.getValue(0, 7).get(), "solve changed the value of a given cell.")
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 9, 16, 25})
+    void empty_grid_argument_solve_test(int size) throws InvalidSizeException {
+        final Grid grid = new Grid(size);
+        assertDoesNotThrow(() -> solver.solve(grid), "solve threw an exception when empty grid argument is passed.");
+        assertTrue(grid.getEmptyCells().isEmpty() && grid.validate().isValid(), "solve did not fill the empty grid with a valid solution.");
+    }
+
+    @Test
+    void limited_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid extremeGrid = Grid.of(DifficultyRaterTest.EXTREME_MATRIX);
+        final SolveStats stats = new SolveStats();
+        assertAll(
+            () -> assertEquals(SolveStatus.UNSOLVABLE, solver.solve(unsolvableGrid, SolveLimits.NONE), "solve did not return UNSOLVABLE when unsolvable grid argument is passed."),
+            () -> assertEquals(SolveStatus.TIMEOUT, solver.solve(extremeGrid, SolveLimits.NONE.withDeadline(Instant.EPOCH)), "solve did not return TIMEOUT when the deadline has passed."),
+            () -> assertEquals(SolveStatus.BUDGET_EXCEEDED, solver.solve(extremeGrid, SolveLimits.NONE.withMaxBacktracks(0)), "solve did not return BUDGET_EXCEEDED when the backtrack budget is exceeded."),
+            () -> assertArrayEquals(DifficultyRaterTest.EXTREME_MATRIX, extremeGrid.asArray(), "solve changed the grid although a limit was exceeded.")
+        );
+        final int emptyCellCount = extremeGrid.getEmptyCells().size();
+        assertEquals(SolveStatus.SOLVED, solver.solve(extremeGrid, SolveLimits.NONE, stats), "solve did not return SOLVED when the limits are not exceeded.");
+        assertAll(
+            () -> assertTrue(extremeGrid.getEmptyCells().isEmpty() && extremeGrid.validate().isValid(), "solve did not fill the grid with a valid solution."),
+            () -> assertTrue(stats.getNodes() > emptyCellCount, "Statistics did not record the rows chosen by the search."),
+            () -> assertTrue(stats.getBacktracks() > 0, "Statistics did not record the dead ends of the search."),
+            () -> assertEquals(0, stats.getPropagations(), "Statistics recorded propagations although the solver does not propagate.")
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.Difficulty;
+import com.damelyngdoh.azosudoku.solvers.DifficultyRater;
+import com.damelyngdoh.azosudoku.solvers.DifficultyRating;
+import com.damelyngdoh.azosudoku.solvers.Technique;
+
+public class DifficultyRaterTest {
+
+    static final int[][] EXTREME_MATRIX = {
+        {1,0,0,0,0,0,0,0,2},
+        {0,9,0,4,0,0,0,5,0},
+        {0,0,6,0,0,0,7,0,0},
+        {0,5,0,9,0,3,0,0,0},
+        {0,0,0,0,7,0,0,0,0},
+        {0,0,0,8,5,0,0,4,0},
+        {7,0,0,0,0,0,6,0,0},
+        {0,3,0,0,0,9,0,8,0},
+        {0,0,2,0,0,0,0,0,1}
+    };
+
+    DifficultyRater rater;
+    Grid singlesGrid;
+    Grid advancedGrid;
+    Grid extremeGrid;
+
+    @BeforeEach
+    void initializeRater() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        rater = new DifficultyRater();
+        singlesGrid = Grid.of(ConstraintPropagatorTest.SINGLES_MATRIX);
+        advancedGrid = Grid.of(LogicalSudokuSolverTest.ADVANCED_MATRIX);
+        extremeGrid = Grid.of(EXTREME_MATRIX);
+    }
+
+    @Test
+    void invalid_arguments_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid unsolvableGrid = Grid.of(TestUtils.UNSOLVABLE_MATRIX);
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> rater.rate(null), "rate did not throw NullPointerException when null grid argument is passed."),
+            () -> assertThrowsExactly(InvalidSudokuException.class, () -> rater.rate(unsolvableGrid), "rate did not throw InvalidSudokuException when unsolvable grid argument is passed.")
+        );
+    }
+
+    @Test
+    void rate_test() throws InvalidSudokuException {
+        final DifficultyRating singles = rater.rate(singlesGrid);
+        final DifficultyRating advanced = rater.rate(advancedGrid);
+        final DifficultyRating extreme = rater.rate(extremeGrid);
+        assertAll(
+            () -> assertEquals(Difficulty.EASY, singles.getDifficulty(), "rate did not rate a grid solved with singles as easy."),
+            () -> assertEquals(Difficulty.EXPERT, advanced.getDifficulty(), "rate did not rate a grid needing an XY-Wing as expert."),
+            () -> assertEquals(Technique.XY_WING, advanced.getHardestTechnique(), "rate did not report the hardest technique needed."),
+            () -> assertEquals(0, advanced.getGuessCount(), "rate reported a guess for a grid solved with techniques."),
+            () -> assertEquals(Difficulty.EXTREME, extreme.getDifficulty(), "rate did not rate a grid needing search as extreme."),
+            () -> assertTrue(extreme.getGuessCount() > 0, "rate did not report the guesses of a grid needing search."),
+            () -> assertTrue(singles.getScore() < advanced.getScore() && advanced.getScore() < extreme.getScore(), "rate did not score a harder grid higher."),
+            () -> assertEquals(singles.getTechniqueCount(Technique.NAKED_SINGLE) + singles.getTechniqueCount(Technique.HIDDEN_SINGLE), singles.getStepCount(), "rate did not count the steps of every technique."),
+            () -> assertArrayEquals(LogicalSudokuSolverTest.ADVANCED_MATRIX, advancedGrid.asArray(), "rate modified the grid.")
+        );
+    }
+
+    @Test
+    void stable_score_test() throws InvalidSudokuException {
+        assertEquals(rater.rate(advancedGrid).getScore(), rater.rate(advancedGrid.copy()).getScore(), "rate did not return the same score for the same grid.");
+    }
+
+    @Test
+    void complete_grid_argument_rate_test() throws InvalidSudokuException, InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final DifficultyRating rating = rater.rate(Grid.of(ConstraintPropagatorTest.COMPLETE_MATRIX));
+        assertAll(
+            () -> assertEquals(0, rating.getScore(), "rate did not score a complete grid 0."),
+            () -> assertEquals(Difficulty.EASY, rating.getDifficulty(), "rate did not rate a complete grid as easy."),
+            () -> assertNull(rating.getHardestTechnique(), "rate reported a technique for a complete grid."),
+            () -> assertEquals(0, rating.getStepCount(), "rate reported steps for a complete grid.")
+        );
+    }
+
+    @Test
+    void difficulty_of_test() {
+        assertAll(
+            () -> assertEquals(Difficulty.EASY, Difficulty.of(null), "of did not return easy when no technique is passed."),
+            () -> assertEquals(Difficulty.EASY, Difficulty.of(Technique.HIDDEN_SINGLE), "of did not return easy for a single."),
+            () -> assertEquals(Difficulty.MEDIUM, Difficulty.of(Technique.LOCKED_CANDIDATES), "of did not return medium for locked candidates."),
+            () -> assertEquals(Difficulty.HARD, Difficulty.of(Technique.X_WING), "of did not return hard for an X-Wing."),
+            () -> assertEquals(Difficulty.EXPERT, Difficulty.of(Technique.SWORDFISH), "of did not return expert for a Swordfish."),
+            () -> assertEquals(Difficulty.EXTREME, Difficulty.of(Technique.SEARCH), "of did not return extreme for search.")
+        );
+    }
+
+    @Test
+    void technique_weight_test() {
+        final Technique[] techniques = Technique.values();
+        for(int index = 1; index < techniques.length; index++) {
+            assertTrue(techniques[index - 1].getWeight() < techniques[index].getWeight(), String.format("getWeight of %s is not lower than the weight of %s.", techniques[index - 1], techniques[index]));
+        }
+    }
+
+    @Test
+    void technique_level_test() throws InvalidSudokuException {
+        final Technique[] techniques = Technique.values();
+        assertEquals(1, techniques[0].getLevel(), "getLevel of the easiest technique is not 1.");
+        for(int index = 1; index < techniques.length; index++) {
+            assertTrue(techniques[index - 1].getLevel() < techniques[index].getLevel(), String.format("getLevel of %s is not lower than the level of %s.", techniques[index - 1], techniques[index]));
+        }
+        final DifficultyRating advanced = rater.rate(advancedGrid);
+        assertEquals(advanced.getHardestTechnique().getLevel(), advanced.getScore() / DifficultyRater.LEVEL_SCORE, "rate did not score the level of the hardest technique.");
+    }
+}
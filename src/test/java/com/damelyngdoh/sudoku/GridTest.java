@@ -6,10 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
@@ -31,7 +33,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import com.damelyngdoh.azosudoku.Cell;
 import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.GridSnapshot;
 import com.damelyngdoh.azosudoku.House;
+import com.damelyngdoh.azosudoku.HouseType;
+import com.damelyngdoh.azosudoku.SetValueStatus;
+import com.damelyngdoh.azosudoku.ValidationReport;
 import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
 import com.damelyngdoh.azosudoku.exceptions.GridIndexOutOfBoundsException;
 import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
@@ -84,6 +90,17 @@ public class GridTest {
         {0,0,0,0,0,0,0,0,0},
         {0,0,0,0,0,0,0,0,0}
     };
+    static final int[][] CONFLICTING_MATRIX = {
+        {1,0,0,0,0,0,0,0,1},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0}
+    };
     static final int[][] PARTIALLY_INVALID_MATRIX = {
         {0,2,3,4,5,6,7,8,9},
         {1,0,0,0,0,0,0,0,0},
@@ -208,6 +225,25 @@ public class GridTest {
         }
     }
 
+    @Test
+    void house_present_values_test() throws ValueOutOfBoundsException, DisallowedValueException {
+        final House row = partialEmptyGrid.getRow(0);
+        final House column = partialEmptyGrid.getColumn(1);
+        final House nonet = partialEmptyGrid.getNonet(2);
+        assertAll(
+            () -> assertEquals(Set.of(1,4,5,7,9), row.getPresentValues(), "getPresentValues returned incorrect values for a row of the grid."),
+            () -> assertEquals(Set.of(1,7,8), column.getPresentValues(), "getPresentValues returned incorrect values for a column of the grid."),
+            () -> assertEquals(6, nonet.getPresentValueCount(), "getPresentValueCount returned incorrect count for a nonet of the grid."),
+            () -> assertEquals(Set.of(1,3,6), nonet.getMissingValues(), "getMissingValues returned incorrect values for a nonet of the grid.")
+        );
+        partialEmptyGrid.setValue(0, 8, 6);
+        assertAll(
+            () -> assertTrue(row.containsValue(6), "containsValue of a row did not reflect a value set through the grid."),
+            () -> assertTrue(nonet.containsValue(6), "containsValue of a nonet did not reflect a value set through the grid."),
+            () -> assertFalse(column.containsValue(6), "containsValue of an unrelated column reflected a value set through the grid.")
+        );
+    }
+
     @Test
     void get_permissible_values_test() throws InvalidSizeException {
         final Set<Integer> permissibleValuesForSize4 = Set.of(1,2,3,4);
@@ -298,6 +334,21 @@ public class GridTest {
         );
     }
 
+    @Test
+    void get_cell_view_test() throws ValueOutOfBoundsException, DisallowedValueException {
+        final Cell cell = emptyGrid.getCell(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN);
+        emptyGrid.setValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN, RANDOM_VALUE);
+        emptyGrid.getCell(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN).setFixed(true);
+        assertAll(
+            () -> assertEquals(cell, emptyGrid.getCell(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "getCell returned cells which are not equal for the same coordinates."),
+            () -> assertEquals(RANDOM_VALUE, cell.getValue(), "getCell returned a cell which does not reflect the value set through the grid."),
+            () -> assertTrue(cell.isFixed(), "getCell returned a cell which does not reflect the fixed flag set through another cell."),
+            () -> assertEquals(RANDOM_VALUE, emptyGrid.getRow(RANDOM_CELL_ROW).get(RANDOM_CELL_COLUMN).getValue(), "getRow returned a house which does not reflect the value set through the grid.")
+        );
+        cell.removeValue();
+        assertTrue(emptyGrid.getValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN).isEmpty(), "removeValue on a cell of the grid did not clear the value in the grid.");
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {-1, VALID_ORDER, VALID_ORDER + 1})
     void invalid_row_argument_get_value_test(int invalidRow) {
@@ -355,6 +406,59 @@ public class GridTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {-1, VALID_ORDER, VALID_ORDER + 1})
+    void invalid_row_argument_get_candidate_mask_test(int invalidRow) {
+        assertThrowsExactly(GridIndexOutOfBoundsException.class, () -> emptyGrid.getCandidateMask(invalidRow, RANDOM_CELL_COLUMN), "getCandidateMask did not throw GridIndexOutOfBoundsException when invalid row argument is passed.");
+    }
+
+    @Test
+    void get_candidate_mask_test() throws ValueOutOfBoundsException, DisallowedValueException {
+        final long permissibleMaskForRandomCell = (1L << 1) | (1L << 3) | (1L << 4) | (1L << 5) | (1L << 7);
+        assertAll(
+            () -> assertEquals(0x1FFL, emptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "getCandidateMask did not return all values for an empty grid."),
+            () -> assertEquals(0L, completeGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "getCandidateMask did not return an empty mask for a complete grid."),
+            () -> assertEquals(permissibleMaskForRandomCell, partialEmptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "getCandidateMask returned a wrong mask for partially empty grid.")
+        );
+        partialEmptyGrid.setValue(RANDOM_CELL_ROW, 0, RANDOM_VALUE);
+        assertEquals(permissibleMaskForRandomCell & ~(1L << (RANDOM_VALUE - 1)), partialEmptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "getCandidateMask did not exclude a value set in the same row.");
+        partialEmptyGrid.removeValue(RANDOM_CELL_ROW, 0);
+        assertEquals(permissibleMaskForRandomCell, partialEmptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "getCandidateMask did not include a value removed from the same row.");
+    }
+
+    @Test
+    void get_raw_value_test() throws ValueOutOfBoundsException, DisallowedValueException {
+        partialEmptyGrid.setValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN, 2);
+        assertAll(
+            () -> assertEquals(0, emptyGrid.getRawValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "getRawValue did not return 0 for an empty cell."),
+            () -> assertEquals(2, partialEmptyGrid.getRawValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "getRawValue did not return the value of the cell."),
+            () -> assertThrowsExactly(GridIndexOutOfBoundsException.class, () -> emptyGrid.getRawValue(VALID_ORDER, RANDOM_CELL_COLUMN), "getRawValue did not throw GridIndexOutOfBoundsException when invalid row argument is passed.")
+        );
+    }
+
+    @Test
+    void flat_index_accessors_test() throws ValueOutOfBoundsException, DisallowedValueException {
+        final int cell = (RANDOM_CELL_ROW * VALID_ORDER) + RANDOM_CELL_COLUMN;
+        partialEmptyGrid.setValue(RANDOM_CELL_ROW, 0, RANDOM_VALUE);
+        completeGrid.removeValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN);
+        assertAll(
+            () -> assertEquals(0, emptyGrid.rawValueAt(cell), "rawValueAt did not return 0 for an empty cell."),
+            () -> assertEquals(RANDOM_VALUE, partialEmptyGrid.rawValueAt(RANDOM_CELL_ROW * VALID_ORDER), "rawValueAt did not return the value of the cell."),
+            () -> assertEquals(emptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), emptyGrid.candidateMaskAt(cell), "candidateMaskAt did not return the candidates of the cell of an empty grid."),
+            () -> assertEquals(partialEmptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), partialEmptyGrid.candidateMaskAt(cell), "candidateMaskAt did not return the candidates of the cell of a partially empty grid."),
+            () -> assertEquals(completeGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), completeGrid.candidateMaskAt(cell), "candidateMaskAt did not return the candidates of the emptied cell of a complete grid.")
+        );
+    }
+
+    @Test
+    void get_candidate_mask_duplicate_values_test() throws InvalidSudokuException, ValueOutOfBoundsException, DisallowedValueException {
+        emptyGrid.setActiveVerification(false);
+        emptyGrid.setValue(0, 0, 1);
+        emptyGrid.setValue(0, 1, 1);
+        emptyGrid.removeValue(0, 0);
+        assertEquals(0L, emptyGrid.getCandidateMask(0, 2) & 1L, "getCandidateMask included a value still present in the row after removing one of its duplicates.");
+    }
+
     @Test
     void invalid_cell_argument_get_permissible_values_for_cell() {
         assertThrowsExactly(NullPointerException.class, () -> emptyGrid.getPermissibleValues(null), "getPermissibleValues for cell did not throw NullPointerException when null cell argument is passed.");
@@ -682,6 +786,40 @@ public class GridTest {
         assertThrowsExactly(InvalidSudokuException.class, () -> emptyGrid.validateGrid(), "validateGrid did not throw InvalidSudokuException with empty grid that is populated with invalid values.");
     }
 
+    @Test
+    void validate_test() {
+        final ValidationReport validReport = partialEmptyGrid.validate();
+        final ValidationReport invalidReport = invalidGrid.validate();
+        assertAll(
+            () -> assertTrue(validReport.isValid(), "validate reported a valid partially empty grid as invalid."),
+            () -> assertTrue(validReport.getConflicts().isEmpty(), "validate reported conflicts for a valid partially empty grid."),
+            () -> assertFalse(invalidReport.isValid(), "validate reported an invalid grid as valid."),
+            () -> assertFalse(invalidReport.hasConflicts(), "validate reported conflicts for a grid without conflicting values."),
+            () -> assertEquals(List.of(invalidGrid.getCell(0, 0)), invalidReport.getInvalidEmptyCells(), "validate reported incorrect invalid empty cells.")
+        );
+    }
+
+    @Test
+    void validate_conflicting_values_test() throws InvalidSudokuException, ValueOutOfBoundsException, DisallowedValueException {
+        emptyGrid.setActiveVerification(false);
+        emptyGrid.setValue(0, 0, 1);
+        emptyGrid.setValue(0, 1, 1);
+        emptyGrid.setValue(4, 0, 1);
+        final ValidationReport report = emptyGrid.validate();
+        final List<ValidationReport.Conflict> conflicts = report.getConflicts();
+        assertAll(
+            () -> assertTrue(report.hasConflicts(), "validate did not report conflicting values."),
+            () -> assertFalse(report.hasInvalidEmptyCells(), "validate reported invalid empty cells for a grid without any."),
+            () -> assertEquals(3, conflicts.size(), "validate reported an incorrect number of conflicts."),
+            () -> assertEquals(HouseType.ROW, conflicts.get(0).getHouseType(), "validate reported an incorrect house type for the row conflict."),
+            () -> assertEquals(0, conflicts.get(0).getHouseIndex(), "validate reported an incorrect house index for the row conflict."),
+            () -> assertEquals(1, conflicts.get(0).getValue(), "validate reported an incorrect value for the row conflict."),
+            () -> assertEquals(List.of(emptyGrid.getCell(0, 0), emptyGrid.getCell(0, 1)), conflicts.get(0).getCells(), "validate reported incorrect cells for the row conflict."),
+            () -> assertEquals(List.of(emptyGrid.getCell(0, 0), emptyGrid.getCell(4, 0)), conflicts.get(1).getCells(), "validate reported incorrect cells for the column conflict."),
+            () -> assertEquals(HouseType.NONET, conflicts.get(2).getHouseType(), "validate reported an incorrect house type for the nonet conflict.")
+        );
+    }
+
     @Test
     void setActiveVerification_test() {
         assertDoesNotThrow(() -> partialEmptyGrid.setActiveVerification(false), "setActiveVerification threw InvalidSudokuException with valid partially empty grid on false parameter.");
@@ -855,4 +993,183 @@ public class GridTest {
         }
     }
 
+    @Test
+    void copy_test() throws ValueOutOfBoundsException, DisallowedValueException {
+        partialEmptyGrid.setNonEmptyAsFixed();
+        final Grid copy = partialEmptyGrid.copy();
+        assertAll(
+            () -> assertArrayEquals(partialEmptyGrid.asArray(), copy.asArray(), "copy returned a grid with values different from the original grid."),
+            () -> assertTrue(copy.getCell(0, 1).isFixed(), "copy did not preserve the fixed flag of a cell."),
+            () -> assertEquals(partialEmptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), copy.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "copy did not preserve the candidate masks.")
+        );
+        copy.setValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN, RANDOM_VALUE);
+        assertTrue(partialEmptyGrid.getValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN).isEmpty(), "Setting a value on the copy changed the original grid.");
+    }
+
+    @Test
+    void invalid_snapshot_argument_restore_test() {
+        assertAll(
+            () -> assertThrowsExactly(NullPointerException.class, () -> emptyGrid.restore(null), "restore did not throw NullPointerException when null snapshot argument is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> emptyGrid.restore(new Grid(4).snapshot()), "restore did not throw IllegalArgumentException when snapshot of different size is passed.")
+        );
+    }
+
+    @Test
+    void snapshot_restore_test() throws ValueOutOfBoundsException, DisallowedValueException {
+        partialEmptyGrid.setNonEmptyAsFixed();
+        final GridSnapshot snapshot = partialEmptyGrid.snapshot();
+        final long candidateMask = partialEmptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN);
+        assertAll(
+            () -> assertEquals(1, snapshot.getValue(0, 1), "snapshot did not store the value of a cell."),
+            () -> assertTrue(snapshot.isFixed(0, 1), "snapshot did not store the fixed flag of a cell."),
+            () -> assertFalse(snapshot.isFixed(0, 0), "snapshot stored a fixed flag for an empty cell.")
+        );
+        partialEmptyGrid.setValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN, RANDOM_VALUE);
+        partialEmptyGrid.getCell(0, 1).setFixed(false);
+        partialEmptyGrid.restore(snapshot);
+        assertAll(
+            () -> assertTrue(partialEmptyGrid.getValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN).isEmpty(), "restore did not revert the value of a cell."),
+            () -> assertTrue(partialEmptyGrid.getCell(0, 1).isFixed(), "restore did not revert the fixed flag of a cell."),
+            () -> assertEquals(candidateMask, partialEmptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "restore did not rebuild the candidate masks."),
+            () -> assertEquals(snapshot, partialEmptyGrid.snapshot(), "snapshot of the restored grid is not equal to the restored snapshot.")
+        );
+        completeGrid.restore(snapshot);
+        assertArrayEquals(partialEmptyGrid.asArray(), completeGrid.asArray(), "restore into another grid did not copy the values.");
+    }
+
+    @Test
+    void snapshot_withValues_test() {
+        partialEmptyGrid.setNonEmptyAsFixed();
+        final GridSnapshot snapshot = partialEmptyGrid.snapshot();
+        final int[] values = completeGrid.toFlatArray();
+        final GridSnapshot replaced = snapshot.withValues(values);
+        assertAll(
+            () -> assertThrowsExactly(NullPointerException.class, () -> snapshot.withValues(null), "withValues did not throw NullPointerException when null values argument is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> snapshot.withValues(new int[3]), "withValues did not throw IllegalArgumentException when values of wrong length are passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> snapshot.withValues(new int[values.length - 1]), "withValues did not throw IllegalArgumentException when too few values are passed."),
+            () -> assertArrayEquals(values, replaced.toFlatArray(), "withValues did not store the values passed."),
+            () -> assertTrue(replaced.isFixed(0, 1), "withValues did not keep the fixed flags of the snapshot."),
+            () -> assertArrayEquals(partialEmptyGrid.toFlatArray(), snapshot.toFlatArray(), "withValues modified the original snapshot."),
+            () -> assertSame(snapshot, snapshot.snapshot(), "snapshot of a snapshot is not the snapshot itself."),
+            () -> assertSame(partialEmptyGrid.getTopology(), snapshot.getTopology(), "snapshot did not return the topology of its size.")
+        );
+    }
+
+    @Test
+    void invalid_checkpoint_argument_undoTo_test() {
+        final int checkpoint = emptyGrid.mark();
+        assertAll(
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> emptyGrid.undoTo(-1), "undoTo did not throw IllegalArgumentException when negative checkpoint argument is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> emptyGrid.undoTo(checkpoint + 1), "undoTo did not throw IllegalArgumentException when checkpoint argument beyond the trail is passed.")
+        );
+    }
+
+    @Test
+    void mark_undoTo_test() throws ValueOutOfBoundsException, DisallowedValueException {
+        final int[][] initialValues = partialEmptyGrid.asArray();
+        final long candidateMask = partialEmptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN);
+        assertFalse(partialEmptyGrid.isTrailActive(), "Trail is active before any checkpoint is marked.");
+        final int outerCheckpoint = partialEmptyGrid.mark();
+        assertTrue(partialEmptyGrid.isTrailActive(), "mark did not activate the trail.");
+        partialEmptyGrid.setValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN, RANDOM_VALUE);
+        final int[][] intermediateValues = partialEmptyGrid.asArray();
+        final int innerCheckpoint = partialEmptyGrid.mark();
+        partialEmptyGrid.removeValue(0, 1);
+        partialEmptyGrid.getCell(RANDOM_CELL_ROW, 0).setValue(4);
+        partialEmptyGrid.undoTo(innerCheckpoint);
+        assertArrayEquals(intermediateValues, partialEmptyGrid.asArray(), "undoTo did not revert the values changed after the inner checkpoint.");
+        partialEmptyGrid.undoTo(outerCheckpoint);
+        assertAll(
+            () -> assertArrayEquals(initialValues, partialEmptyGrid.asArray(), "undoTo did not revert the values changed after the outer checkpoint."),
+            () -> assertEquals(candidateMask, partialEmptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "undoTo did not revert the candidate masks.")
+        );
+    }
+
+    @Test
+    void clearTrail_test() throws ValueOutOfBoundsException, DisallowedValueException {
+        final int checkpoint = emptyGrid.mark();
+        emptyGrid.setValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN, RANDOM_VALUE);
+        emptyGrid.clearTrail();
+        assertAll(
+            () -> assertFalse(emptyGrid.isTrailActive(), "clearTrail did not deactivate the trail."),
+            () -> assertEquals(checkpoint, emptyGrid.mark(), "clearTrail did not discard the recorded changes."),
+            () -> assertEquals(Optional.of(RANDOM_VALUE), emptyGrid.getValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "clearTrail reverted a recorded change.")
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 10})
+    void invalid_value_argument_trySetValue_test(int invalidValue) {
+        assertEquals(SetValueStatus.OUT_OF_BOUNDS, emptyGrid.trySetValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN, invalidValue), "trySetValue did not return OUT_OF_BOUNDS when invalid value argument is passed.");
+    }
+
+    @Test
+    void trySetValue_test() throws InvalidSudokuException {
+        assertAll(
+            () -> assertEquals(SetValueStatus.CONFLICT_ROW, partialEmptyGrid.trySetValue(0, 0, 9), "trySetValue did not return CONFLICT_ROW for a value present in the row."),
+            () -> assertEquals(SetValueStatus.CONFLICT_COLUMN, partialEmptyGrid.trySetValue(0, 0, 6), "trySetValue did not return CONFLICT_COLUMN for a value present in the column."),
+            () -> assertEquals(SetValueStatus.CONFLICT_NONET, partialEmptyGrid.trySetValue(2, 0, 1), "trySetValue did not return CONFLICT_NONET for a value present in the nonet."),
+            () -> assertTrue(partialEmptyGrid.getValue(0, 0).isEmpty(), "trySetValue set a conflicting value.")
+        );
+        assertEquals(SetValueStatus.OK, partialEmptyGrid.trySetValue(0, 0, 2), "trySetValue did not return OK for a permissible value.");
+        assertEquals(Optional.of(2), partialEmptyGrid.getValue(0, 0), "trySetValue did not set a permissible value.");
+        partialEmptyGrid.setNonEmptyAsFixed();
+        assertEquals(SetValueStatus.FIXED, partialEmptyGrid.trySetValue(0, 0, 3), "trySetValue did not return FIXED for a fixed cell.");
+        emptyGrid.setActiveVerification(false);
+        emptyGrid.trySetValue(0, 0, 1);
+        assertEquals(SetValueStatus.OK, emptyGrid.trySetValue(0, 1, 1), "trySetValue checked conflicts when active verification is turned off.");
+    }
+
+    @Test
+    void setValue_stackless_exception_test() {
+        final DisallowedValueException exception = assertThrowsExactly(DisallowedValueException.class, () -> completeGrid.setValue(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN, RANDOM_VALUE), "setValue did not throw DisallowedValueException for a disallowed value.");
+        assertEquals(0, exception.getStackTrace().length, "setValue threw DisallowedValueException with a stack trace.");
+    }
+
+    @Test
+    void of_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid grid = Grid.of(PARTIAL_VALID_MATRIX);
+        assertAll(
+            () -> assertArrayEquals(PARTIAL_VALID_MATRIX, grid.asArray(), "of did not load the values of the matrix."),
+            () -> assertEquals(partialEmptyGrid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), grid.getCandidateMask(RANDOM_CELL_ROW, RANDOM_CELL_COLUMN), "of did not build the candidate masks."),
+            () -> assertThrowsExactly(DisallowedValueException.class, () -> Grid.of(CONFLICTING_MATRIX), "of did not throw DisallowedValueException when matrix with conflicting values is passed."),
+            () -> assertArrayEquals(CONFLICTING_MATRIX, Grid.of(CONFLICTING_MATRIX, true).asArray(), "of did not load the values of a trusted matrix.")
+        );
+    }
+
+    @Test
+    void invalid_values_argument_load_test() {
+        final int[] invalidValues = new int[CELL_COUNT];
+        invalidValues[RANDOM_CELL_COLUMN] = VALID_ORDER + 1;
+        assertAll(
+            () -> assertThrowsExactly(NullPointerException.class, () -> emptyGrid.load(null), "load did not throw NullPointerException when null values argument is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> emptyGrid.load(new int[CELL_COUNT - 1]), "load did not throw IllegalArgumentException when values argument of invalid length is passed."),
+            () -> assertThrowsExactly(ValueOutOfBoundsException.class, () -> emptyGrid.load(invalidValues), "load did not throw ValueOutOfBoundsException when values argument with invalid value is passed.")
+        );
+    }
+
+    @Test
+    void load_test() throws InvalidSizeException, InvalidSudokuException, ValueOutOfBoundsException, DisallowedValueException {
+        final int[] conflictingValues = Grid.of(CONFLICTING_MATRIX, true).toFlatArray();
+        completeGrid.setNonEmptyAsFixed();
+        assertThrowsExactly(DisallowedValueException.class, () -> completeGrid.load(conflictingValues), "load did not throw DisallowedValueException when values argument with conflicting values is passed.");
+        assertArrayEquals(COMPLETE_VALID_MATRIX, completeGrid.asArray(), "load changed the grid although the values were rejected.");
+        completeGrid.load(partialEmptyGrid.toFlatArray());
+        assertAll(
+            () -> assertArrayEquals(PARTIAL_VALID_MATRIX, completeGrid.asArray(), "load did not replace the values of the grid."),
+            () -> assertFalse(completeGrid.getCell(0, 1).isFixed(), "load did not reset the fixed flags of the grid.")
+        );
+        completeGrid.setActiveVerification(false);
+        completeGrid.load(conflictingValues);
+        assertArrayEquals(CONFLICTING_MATRIX, completeGrid.asArray(), "load checked conflicts when active verification is turned off.");
+    }
+
+    @Test
+    void toFlatArray_test() {
+        final int[] flatArray = partialEmptyGrid.toFlatArray();
+        assertEquals(CELL_COUNT, flatArray.length, "toFlatArray returned an array of incorrect length.");
+        for(int row = 0; row < VALID_ORDER; row++) {
+            assertArrayEquals(PARTIAL_VALID_MATRIX[row], Arrays.copyOfRange(flatArray, row * VALID_ORDER, (row + 1) * VALID_ORDER), "toFlatArray returned incorrect values for a row.");
+        }
+    }
 }
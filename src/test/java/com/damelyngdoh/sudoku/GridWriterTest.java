@@ -0,0 +1,113 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.GridWriter;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+
+@TestInstance(Lifecycle.PER_METHOD)
+public class GridWriterTest {
+
+    static final int[][] PARTIAL_MATRIX = {
+        {1,0,0,0},
+        {0,0,3,0},
+        {0,4,0,0},
+        {0,0,0,2}
+    };
+    static final String DELIMITED_STRING = "1,0,0,0\n0,0,3,0\n0,4,0,0\n0,0,0,2\n";
+    static final String CUSTOM_DELIMITED_STRING = "1;*;*;*|*;*;3;*|*;4;*;*|*;*;*;2|";
+    static final String COMPACT_STRING = "1.....3..4.....2";
+
+    Grid grid;
+
+    @BeforeEach
+    void initializeGrid() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        grid = Grid.of(PARTIAL_MATRIX);
+    }
+
+    @Test
+    void invalid_arguments_delimited_test() {
+        assertAll(
+            () -> assertThrowsExactly(NullPointerException.class, () -> GridWriter.delimited(null, "", ""), "delimited did not throw NullPointerException when null cell delimiter argument is passed."),
+            () -> assertThrowsExactly(NullPointerException.class, () -> GridWriter.delimited("", null, ""), "delimited did not throw NullPointerException when null row delimiter argument is passed."),
+            () -> assertThrowsExactly(NullPointerException.class, () -> GridWriter.delimited("", "", null), "delimited did not throw NullPointerException when null empty cell notation argument is passed.")
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(chars = {'1', 'A', '%', 'é'})
+    void invalid_empty_cell_symbol_compact_test(char invalidSymbol) {
+        assertThrowsExactly(IllegalArgumentException.class, () -> GridWriter.compact(invalidSymbol), "compact did not throw IllegalArgumentException when invalid empty cell symbol is passed.");
+    }
+
+    @Test
+    void delimited_appendable_test() throws IOException {
+        final StringWriter writer = new StringWriter();
+        GridWriter.delimited().write(grid, writer);
+        assertAll(
+            () -> assertEquals(DELIMITED_STRING, writer.toString(), "write with default delimited format wrote incorrect text."),
+            () -> assertEquals(CUSTOM_DELIMITED_STRING, GridWriter.delimited(";", "|", "*").toString(grid), "toString with custom delimited format returned incorrect text."),
+            () -> assertEquals(grid.asString(), GridWriter.delimited().toString(grid), "toString did not return the same text as asString."),
+            () -> assertEquals("0;0;3;0", GridWriter.delimited(";", "|", "0").toString(grid.getRow(1)), "toString returned incorrect text for a house.")
+        );
+    }
+
+    @Test
+    void compact_appendable_test() {
+        assertAll(
+            () -> assertEquals(COMPACT_STRING, GridWriter.compact().toString(grid), "toString with compact format returned incorrect text."),
+            () -> assertEquals(COMPACT_STRING.replace('.', '0'), GridWriter.compact('0').toString(grid), "toString with compact format returned incorrect text for custom empty cell symbol."),
+            () -> assertEquals("..4.", GridWriter.compact().toString(grid.getColumn(1)), "toString with compact format returned incorrect text for a house.")
+        );
+    }
+
+    @Test
+    void large_values_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid largeGrid = new Grid(16);
+        largeGrid.setValue(0, 0, 16);
+        largeGrid.setValue(0, 1, 10);
+        assertAll(
+            () -> assertEquals("16,10,0", GridWriter.delimited().toString(largeGrid.getRow(0)).substring(0, 7), "toString wrote incorrect text for values greater than 9."),
+            () -> assertEquals("GA.", GridWriter.compact().toString(largeGrid.getRow(0)).substring(0, 3), "toString with compact format wrote incorrect symbols for values greater than 9.")
+        );
+    }
+
+    @Test
+    void byte_buffer_test() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        final int delimitedLength = GridWriter.delimited().write(grid, buffer);
+        final int compactLength = GridWriter.compact().write(grid, buffer);
+        buffer.flip();
+        assertAll(
+            () -> assertEquals(DELIMITED_STRING.length(), delimitedLength, "write returned incorrect byte count for delimited format."),
+            () -> assertEquals(COMPACT_STRING.length(), compactLength, "write returned incorrect byte count for compact format."),
+            () -> assertEquals(DELIMITED_STRING + COMPACT_STRING, StandardCharsets.UTF_8.decode(buffer).toString(), "write wrote incorrect bytes.")
+        );
+    }
+
+    @Test
+    void byte_buffer_overflow_test() {
+        final ByteBuffer buffer = ByteBuffer.allocate(COMPACT_STRING.length() - 1);
+        buffer.put((byte)'x');
+        assertThrowsExactly(BufferOverflowException.class, () -> GridWriter.compact().write(grid, buffer), "write did not throw BufferOverflowException when buffer is too small.");
+        assertEquals(1, buffer.position(), "write did not restore the position of the buffer after overflow.");
+    }
+}
@@ -231,6 +231,40 @@ public class HouseTest {
         assertEquals(1, house.getPresentValues().size(), "getPresentValues returned incorrect set size.");
     }
 
+    @Test
+    void getPresentValuesMask_test() throws ValueOutOfBoundsException {
+        final int addedValue = 4;
+        assertEquals(0L, house.getPresentValuesMask(), "getPresentValuesMask is not empty with all empty cells in a row.");
+        assertEquals(0x1FFL, completeHouse.getPresentValuesMask(), "getPresentValuesMask did not contain all values for complete row.");
+        house.get(0).setValue(addedValue);
+        assertEquals(1L << (addedValue - 1), house.getPresentValuesMask(), "getPresentValuesMask returned incorrect mask after setting the value of one of the cells of the house.");
+    }
+
+    @Test
+    void getPresentValueCount_test() throws ValueOutOfBoundsException {
+        assertEquals(0, house.getPresentValueCount(), "getPresentValueCount is not 0 with all empty cells in a row.");
+        assertEquals(GRID_ORDER, completeHouse.getPresentValueCount(), "getPresentValueCount is not equal to size for complete row.");
+        house.get(0).setValue(1);
+        house.get(1).setValue(2);
+        assertEquals(2, house.getPresentValueCount(), "getPresentValueCount returned incorrect count.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, GRID_ORDER + 1})
+    void containsValue_invalid_value_test(int value) {
+        assertFalse(completeHouse.containsValue(value), "containsValue returned true for a value beyond the range of the grid.");
+    }
+
+    @Test
+    void containsValue_test() throws ValueOutOfBoundsException {
+        final int addedValue = 7;
+        assertFalse(house.containsValue(addedValue), "containsValue returned true with all empty cells in a row.");
+        house.get(3).setValue(addedValue);
+        assertTrue(house.containsValue(addedValue), "containsValue returned false for a value set to one of the cells.");
+        house.get(3).removeValue();
+        assertFalse(house.containsValue(addedValue), "containsValue returned true for a value removed from the cells.");
+    }
+
     @Test
     void getMissingValues_test() throws ValueOutOfBoundsException {
         final int addedValue = 1;
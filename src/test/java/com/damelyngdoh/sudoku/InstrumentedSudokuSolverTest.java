@@ -0,0 +1,164 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.BitboardSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.DancingLinksSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.InstrumentedSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.LogicalSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.PropagatingSolver;
+import com.damelyngdoh.azosudoku.solvers.SimpleSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveStats;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
+import com.damelyngdoh.azosudoku.solvers.SudokuSolver;
+
+public class InstrumentedSudokuSolverTest {
+
+    List<SolveStats> recorded;
+    SimpleSudokuSolver delegate;
+    InstrumentedSudokuSolver solver;
+    Grid validGrid;
+
+    @BeforeEach
+    void initializeSolver() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        recorded = new ArrayList<>();
+        delegate = new SimpleSudokuSolver();
+        solver = new InstrumentedSudokuSolver(delegate, (solvingSolver, stats) -> {
+            assertSame(delegate, solvingSolver, "Listener was not notified with the delegate solver.");
+            recorded.add(stats);
+        });
+        validGrid = Grid.of(PropagatingSolverTest.PARTIALLY_VALID_MATRIX);
+    }
+
+    @Test
+    void invalid_arguments_test() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> new InstrumentedSudokuSolver(null, (solvingSolver, stats) -> {}), "InstrumentedSudokuSolver constructor did not throw NullPointerException when null delegate argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> new InstrumentedSudokuSolver(delegate, null), "InstrumentedSudokuSolver constructor did not throw NullPointerException when null listener argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.solve(null), "solve did not throw NullPointerException when null grid argument is passed.")
+        );
+    }
+
+    @Test
+    void limited_solve_stats_test() {
+        final int emptyCellCount = validGrid.getEmptyCells().size();
+        assertEquals(SolveStatus.SOLVED, solver.solve(validGrid, SolveLimits.NONE), "solve did not solve the valid grid.");
+        assertEquals(1, recorded.size(), "Listener was not notified once per solve.");
+        final SolveStats stats = recorded.get(0);
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, stats.getStatus(), "Statistics did not record the status of the solve."),
+            () -> assertTrue(stats.getNodes() >= emptyCellCount, "Statistics did not record a node for every value placed."),
+            () -> assertEquals(emptyCellCount, stats.getMaxDepth(), "Statistics did not record the depth of the solution."),
+            () -> assertEquals(stats.getNodes() - emptyCellCount, stats.getBacktracks(), "Statistics did not record a backtrack for every value removed."),
+            () -> assertTrue(stats.getWallTimeNanos() > 0, "Statistics did not record the wall time."),
+            () -> assertTrue(stats.getAllocatedBytes() >= -1, "Statistics recorded an invalid allocated byte count.")
+        );
+    }
+
+    @Test
+    void propagating_delegate_stats_test() {
+        final SolveStats stats = new SolveStats();
+        final SudokuSolver propagatingSolver = new PropagatingSolver(new BitboardSudokuSolver());
+        assertEquals(SolveStatus.SOLVED, propagatingSolver.solve(validGrid, SolveLimits.NONE, stats), "solve did not solve the valid grid.");
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, stats.getStatus(), "Statistics did not record the status of the solve."),
+            () -> assertTrue(stats.getPropagations() > 0, "Statistics did not record the values placed by propagation."),
+            () -> assertTrue(validGrid.getEmptyCells().isEmpty(), "solve did not fill the grid.")
+        );
+    }
+
+    @Test
+    void nested_solve_stats_test() {
+        final SolveStats stats = new SolveStats();
+        final SudokuSolver propagatingSolver = new PropagatingSolver(solver);
+        assertEquals(SolveStatus.SOLVED, propagatingSolver.solve(validGrid, SolveLimits.NONE, stats), "solve did not solve the valid grid.");
+        assertEquals(1, recorded.size(), "Listener was not notified once.");
+        final SolveStats delegateStats = recorded.get(0);
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, delegateStats.getStatus(), "Listener statistics did not record the status of the delegate solve."),
+            () -> assertTrue(delegateStats.getWallTimeNanos() > 0, "Listener statistics did not record the wall time of the delegate solve."),
+            () -> assertEquals(SolveStatus.SOLVED, stats.getStatus(), "Statistics did not record the status of the solve."),
+            () -> assertEquals(delegateStats.getNodes(), stats.getNodes(), "Statistics did not add the nodes of the delegate solve."),
+            () -> assertTrue(stats.getPropagations() >= delegateStats.getPropagations(), "Statistics did not add the propagations of the delegate solve.")
+        );
+    }
+
+    @Test
+    void unlimited_solve_stats_test() throws InvalidSudokuException, InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid unsolvableGrid = Grid.of(SimpleSudokuSolverTest.PARTIALLY_INVALID_MATRIX);
+        assertThrowsExactly(InvalidSudokuException.class, () -> solver.solve(unsolvableGrid), "solve did not throw InvalidSudokuException when unsolvable grid argument is passed.");
+        assertArrayEquals(SimpleSudokuSolverTest.PARTIALLY_INVALID_MATRIX, unsolvableGrid.asArray(), "solve changed the unsolvable grid.");
+        assertEquals(SolveStatus.UNSOLVABLE, recorded.get(0).getStatus(), "Statistics did not record the unsolvable status.");
+        assertTrue(recorded.get(0).getWallTimeNanos() > 0, "Statistics did not record the wall time.");
+        final int emptyCellCount = validGrid.getEmptyCells().size();
+        solver.solve(validGrid);
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, recorded.get(1).getStatus(), "Statistics did not record the solved status."),
+            () -> assertTrue(recorded.get(1).getNodes() >= emptyCellCount, "Statistics did not record the nodes of the search of the delegate solver."),
+            () -> assertEquals(emptyCellCount, recorded.get(1).getMaxDepth(), "Statistics did not record the depth of the search of the delegate solver.")
+        );
+    }
+
+    @Test
+    void delegate_strategy_stats_test() throws InvalidSudokuException, InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final List<SolveStats> delegateStats = new ArrayList<>();
+        final Grid logicalGrid = Grid.of(LogicalSudokuSolverTest.ADVANCED_MATRIX);
+        final int emptyCellCount = logicalGrid.getEmptyCells().size();
+        new InstrumentedSudokuSolver(new LogicalSudokuSolver(), (solvingSolver, stats) -> delegateStats.add(stats)).solve(logicalGrid);
+        new InstrumentedSudokuSolver(new DancingLinksSudokuSolver(), (solvingSolver, stats) -> delegateStats.add(stats)).solve(Grid.of(DifficultyRaterTest.EXTREME_MATRIX));
+        assertAll(
+            () -> assertEquals(emptyCellCount, delegateStats.get(0).getPropagations(), "Statistics did not record the values placed by the techniques of the logical solver."),
+            () -> assertEquals(0, delegateStats.get(0).getNodes(), "Statistics recorded a search the logical solver did not run."),
+            () -> assertTrue(delegateStats.get(1).getBacktracks() > 0, "Statistics did not record the dead ends of the dancing links search."),
+            () -> assertEquals(0, delegateStats.get(1).getPropagations(), "Statistics recorded propagations the dancing links solver did not run.")
+        );
+    }
+
+    @Test
+    void failing_delegate_solve_test() {
+        final SudokuSolver failingSolver = new InstrumentedSudokuSolver(grid -> {
+            throw new IllegalStateException();
+        }, (solvingSolver, stats) -> recorded.add(stats));
+        final SudokuSolver cancelledSolver = new InstrumentedSudokuSolver(grid -> {
+            throw new CancellationException();
+        }, (solvingSolver, stats) -> recorded.add(stats));
+        assertThrowsExactly(IllegalStateException.class, () -> failingSolver.solve(validGrid), "solve did not rethrow the exception of the delegate solver.");
+        assertTrue(recorded.isEmpty(), "Listener was notified of a solve which failed with an exception.");
+        assertThrows(CancellationException.class, () -> cancelledSolver.solve(validGrid), "solve did not throw CancellationException when the delegate solver was cancelled.");
+        assertEquals(SolveStatus.INTERRUPTED, recorded.get(0).getStatus(), "Statistics did not record a cancelled solve as interrupted.");
+    }
+
+    @Test
+    void failed_solve_stats_reuse_test() {
+        final SudokuSolver failingSolver = grid -> {
+            throw new IllegalStateException();
+        };
+        final SolveStats stats = new SolveStats();
+        assertThrowsExactly(IllegalStateException.class, () -> failingSolver.solve(validGrid, SolveLimits.NONE, stats), "solve did not rethrow the exception of the solver.");
+        assertEquals(SolveStatus.SOLVED, delegate.solve(validGrid, SolveLimits.NONE, stats), "solve did not solve the grid after a failed solve.");
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, stats.getStatus(), "Statistics of a failed solve did not record the status of the next solve."),
+            () -> assertTrue(stats.getWallTimeNanos() > 0, "Statistics of a failed solve did not record the wall time of the next solve."),
+            () -> assertTrue(stats.getNodes() > 0, "Statistics of a failed solve did not record the search of the next solve.")
+        );
+    }
+}
@@ -0,0 +1,160 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.BitboardSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.LogicalSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveStats;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
+import com.damelyngdoh.azosudoku.solvers.SolveStep;
+import com.damelyngdoh.azosudoku.solvers.Technique;
+
+public class LogicalSudokuSolverTest {
+
+    static final int[][] ADVANCED_MATRIX = {
+        {0,7,0,0,0,0,3,0,8},
+        {0,3,0,7,9,0,0,0,0},
+        {2,0,8,0,0,0,0,6,0},
+        {9,8,0,1,0,0,0,7,0},
+        {0,0,0,0,2,0,0,9,0},
+        {0,0,2,0,0,6,0,0,3},
+        {0,5,0,0,0,0,0,0,0},
+        {0,0,6,0,5,0,2,8,0},
+        {0,0,0,0,0,0,0,3,4}
+    };
+
+    LogicalSudokuSolver solver;
+    Grid advancedGrid;
+
+    @BeforeEach
+    void initializeSolver() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        solver = new LogicalSudokuSolver();
+        advancedGrid = Grid.of(ADVANCED_MATRIX);
+    }
+
+    @Test
+    void invalid_arguments_test() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> solver.solve(null), "solve did not throw NullPointerException when null grid argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.solveWithSteps(null), "solveWithSteps did not throw NullPointerException when null grid argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.hint(null), "hint did not throw NullPointerException when null grid argument is passed.")
+        );
+    }
+
+    @Test
+    void advanced_grid_argument_solveWithSteps_test() throws InvalidSudokuException, InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final int emptyCellCount = advancedGrid.getEmptyCells().size();
+        final List<SolveStep> steps = solver.solveWithSteps(advancedGrid);
+        final Grid expected = Grid.of(ADVANCED_MATRIX);
+        new BitboardSudokuSolver().solve(expected);
+        final Set<Technique> techniques = EnumSet.noneOf(Technique.class);
+        steps.forEach(step -> techniques.add(step.getTechnique()));
+        assertAll(
+            () -> assertArrayEquals(expected.toFlatArray(), advancedGrid.toFlatArray(), "solveWithSteps did not fill the grid with its solution."),
+            () -> assertEquals(emptyCellCount, steps.stream().filter(SolveStep::isPlacement).count(), "solveWithSteps did not record a placement for every empty cell."),
+            () -> assertTrue(techniques.containsAll(EnumSet.of(Technique.LOCKED_CANDIDATES, Technique.X_WING, Technique.XY_WING)), "solveWithSteps did not apply the techniques the grid requires."),
+            () -> assertFalse(techniques.contains(Technique.SEARCH), "solveWithSteps fell back to search although the techniques solve the grid.")
+        );
+    }
+
+    @Test
+    void step_replay_test() throws InvalidSudokuException {
+        final int[] solution = advancedGrid.copy().toFlatArray();
+        final Grid solvedGrid = advancedGrid.copy();
+        new BitboardSudokuSolver().solve(solvedGrid);
+        final int[] expected = solvedGrid.toFlatArray();
+        for(final SolveStep step : solver.solveWithSteps(advancedGrid)) {
+            if(step.isPlacement()) {
+                assertEquals(0, solution[step.getCell()], "A step placed a value in a filled cell.");
+                assertEquals(expected[step.getCell()], step.getValue(), "A step placed a value which is not the value of the solution.");
+                solution[step.getCell()] = step.getValue();
+                continue;
+            }
+            assertTrue(step.getEliminationCount() > 0, "An elimination step did not eliminate any candidate.");
+            for(int position = 0; position < step.getEliminationCount(); position++) {
+                final long solutionBit = 1L << (expected[step.getEliminationCell(position)] - 1);
+                assertEquals(0L, step.getEliminationMask(position) & solutionBit, "A step eliminated the value of the solution from a cell.");
+            }
+        }
+        assertArrayEquals(expected, solution, "Replaying the placements did not produce the solution.");
+    }
+
+    @Test
+    void hint_test() throws InvalidSudokuException {
+        final List<SolveStep> hint = solver.hint(advancedGrid);
+        assertAll(
+            () -> assertFalse(hint.isEmpty(), "hint returned no step for a grid with empty cells."),
+            () -> assertTrue(hint.get(hint.size() - 1).isPlacement(), "hint did not end with a placement."),
+            () -> assertEquals(1, hint.stream().filter(SolveStep::isPlacement).count(), "hint returned more than one placement."),
+            () -> assertArrayEquals(ADVANCED_MATRIX, advancedGrid.asArray(), "hint modified the grid.")
+        );
+        solver.solve(advancedGrid);
+        assertTrue(solver.hint(advancedGrid).isEmpty(), "hint returned a step for a full grid.");
+    }
+
+    @Test
+    void invalid_sudoku_argument_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid unsolvableGrid = Grid.of(TestUtils.UNSOLVABLE_MATRIX);
+        assertThrowsExactly(InvalidSudokuException.class, () -> solver.solve(unsolvableGrid), "solve did not throw InvalidSudokuException when unsolvable grid argument is passed.");
+        assertArrayEquals(TestUtils.UNSOLVABLE_MATRIX, unsolvableGrid.asArray(), "solve changed the grid although it has no solution.");
+    }
+
+    @Test
+    void hard_grid_argument_solve_test() throws InvalidSudokuException, InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid hardGrid = Grid.of(TestUtils.HARD_MATRIX);
+        solver.solve(hardGrid);
+        assertTrue(hardGrid.getEmptyCells().isEmpty() && hardGrid.validate().isValid(), "solve did not fill the hard grid with a valid solution.");
+    }
+
+    @Test
+    void step_toString_test() throws InvalidSudokuException {
+        final List<SolveStep> steps = solver.solveWithSteps(advancedGrid);
+        final SolveStep placement = steps.stream().filter(SolveStep::isPlacement).findFirst().get();
+        final String expected = String.format("%s r%dc%d=%d", placement.getTechnique(), (placement.getCell() / 9) + 1, (placement.getCell() % 9) + 1, placement.getValue());
+        assertEquals(expected, placement.toString(), "toString did not return the compact notation of a placement.");
+        final SolveStep elimination = steps.stream().filter(step -> !step.isPlacement()).findFirst().get();
+        assertTrue(elimination.toString().matches("[A-Z_]+( r\\d+c\\d+-(\\d+|\\{\\d+(,\\d+)+\\}))+"), "toString did not return the compact notation of an elimination.");
+    }
+
+    @Test
+    void limited_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final int emptyCellCount = advancedGrid.getEmptyCells().size();
+        final Grid extremeGrid = Grid.of(DifficultyRaterTest.EXTREME_MATRIX);
+        final SolveStats advancedStats = new SolveStats();
+        final SolveStats extremeStats = new SolveStats();
+        assertAll(
+            () -> assertEquals(SolveStatus.UNSOLVABLE, solver.solve(Grid.of(TestUtils.UNSOLVABLE_MATRIX), SolveLimits.NONE), "solve did not return UNSOLVABLE when unsolvable grid argument is passed."),
+            () -> assertEquals(SolveStatus.TIMEOUT, solver.solve(extremeGrid, SolveLimits.NONE.withDeadline(Instant.EPOCH)), "solve did not return TIMEOUT when the deadline has passed."),
+            () -> assertArrayEquals(DifficultyRaterTest.EXTREME_MATRIX, extremeGrid.asArray(), "solve changed the grid although a limit was exceeded.")
+        );
+        assertEquals(SolveStatus.SOLVED, solver.solve(advancedGrid, SolveLimits.NONE, advancedStats), "solve did not return SOLVED when advanced grid argument is passed.");
+        assertEquals(SolveStatus.SOLVED, solver.solve(extremeGrid, SolveLimits.NONE, extremeStats), "solve did not return SOLVED when extreme grid argument is passed.");
+        assertAll(
+            () -> assertTrue(advancedGrid.getEmptyCells().isEmpty() && advancedGrid.validate().isValid(), "solve did not fill the advanced grid with a valid solution."),
+            () -> assertEquals(emptyCellCount, advancedStats.getPropagations(), "Statistics did not record every value placed by a technique as a propagation."),
+            () -> assertEquals(0, advancedStats.getNodes(), "Statistics recorded a search although the techniques solve the grid."),
+            () -> assertTrue(extremeStats.getNodes() > 0, "Statistics did not record the search for the values no technique can place."),
+            () -> assertTrue(extremeStats.getPropagations() > 0, "Statistics did not record the values placed by the techniques.")
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.ParallelSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveStats;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
+
+public class ParallelSudokuSolverTest {
+
+    ForkJoinPool pool;
+    ParallelSudokuSolver solver;
+    Grid hardGrid;
+
+    @BeforeEach
+    void initializeSolver() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        pool = new ForkJoinPool(4);
+        solver = new ParallelSudokuSolver(pool, 3);
+        hardGrid = Grid.of(TestUtils.HARD_MATRIX);
+    }
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void invalid_arguments_test() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> new ParallelSudokuSolver(null, 1), "ParallelSudokuSolver constructor did not throw NullPointerException when null pool argument is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> new ParallelSudokuSolver(pool, -1), "ParallelSudokuSolver constructor did not throw IllegalArgumentException when negative split depth argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.solve(null), "solve did not throw NullPointerException when null grid argument is passed.")
+        );
+    }
+
+    @Test
+    void hard_grid_argument_solve_test() {
+        assertDoesNotThrow(() -> solver.solve(hardGrid), "solve threw an exception when valid hard grid argument is passed.");
+        assertTrue(hardGrid.getEmptyCells().isEmpty() && hardGrid.validate().isValid(), "solve did not fill the grid with a valid solution.");
+    }
+
+    @Test
+    void invalid_sudoku_argument_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid unsolvableGrid = Grid.of(TestUtils.UNSOLVABLE_MATRIX);
+        assertThrowsExactly(InvalidSudokuException.class, () -> solver.solve(unsolvableGrid), "solve did not throw InvalidSudokuException when unsolvable grid argument is passed.");
+        assertArrayEquals(TestUtils.UNSOLVABLE_MATRIX, unsolvableGrid.asArray(), "solve changed the grid although it has no solution.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 25})
+    void large_empty_grid_argument_solve_test(int size) throws InvalidSizeException {
+        final Grid grid = new Grid(size);
+        assertDoesNotThrow(() -> solver.solve(grid), "solve threw an exception when large empty grid argument is passed.");
+        assertTrue(grid.getEmptyCells().isEmpty() && grid.validate().isValid(), "solve did not fill the large grid with a valid solution.");
+    }
+
+    @Test
+    void limited_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid unsolvableGrid = TestUtils.slowUnsolvableGrid();
+        final int[][] initialValues = unsolvableGrid.asArray();
+        final SolveStats stats = new SolveStats();
+        assertAll(
+            () -> assertEquals(SolveStatus.UNSOLVABLE, solver.solve(Grid.of(TestUtils.UNSOLVABLE_MATRIX), SolveLimits.NONE), "solve did not return UNSOLVABLE when unsolvable grid argument is passed."),
+            () -> assertEquals(SolveStatus.TIMEOUT, solver.solve(unsolvableGrid, SolveLimits.NONE.withTimeout(Duration.ofMillis(100)), stats), "solve did not return TIMEOUT when the timeout is exceeded while the tasks search."),
+            () -> assertArrayEquals(initialValues, unsolvableGrid.asArray(), "solve changed the grid although the timeout was exceeded."),
+            () -> assertTrue(stats.getNodes() > 0 && stats.getBacktracks() > 0, "Statistics did not record the search of the tasks.")
+        );
+        assertEquals(SolveStatus.SOLVED, solver.solve(hardGrid, SolveLimits.NONE, stats), "solve did not return SOLVED when the limits are not exceeded.");
+        assertTrue(hardGrid.getEmptyCells().isEmpty() && hardGrid.validate().isValid(), "solve did not fill the grid with a valid solution.");
+    }
+}
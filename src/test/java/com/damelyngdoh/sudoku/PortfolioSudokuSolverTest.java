@@ -0,0 +1,241 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.BitboardSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.DancingLinksSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.InstrumentedSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.LogicalSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.PortfolioSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SimpleSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveStats;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
+import com.damelyngdoh.azosudoku.solvers.SudokuSolver;
+
+public class PortfolioSudokuSolverTest {
+
+    ExecutorService executor;
+    CountDownLatch interrupted;
+    static final int[][] BRUTE_FORCE_RESISTANT_MATRIX = {
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,3,0,8,5},
+        {0,0,1,0,2,0,0,0,0},
+        {0,0,0,5,0,7,0,0,0},
+        {0,0,4,0,0,0,1,0,0},
+        {0,9,0,0,0,0,0,0,0},
+        {5,0,0,0,0,0,0,7,3},
+        {0,0,2,0,1,0,0,0,0},
+        {0,0,0,0,4,0,0,0,9}
+    };
+
+    SudokuSolver blockingStrategy;
+    SudokuSolver bitboardStrategy;
+    Grid hardGrid;
+
+    @BeforeEach
+    void initializeSolver() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        executor = Executors.newFixedThreadPool(2);
+        interrupted = new CountDownLatch(1);
+        blockingStrategy = grid -> {
+            try {
+                Thread.sleep(Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            throw new InvalidSudokuException();
+        };
+        bitboardStrategy = new BitboardSudokuSolver();
+        hardGrid = Grid.of(TestUtils.HARD_MATRIX);
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void invalid_arguments_test() {
+        final PortfolioSudokuSolver solver = new PortfolioSudokuSolver(List.of(bitboardStrategy), executor);
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> new PortfolioSudokuSolver(null, executor), "PortfolioSudokuSolver constructor did not throw NullPointerException when null strategies argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> new PortfolioSudokuSolver(List.of(bitboardStrategy), null), "PortfolioSudokuSolver constructor did not throw NullPointerException when null executor argument is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> new PortfolioSudokuSolver(), "PortfolioSudokuSolver constructor did not throw IllegalArgumentException when no strategy is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.solve(null), "solve did not throw NullPointerException when null grid argument is passed.")
+        );
+    }
+
+    @Test
+    void hard_grid_argument_solve_test() {
+        try(PortfolioSudokuSolver solver = new PortfolioSudokuSolver(new BitboardSudokuSolver(), new DancingLinksSudokuSolver())) {
+            assertDoesNotThrow(() -> solver.solve(hardGrid), "solve threw an exception when valid hard grid argument is passed.");
+            assertTrue(hardGrid.getEmptyCells().isEmpty() && hardGrid.validate().isValid(), "solve did not fill the grid with a valid solution.");
+            assertEquals(1, solver.getWins(0) + solver.getWins(1), "solve did not record a single win for the race.");
+        }
+    }
+
+    @Test
+    void losing_strategy_interrupted_test() throws InterruptedException {
+        final PortfolioSudokuSolver solver = new PortfolioSudokuSolver(List.of(blockingStrategy, bitboardStrategy), executor);
+        assertDoesNotThrow(() -> solver.solve(hardGrid), "solve threw an exception when a strategy finds a solution.");
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "solve did not interrupt the losing strategy.");
+        assertAll(
+            () -> assertEquals(0, solver.getWins(0), "Losing strategy was recorded as winning."),
+            () -> assertEquals(1, solver.getWins(1), "Winning strategy was not recorded as winning."),
+            () -> assertEquals(List.of(0L, 1L), List.copyOf(solver.getWinStatistics().values()), "getWinStatistics did not return the wins of the strategies in order.")
+        );
+        solver.resetWinStatistics();
+        assertEquals(0, solver.getWins(1), "resetWinStatistics did not reset the wins.");
+    }
+
+    @Test
+    void invalid_sudoku_argument_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final PortfolioSudokuSolver solver = new PortfolioSudokuSolver(List.of(new BitboardSudokuSolver(), new DancingLinksSudokuSolver()), executor);
+        final Grid unsolvableGrid = Grid.of(TestUtils.UNSOLVABLE_MATRIX);
+        assertThrowsExactly(InvalidSudokuException.class, () -> solver.solve(unsolvableGrid), "solve did not throw InvalidSudokuException when unsolvable grid argument is passed.");
+        assertArrayEquals(TestUtils.UNSOLVABLE_MATRIX, unsolvableGrid.asArray(), "solve changed the grid although it has no solution.");
+        assertEquals(0, solver.getWins(0) + solver.getWins(1), "solve recorded a win although no strategy found a solution.");
+    }
+
+    @Test
+    void unsolvable_race_ended_test() throws InterruptedException, InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final PortfolioSudokuSolver solver = new PortfolioSudokuSolver(List.of(blockingStrategy, bitboardStrategy), executor);
+        final Grid unsolvableGrid = Grid.of(TestUtils.UNSOLVABLE_MATRIX);
+        final SolveStatus status = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> solver.solve(unsolvableGrid, SolveLimits.NONE), "solve waited for the blocking strategy although a strategy found the puzzle unsolvable.");
+        assertEquals(SolveStatus.UNSOLVABLE, status, "solve did not return UNSOLVABLE when a strategy found the puzzle unsolvable.");
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "solve did not interrupt the blocking strategy.");
+        assertArrayEquals(TestUtils.UNSOLVABLE_MATRIX, unsolvableGrid.asArray(), "solve changed the grid although it has no solution.");
+    }
+
+    @Test
+    void limited_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final PortfolioSudokuSolver solver = new PortfolioSudokuSolver(List.of(new LogicalSudokuSolver(), new DancingLinksSudokuSolver()), executor);
+        final SolveStats stats = new SolveStats();
+        assertAll(
+            () -> assertEquals(SolveStatus.UNSOLVABLE, solver.solve(Grid.of(TestUtils.UNSOLVABLE_MATRIX), SolveLimits.NONE), "solve did not return UNSOLVABLE when unsolvable grid argument is passed."),
+            () -> assertEquals(SolveStatus.TIMEOUT, solver.solve(hardGrid, SolveLimits.NONE.withDeadline(Instant.EPOCH)), "solve did not return TIMEOUT when the deadline has passed."),
+            () -> assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solve changed the grid although the deadline has passed."),
+            () -> assertEquals(0, solver.getWins(0) + solver.getWins(1), "solve recorded a win although no strategy found a solution.")
+        );
+        assertEquals(SolveStatus.SOLVED, solver.solve(hardGrid, SolveLimits.NONE, stats), "solve did not return SOLVED when the limits are not exceeded.");
+        assertAll(
+            () -> assertTrue(hardGrid.getEmptyCells().isEmpty() && hardGrid.validate().isValid(), "solve did not fill the grid with a valid solution."),
+            () -> assertEquals(1, solver.getWins(0) + solver.getWins(1), "solve did not record a single win for the race."),
+            () -> assertTrue(stats.getNodes() + stats.getPropagations() > 0, "Statistics did not record the solve of the winning strategy.")
+        );
+    }
+
+    @Test
+    void searching_losing_strategy_stopped_test() throws InterruptedException, InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final CountDownLatch stopped = new CountDownLatch(1);
+        final AtomicReference<SolveStatus> status = new AtomicReference<>();
+        final SudokuSolver searchingStrategy = new InstrumentedSudokuSolver(new SimpleSudokuSolver(), (delegate, stats) -> {
+            status.set(stats.getStatus());
+            stopped.countDown();
+        });
+        final SudokuSolver delayedStrategy = grid -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            bitboardStrategy.solve(grid);
+        };
+        final PortfolioSudokuSolver solver = new PortfolioSudokuSolver(List.of(searchingStrategy, delayedStrategy), executor);
+        final Grid grid = Grid.of(BRUTE_FORCE_RESISTANT_MATRIX);
+        assertDoesNotThrow(() -> solver.solve(grid), "solve threw an exception when a strategy finds a solution.");
+        assertTrue(stopped.await(5, TimeUnit.SECONDS), "solve did not stop the search of the losing strategy.");
+        assertAll(
+            () -> assertEquals(SolveStatus.INTERRUPTED, status.get(), "The losing strategy was not stopped by the interrupt."),
+            () -> assertEquals(1, solver.getWins(1), "Winning strategy was not recorded as winning.")
+        );
+    }
+
+    @Test
+    void close_test() {
+        final PortfolioSudokuSolver ownedSolver = new PortfolioSudokuSolver(bitboardStrategy);
+        final PortfolioSudokuSolver sharedSolver = new PortfolioSudokuSolver(List.of(bitboardStrategy), executor);
+        ownedSolver.close();
+        sharedSolver.close();
+        assertAll(
+            () -> assertThrows(RejectedExecutionException.class, () -> ownedSolver.solve(hardGrid), "close did not shut down the executor created by the portfolio."),
+            () -> assertFalse(executor.isShutdown(), "close shut down the executor passed to the portfolio."),
+            () -> assertDoesNotThrow(() -> sharedSolver.solve(hardGrid), "close stopped the portfolio running on an executor passed to it.")
+        );
+    }
+
+    @Test
+    void failing_strategies_solve_test() {
+        final SudokuSolver overflowingStrategy = grid -> {
+            throw new StackOverflowError();
+        };
+        final PortfolioSudokuSolver solver = new PortfolioSudokuSolver(List.of(overflowingStrategy, overflowingStrategy), executor);
+        final SolveStats stats = new SolveStats();
+        assertThrowsExactly(StackOverflowError.class, () -> solver.solve(hardGrid, SolveLimits.NONE, stats), "solve did not rethrow the Error thrown by every strategy.");
+        assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solve changed the grid although every strategy failed.");
+        assertEquals(SolveStatus.SOLVED, new PortfolioSudokuSolver(List.of(bitboardStrategy), executor).solve(hardGrid, SolveLimits.NONE, stats), "solve did not solve the grid after a failed race.");
+        assertEquals(SolveStatus.SOLVED, stats.getStatus(), "Statistics of a failed race did not record the next solve.");
+    }
+
+    @Test
+    void failing_strategy_with_limited_strategy_solve_test() {
+        final SudokuSolver failingStrategy = grid -> {
+            throw new IllegalStateException();
+        };
+        final SudokuSolver timedOutStrategy = new SudokuSolver() {
+
+            @Override
+            public void solve(Grid grid) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats) {
+                return SolveStatus.TIMEOUT;
+            }
+        };
+        final PortfolioSudokuSolver solver = new PortfolioSudokuSolver(List.of(failingStrategy, timedOutStrategy), executor);
+        assertThrowsExactly(IllegalStateException.class, () -> solver.solve(hardGrid, SolveLimits.NONE), "solve did not rethrow the failure of a strategy when the other strategy exceeded a limit.");
+        assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solve changed the grid although no strategy found a solution.");
+    }
+
+    @Test
+    void closed_portfolio_stats_test() {
+        final PortfolioSudokuSolver closedSolver = new PortfolioSudokuSolver(bitboardStrategy);
+        closedSolver.close();
+        final SolveStats stats = new SolveStats();
+        assertThrows(RejectedExecutionException.class, () -> closedSolver.solve(hardGrid, SolveLimits.NONE, stats), "solve did not throw RejectedExecutionException when the portfolio is closed.");
+        assertEquals(SolveStatus.SOLVED, bitboardStrategy.solve(hardGrid, SolveLimits.NONE, stats), "solve did not solve the grid after a rejected race.");
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, stats.getStatus(), "Statistics of a rejected race did not record the next solve."),
+            () -> assertTrue(stats.getWallTimeNanos() > 0, "Statistics of a rejected race did not record the wall time of the next solve.")
+        );
+    }
+}
@@ -0,0 +1,173 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.ConstraintPropagator;
+import com.damelyngdoh.azosudoku.solvers.InstrumentedSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.PropagatingSolver;
+import com.damelyngdoh.azosudoku.solvers.SimpleSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveStats;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
+import com.damelyngdoh.azosudoku.solvers.SudokuSolver;
+
+public class PropagatingSolverTest {
+
+    static final int[][] PARTIALLY_VALID_MATRIX = {
+        {0,0,1,0,4,0,0,0,2},
+        {0,5,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,9},
+        {0,4,0,0,0,0,2,9,0},
+        {0,0,6,0,0,0,0,0,0},
+        {0,0,0,0,0,3,0,0,0},
+        {5,0,7,0,2,8,0,3,0},
+        {4,3,2,0,0,0,0,6,0},
+        {0,0,0,0,0,0,5,0,0}
+    };
+    static final int[][] UNSOLVABLE_MATRIX = {
+        {0,3,0,5,0,4,6,1,0},
+        {5,0,1,0,2,0,3,0,4},
+        {0,2,0,3,0,9,0,5,0},
+        {7,0,6,0,8,0,5,0,3},
+        {0,8,0,7,0,6,0,4,0},
+        {1,0,5,0,4,0,8,0,6},
+        {0,7,0,6,0,5,0,8,0},
+        {8,0,9,0,3,0,7,0,5},
+        {0,5,0,1,0,8,0,3,0}
+    };
+
+    PropagatingSolver solver;
+    Grid validGrid;
+    Grid unsolvableGrid;
+
+    @BeforeEach
+    void initializeSolver() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        solver = new PropagatingSolver(new SimpleSudokuSolver());
+        validGrid = Grid.of(PARTIALLY_VALID_MATRIX);
+        unsolvableGrid = Grid.of(UNSOLVABLE_MATRIX);
+    }
+
+    @Test
+    void invalid_arguments_test() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> new PropagatingSolver(null), "PropagatingSolver constructor did not throw NullPointerException when null delegate argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.solve(null), "solve did not throw NullPointerException when null grid argument is passed.")
+        );
+    }
+
+    @Test
+    void valid_grid_argument_solve_test() {
+        assertDoesNotThrow(() -> solver.solve(validGrid), "solve threw an exception when valid grid argument is passed.");
+        assertAll(
+            () -> assertTrue(validGrid.getEmptyCells().isEmpty(), "solve did not solve the grid as there are some empty cells left in the grid."),
+            () -> assertTrue(validGrid.validate().isValid(), "solve filled the grid with conflicting values."),
+            () -> assertFalse(validGrid.isTrailActive(), "solve left the trail of the grid active.")
+        );
+    }
+
+    @Test
+    void invalid_sudoku_argument_solve_test() {
+        final int[][] initialValues = unsolvableGrid.asArray();
+        assertThrowsExactly(InvalidSudokuException.class, () -> solver.solve(unsolvableGrid), "solve did not throw InvalidSudokuException when unsolvable grid argument is passed.");
+        assertArrayEquals(initialValues, unsolvableGrid.asArray(), "solve did not revert the values filled by the propagation.");
+    }
+
+    @Test
+    void propagating_search_nodes_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid plainGrid = Grid.of(DifficultyRaterTest.EXTREME_MATRIX);
+        final Grid propagatedGrid = Grid.of(DifficultyRaterTest.EXTREME_MATRIX);
+        final SolveStats plainStats = new SolveStats();
+        final SolveStats propagatedStats = new SolveStats();
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, new SimpleSudokuSolver().solve(plainGrid, SolveLimits.NONE, plainStats), "solve did not solve the grid without propagation."),
+            () -> assertEquals(SolveStatus.SOLVED, solver.solve(propagatedGrid, SolveLimits.NONE, propagatedStats), "solve did not solve the grid with propagation."),
+            () -> assertArrayEquals(plainGrid.asArray(), propagatedGrid.asArray(), "solve found a different solution with propagation."),
+            () -> assertTrue(propagatedStats.getPropagations() > 0, "Statistics did not record the values placed by the propagation."),
+            () -> assertTrue(propagatedStats.getNodes() * 100 < plainStats.getNodes(), String.format("solve searched %d nodes with propagation against %d without it.", propagatedStats.getNodes(), plainStats.getNodes()))
+        );
+    }
+
+    @Test
+    void failing_delegate_solve_test() {
+        final int[][] initialValues = validGrid.asArray();
+        final SudokuSolver cancelledSolver = new PropagatingSolver(grid -> {
+            throw new CancellationException();
+        });
+        final SudokuSolver failingSolver = new PropagatingSolver(grid -> {
+            throw new IllegalStateException();
+        });
+        assertThrows(CancellationException.class, () -> cancelledSolver.solve(validGrid), "solve did not rethrow the CancellationException of the delegate solver.");
+        assertArrayEquals(initialValues, validGrid.asArray(), "solve did not revert the values filled by the propagation when the delegate solver was cancelled.");
+        assertThrowsExactly(IllegalStateException.class, () -> failingSolver.solve(validGrid, SolveLimits.NONE, null), "solve did not rethrow the exception of the delegate solver.");
+        assertArrayEquals(initialValues, validGrid.asArray(), "solve did not revert the values filled by the propagation when the delegate solver failed.");
+        assertFalse(validGrid.isTrailActive(), "solve left the trail of the grid active.");
+    }
+
+    @Test
+    void trail_discarding_delegate_solve_test() {
+        final int[][] initialValues = validGrid.asArray();
+        final SudokuSolver unsolvableSolver = new PropagatingSolver(grid -> {
+            grid.clearTrail();
+            throw new InvalidSudokuException();
+        });
+        final SudokuSolver failingSolver = new PropagatingSolver(grid -> {
+            grid.clearTrail();
+            throw new IllegalStateException();
+        });
+        assertEquals(SolveStatus.UNSOLVABLE, unsolvableSolver.solve(validGrid, SolveLimits.NONE), "solve did not return the status of the delegate solver which discarded the trail.");
+        assertArrayEquals(initialValues, validGrid.asArray(), "solve did not revert the values filled by the propagation when the delegate solver discarded the trail.");
+        assertThrowsExactly(IllegalStateException.class, () -> failingSolver.solve(validGrid), "solve did not rethrow the exception of the delegate solver which discarded the trail.");
+        assertArrayEquals(initialValues, validGrid.asArray(), "solve did not revert the values filled by the propagation when the failing delegate solver discarded the trail.");
+        assertFalse(validGrid.isTrailActive(), "solve left the trail of the grid active.");
+    }
+
+    @Test
+    void propagating_delegate_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final ConstraintPropagator propagator = new ConstraintPropagator();
+        final List<ConstraintPropagator> received = new ArrayList<>();
+        final SudokuSolver customSolver = new PropagatingSolver(new SudokuSolver() {
+            @Override
+            public void solve(Grid grid) throws InvalidSudokuException {
+                throw new InvalidSudokuException();
+            }
+
+            @Override
+            public SolveStatus solve(Grid grid, SolveLimits limits, SolveStats stats, ConstraintPropagator searchPropagator) {
+                received.add(searchPropagator);
+                return new SimpleSudokuSolver().solve(grid, limits, stats, searchPropagator);
+            }
+        }, propagator);
+        final SudokuSolver instrumentedSolver = new PropagatingSolver(new InstrumentedSudokuSolver(new SimpleSudokuSolver(), (delegate, stats) -> {}));
+        final Grid customGrid = Grid.of(DifficultyRaterTest.EXTREME_MATRIX);
+        final Grid instrumentedGrid = Grid.of(DifficultyRaterTest.EXTREME_MATRIX);
+        final SolveStats instrumentedStats = new SolveStats();
+        assertDoesNotThrow(() -> customSolver.solve(customGrid), "solve did not solve the grid through the propagating solve of the delegate solver.");
+        assertAll(
+            () -> assertEquals(1, received.size(), "solve did not hand the grid to the propagating solve of the delegate solver."),
+            () -> assertSame(propagator, received.get(0), "solve did not pass its propagator to the delegate solver."),
+            () -> assertTrue(customGrid.validate().isValid() && customGrid.getEmptyCells().isEmpty(), "solve did not fill the grid with a valid solution."),
+            () -> assertEquals(SolveStatus.SOLVED, instrumentedSolver.solve(instrumentedGrid, SolveLimits.NONE, instrumentedStats), "solve did not solve the grid through an instrumented delegate solver."),
+            () -> assertTrue(instrumentedStats.getNodes() < 1000, String.format("solve searched %d nodes through an instrumented delegate solver.", instrumentedStats.getNodes()))
+        );
+    }
+}
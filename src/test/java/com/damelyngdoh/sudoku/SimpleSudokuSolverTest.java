@@ -1,10 +1,16 @@
 package com.damelyngdoh.sudoku;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Instant;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +21,8 @@ import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
 import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
 import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
 import com.damelyngdoh.azosudoku.solvers.SimpleSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
 
 public class SimpleSudokuSolverTest {
 
@@ -67,4 +75,45 @@ public class SimpleSudokuSolverTest {
         assertDoesNotThrow(() -> solver.solve(validGrid), "solve threw an exception when valid grid/sudoku argument is passed.");
         assertTrue(validGrid.getEmptyCells().isEmpty(), "solve did not solve the grid as there are some empty cells left in the grid.");
     }
+
+    @Test
+    void limited_solve_test() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> solver.solve(validGrid, null), "solve did not throw NullPointerException when null limits argument is passed."),
+            () -> assertEquals(SolveStatus.UNSOLVABLE, solver.solve(invalidGrid, SolveLimits.NONE), "solve did not return UNSOLVABLE when invalid grid argument is passed."),
+            () -> assertEquals(SolveStatus.SOLVED, solver.solve(validGrid, SolveLimits.NONE), "solve did not return SOLVED when valid grid argument is passed."),
+            () -> assertTrue(validGrid.getEmptyCells().isEmpty(), "solve did not solve the grid within the limits.")
+        );
+    }
+
+    @Test
+    void exceeded_limits_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid hardGrid = Grid.of(TestUtils.HARD_MATRIX);
+        assertEquals(SolveStatus.TIMEOUT, solver.solve(hardGrid, SolveLimits.NONE.withDeadline(Instant.EPOCH)), "solve did not return TIMEOUT when the deadline has passed.");
+        assertEquals(SolveStatus.BUDGET_EXCEEDED, solver.solve(hardGrid, SolveLimits.NONE.withMaxNodes(1)), "solve did not return BUDGET_EXCEEDED when the node budget is exceeded.");
+        assertEquals(SolveStatus.BUDGET_EXCEEDED, solver.solve(hardGrid, SolveLimits.NONE.withMaxBacktracks(0)), "solve did not return BUDGET_EXCEEDED when the backtrack budget is exceeded.");
+        Thread.currentThread().interrupt();
+        final SolveStatus interruptedStatus = solver.solve(hardGrid, SolveLimits.NONE);
+        assertTrue(Thread.interrupted(), "solve cleared the interrupt flag of the thread.");
+        assertEquals(SolveStatus.INTERRUPTED, interruptedStatus, "solve did not return INTERRUPTED when the thread is interrupted.");
+        assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solve did not restore the grid to its input state when a limit is exceeded.");
+        assertTrue(!hardGrid.isTrailActive(), "solve left the trail of the grid active.");
+    }
+
+    @Test
+    void large_grid_argument_solve_on_small_stack_test() throws InterruptedException, InvalidSizeException {
+        final Grid largeGrid = new Grid(16);
+        final Throwable[] failure = new Throwable[1];
+        final Thread thread = new Thread(null, () -> {
+            try {
+                solver.solve(largeGrid);
+            } catch (Throwable e) {
+                failure[0] = e;
+            }
+        }, "small-stack-solver", 64 * 1024);
+        thread.start();
+        thread.join();
+        assertNull(failure[0], "solve threw an exception when solving a large grid on a small thread stack.");
+        assertTrue(largeGrid.getEmptyCells().isEmpty() && largeGrid.validate().isValid(), "solve did not fill the large grid with a valid solution.");
+    }
 }
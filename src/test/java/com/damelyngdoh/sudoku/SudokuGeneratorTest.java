@@ -2,10 +2,15 @@ package com.damelyngdoh.sudoku;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -96,4 +101,27 @@ public class SudokuGeneratorTest {
         assertTrue(sudokuGenerator.isCellFixedOrNotEmpty(notEmptyCell), "isCellFixedOrNotEmpty returned false for non-empty only cell.");
         assertFalse(sudokuGenerator.isCellFixedOrNotEmpty(notFixedAndEmptyCell), "isCellFixedOrNotEmpty returned true for non-fixed and non-empty cell.");
     }
+
+    @Test
+    void generateAsync_test() throws InvalidSizeException, InterruptedException, ExecutionException {
+        final Grid grid = sudokuGenerator.generateAsync(VALID_ORDER, NON_EMPTY_CELL_COUNT).get();
+        assertAll(
+            () -> assertThrowsExactly(InvalidSizeException.class, () -> sudokuGenerator.generateAsync(2, NON_EMPTY_CELL_COUNT), "generateAsync did not throw InvalidSizeException when invalid size is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> sudokuGenerator.generateAsync(VALID_ORDER, -1), "generateAsync did not throw IllegalArgumentException when invalid non-empty cell count is passed."),
+            () -> assertThrows(NullPointerException.class, () -> sudokuGenerator.generateAsync(VALID_ORDER, NON_EMPTY_CELL_COUNT, null), "generateAsync did not throw NullPointerException when null executor is passed."),
+            () -> assertEquals(EMPTY_CELL_COUNT, grid.getEmptyCells().size(), "generateAsync did not generate a grid with the number of non-empty cells passed."),
+            () -> assertTrue(grid.validate().isValid(), "generateAsync generated an invalid grid.")
+        );
+    }
+
+    @Test
+    void interrupted_generate_test() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThrowsExactly(CancellationException.class, () -> sudokuGenerator.generate(36), "generate did not throw CancellationException when the thread is interrupted.");
+            assertTrue(Thread.currentThread().isInterrupted(), "generate cleared the interrupt flag of the thread.");
+        } finally {
+            Thread.interrupted();
+        }
+    }
 }
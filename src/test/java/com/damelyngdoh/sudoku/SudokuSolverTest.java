@@ -0,0 +1,266 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.GridSnapshot;
+import com.damelyngdoh.azosudoku.ReadableGrid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSudokuException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+import com.damelyngdoh.azosudoku.solvers.BitboardSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.DancingLinksSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.InstrumentedSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.LogicalSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.PortfolioSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SimpleSudokuSolver;
+import com.damelyngdoh.azosudoku.solvers.SolveLimits;
+import com.damelyngdoh.azosudoku.solvers.SolveResult;
+import com.damelyngdoh.azosudoku.solvers.SolveStats;
+import com.damelyngdoh.azosudoku.solvers.SolveStatus;
+import com.damelyngdoh.azosudoku.solvers.SudokuSolver;
+
+public class SudokuSolverTest {
+
+    static final int SOLUTION_COUNT_OF_EMPTY_GRID_SIZE_4 = 288;
+
+    SudokuSolver solver;
+    Grid hardGrid;
+
+    @BeforeEach
+    void initializeSolver() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        solver = new SimpleSudokuSolver();
+        hardGrid = Grid.of(TestUtils.HARD_MATRIX);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void invalid_arguments_countSolutions_test(int invalidLimit) {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> solver.countSolutions(null, 2), "countSolutions did not throw NullPointerException when null grid argument is passed."),
+            () -> assertThrowsExactly(IllegalArgumentException.class, () -> solver.countSolutions(hardGrid, invalidLimit), "countSolutions did not throw IllegalArgumentException when invalid limit argument is passed.")
+        );
+    }
+
+    @Test
+    void countSolutions_test() throws InvalidSizeException {
+        final Grid emptyGrid = new Grid(4);
+        assertAll(
+            () -> assertEquals(SOLUTION_COUNT_OF_EMPTY_GRID_SIZE_4, solver.countSolutions(emptyGrid, Integer.MAX_VALUE), "countSolutions returned incorrect count for empty grid of size 4."),
+            () -> assertEquals(10, solver.countSolutions(emptyGrid, 10), "countSolutions did not stop at the limit."),
+            () -> assertEquals(1, solver.countSolutions(hardGrid, 2), "countSolutions returned incorrect count for a puzzle with a unique solution."),
+            () -> assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "countSolutions modified the grid."),
+            () -> assertTrue(emptyGrid.getEmptyCells().size() == 16, "countSolutions modified the empty grid.")
+        );
+    }
+
+    @Test
+    void conflicting_grid_countSolutions_test() throws InvalidSudokuException, ValueOutOfBoundsException, DisallowedValueException {
+        hardGrid.setActiveVerification(false);
+        hardGrid.setValue(0, 0, 1);
+        assertEquals(0, solver.countSolutions(hardGrid, 2), "countSolutions did not return 0 for a grid with conflicting values.");
+    }
+
+    @Test
+    void hasUniqueSolution_test() {
+        assertTrue(solver.hasUniqueSolution(hardGrid), "hasUniqueSolution returned false for a puzzle with a unique solution.");
+        hardGrid.removeValue(0, 7);
+        assertFalse(solver.hasUniqueSolution(hardGrid), "hasUniqueSolution returned true for a puzzle with multiple solutions.");
+    }
+
+    @Test
+    void failing_custom_solver_limited_solve_test() {
+        final SudokuSolver unsolvableSolver = grid -> {
+            grid.trySetValue(0, 0, 5);
+            throw new InvalidSudokuException();
+        };
+        final SudokuSolver cancelledSolver = grid -> {
+            grid.trySetValue(0, 0, 5);
+            throw new CancellationException();
+        };
+        final SudokuSolver trailDiscardingSolver = grid -> {
+            grid.clearTrail();
+            grid.trySetValue(0, 0, 5);
+            throw new InvalidSudokuException();
+        };
+        final SudokuSolver failingSolver = grid -> {
+            grid.trySetValue(0, 0, 5);
+            throw new IllegalStateException();
+        };
+        assertAll(
+            () -> assertEquals(SolveStatus.UNSOLVABLE, unsolvableSolver.solve(hardGrid, SolveLimits.NONE), "solve did not return UNSOLVABLE when the custom solver found no solution."),
+            () -> assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solve did not revert the values set by the custom solver which found no solution."),
+            () -> assertEquals(SolveStatus.INTERRUPTED, cancelledSolver.solve(hardGrid, SolveLimits.NONE), "solve did not return INTERRUPTED when the custom solver was cancelled."),
+            () -> assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solve did not revert the values set by the cancelled custom solver."),
+            () -> assertEquals(SolveStatus.UNSOLVABLE, trailDiscardingSolver.solve(hardGrid, SolveLimits.NONE), "solve did not return UNSOLVABLE when the custom solver discarded the trail."),
+            () -> assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solve did not restore the grid when the custom solver discarded the trail."),
+            () -> assertThrowsExactly(IllegalStateException.class, () -> failingSolver.solve(hardGrid, SolveLimits.NONE), "solve did not rethrow the exception of the custom solver."),
+            () -> assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solve did not revert the values set by the failing custom solver."),
+            () -> assertFalse(hardGrid.isTrailActive(), "solve left the trail of the grid active.")
+        );
+    }
+
+    @Test
+    void invalid_arguments_readable_grid_solve_test() {
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> solver.solve((ReadableGrid)null), "solve did not throw NullPointerException when null readable grid argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.solve((ReadableGrid)hardGrid, null), "solve did not throw NullPointerException when null limits argument is passed.")
+        );
+    }
+
+    @Test
+    void readable_grid_solve_test() {
+        hardGrid.setNonEmptyAsFixed();
+        final Grid expected = hardGrid.copy();
+        final GridSnapshot snapshot = hardGrid.snapshot();
+        final SolveResult gridResult = solver.solve((ReadableGrid)hardGrid);
+        final SolveResult snapshotResult = solver.solve(snapshot);
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, gridResult.getStatus(), "solve did not solve the readable grid."),
+            () -> assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solve modified the readable grid."),
+            () -> assertTrue(gridResult.getSolution().isFixed(0, 7), "solve did not keep the fixed flags of the grid in the solution."),
+            () -> assertEquals(gridResult.getSolution(), snapshotResult.getSolution(), "solve returned different solutions for a grid and its snapshot."),
+            () -> assertEquals(SolveStatus.SOLVED, gridResult.getStats().getStatus(), "solve did not record the status in the statistics."),
+            () -> assertTrue(gridResult.getStats().getNodes() > 0, "solve did not record the nodes of the search.")
+        );
+        new BitboardSudokuSolver().solve(expected, SolveLimits.NONE);
+        assertArrayEquals(expected.toFlatArray(), gridResult.getSolution().toFlatArray(), "solve did not return the solution of the grid.");
+    }
+
+    @Test
+    void unsolvable_readable_grid_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final GridSnapshot unsolvable = Grid.of(TestUtils.UNSOLVABLE_MATRIX).snapshot();
+        final SolveResult result = solver.solve(unsolvable);
+        final SolveResult limited = solver.solve((ReadableGrid)new Grid(16), SolveLimits.NONE.withDeadline(Instant.EPOCH));
+        assertAll(
+            () -> assertEquals(SolveStatus.UNSOLVABLE, result.getStatus(), "solve did not report an unsolvable puzzle."),
+            () -> assertFalse(result.isSolved(), "isSolved returned true for an unsolvable puzzle."),
+            () -> assertNull(result.getSolution(), "solve returned a solution for an unsolvable puzzle."),
+            () -> assertEquals(SolveStatus.TIMEOUT, limited.getStatus(), "solve did not report the deadline passed."),
+            () -> assertNull(limited.getSolution(), "solve returned a solution when the deadline passed.")
+        );
+    }
+
+    @Test
+    void strategy_readable_grid_solve_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final GridSnapshot snapshot = Grid.of(LogicalSudokuSolverTest.ADVANCED_MATRIX).snapshot();
+        final int emptyCellCount = (int)Arrays.stream(snapshot.toFlatArray()).filter(value -> value == 0).count();
+        final List<SolveStats> recorded = new ArrayList<>();
+        final SolveResult result = new InstrumentedSudokuSolver(new LogicalSudokuSolver(), (delegate, stats) -> recorded.add(stats)).solve(snapshot);
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, result.getStatus(), "solve did not solve the readable grid with the logical solver."),
+            () -> assertEquals(emptyCellCount, result.getStats().getPropagations(), "solve did not record the values placed by the techniques of the logical solver."),
+            () -> assertEquals(0, result.getStats().getNodes(), "solve recorded a search the logical solver did not run."),
+            () -> assertEquals(1, recorded.size(), "Listener was not notified once per solve of a readable grid."),
+            () -> assertEquals(SolveStatus.SOLVED, recorded.get(0).getStatus(), "Listener was not notified of the status of the solve."),
+            () -> assertEquals(result.getStats().getPropagations(), recorded.get(0).getPropagations(), "Listener was not notified of the counts of the result.")
+        );
+    }
+
+    @Test
+    void solveAsync_test() throws InterruptedException, ExecutionException {
+        final SolveResult result = solver.solveAsync(hardGrid).get();
+        assertAll(
+            () -> assertThrows(NullPointerException.class, () -> solver.solveAsync(null), "solveAsync did not throw NullPointerException when null grid argument is passed."),
+            () -> assertThrows(NullPointerException.class, () -> solver.solveAsync(hardGrid, null), "solveAsync did not throw NullPointerException when null executor argument is passed."),
+            () -> assertEquals(SolveStatus.SOLVED, result.getStatus(), "solveAsync did not solve the grid."),
+            () -> assertArrayEquals(TestUtils.HARD_MATRIX, hardGrid.asArray(), "solveAsync modified the grid.")
+        );
+    }
+
+    @Test
+    void cancel_solveAsync_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException, InterruptedException {
+        final Grid unsolvableGrid = TestUtils.slowUnsolvableGrid();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch stopped = new CountDownLatch(1);
+        final AtomicReference<SolveStatus> status = new AtomicReference<>();
+        final SudokuSolver instrumented = new InstrumentedSudokuSolver(new BitboardSudokuSolver(), (delegate, stats) -> {
+            status.set(stats.getStatus());
+            stopped.countDown();
+        });
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<SolveResult> future = instrumented.solveAsync(unsolvableGrid, SolveLimits.NONE.withTimeout(Duration.ofMinutes(1)), command -> executor.execute(() -> {
+                started.countDown();
+                command.run();
+            }));
+            assertTrue(started.await(10, TimeUnit.SECONDS), "The solve did not start.");
+            Thread.sleep(100);
+            assertTrue(future.cancel(true), "The future of the solve could not be cancelled.");
+            assertTrue(stopped.await(10, TimeUnit.SECONDS), "Cancelling the future did not stop the search.");
+            assertEquals(SolveStatus.INTERRUPTED, status.get(), "The search was not stopped by the interrupt.");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void strategy_solveAsync_test() throws InterruptedException, ExecutionException, InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final GridSnapshot snapshot = Grid.of(LogicalSudokuSolverTest.ADVANCED_MATRIX).snapshot();
+        final SolveResult logicalResult = new LogicalSudokuSolver().solveAsync(snapshot).get();
+        try(PortfolioSudokuSolver portfolioSolver = new PortfolioSudokuSolver(new LogicalSudokuSolver(), new DancingLinksSudokuSolver())) {
+            final SolveResult portfolioResult = portfolioSolver.solveAsync(snapshot).get();
+            assertAll(
+                () -> assertEquals(SolveStatus.SOLVED, portfolioResult.getStatus(), "solveAsync did not solve the grid with the portfolio."),
+                () -> assertEquals(1, portfolioSolver.getWins(0) + portfolioSolver.getWins(1), "solveAsync did not race the strategies of the portfolio.")
+            );
+        }
+        assertAll(
+            () -> assertEquals(SolveStatus.SOLVED, logicalResult.getStatus(), "solveAsync did not solve the grid with the logical solver."),
+            () -> assertTrue(logicalResult.getStats().getPropagations() > 0, "solveAsync did not apply the techniques of the logical solver."),
+            () -> assertEquals(0, logicalResult.getStats().getNodes(), "solveAsync searched although the techniques of the logical solver solve the grid.")
+        );
+    }
+
+    @Test
+    void cancel_strategy_solveAsync_test() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException, InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch stopped = new CountDownLatch(1);
+        final AtomicReference<SolveStatus> status = new AtomicReference<>();
+        final SudokuSolver instrumented = new InstrumentedSudokuSolver(new SimpleSudokuSolver(), (delegate, stats) -> {
+            status.set(stats.getStatus());
+            stopped.countDown();
+        });
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<SolveResult> future = instrumented.solveAsync(Grid.of(PortfolioSudokuSolverTest.BRUTE_FORCE_RESISTANT_MATRIX), command -> executor.execute(() -> {
+                started.countDown();
+                command.run();
+            }));
+            assertTrue(started.await(10, TimeUnit.SECONDS), "The solve did not start.");
+            Thread.sleep(100);
+            assertTrue(future.cancel(true), "The future of the solve could not be cancelled.");
+            assertTrue(stopped.await(10, TimeUnit.SECONDS), "Cancelling the future did not stop the search of the solver.");
+            assertEquals(SolveStatus.INTERRUPTED, status.get(), "The search of the solver was not stopped by the interrupt.");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
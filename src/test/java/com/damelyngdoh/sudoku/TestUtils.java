@@ -2,10 +2,45 @@ package com.damelyngdoh.sudoku;
 
 import java.util.Set;
 
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.exceptions.DisallowedValueException;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+import com.damelyngdoh.azosudoku.exceptions.ValueOutOfBoundsException;
+
 /**
  * @author Dame Lyngdoh
  */
 public final class TestUtils {
+
+    /**
+     * Puzzle with 17 givens and a unique solution.
+     */
+    public static final int[][] HARD_MATRIX = {
+        {0,0,0,0,0,0,0,1,0},
+        {4,0,0,0,0,0,0,0,0},
+        {0,2,0,0,0,0,0,0,0},
+        {0,0,0,0,5,0,4,0,7},
+        {0,0,8,0,0,0,3,0,0},
+        {0,0,1,0,9,0,0,0,0},
+        {3,0,0,4,0,0,2,0,0},
+        {0,5,0,1,0,0,0,0,0},
+        {0,0,0,8,0,6,0,0,0}
+    };
+
+    /**
+     * Puzzle without conflicting values but without a solution.
+     */
+    public static final int[][] UNSOLVABLE_MATRIX = {
+        {1,2,3,0,0,0,0,0,0},
+        {4,5,6,0,0,0,0,0,0},
+        {0,0,0,7,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,7,0,0},
+        {0,0,0,0,0,0,0,0,0},
+        {0,0,0,0,0,0,0,0,0}
+    };
     
     /**
      * Util method to check if two sets are equal or not by checking if 
@@ -18,4 +53,22 @@ public final class TestUtils {
     public static <T> boolean areSetsEqual(Set<T> setA, Set<T> setB) {
         return setA.containsAll(setB) && setB.containsAll(setA);
     }
+
+    /**
+     * Util method to build a 25x25 grid without a solution which a search only proves unsolvable after 
+     * a long time, so that solves can be stopped while they search.
+     * @return the unsolvable grid.
+     */
+    public static Grid slowUnsolvableGrid() throws InvalidSizeException, ValueOutOfBoundsException, DisallowedValueException {
+        final Grid grid = new Grid(25);
+        // The value 25 cannot be placed in any empty cell of the first row, which the search only notices deep in the tree.
+        for(int nonet = 0; nonet < 4; nonet++) {
+            grid.setValue(nonet + 1, nonet * 5, 25);
+        }
+        for(int band = 1; band < 5; band++) {
+            grid.setValue(band * 5, 19 + band, 25);
+        }
+        grid.setValue(0, 24, 1);
+        return grid;
+    }
 }
@@ -0,0 +1,92 @@
+package com.damelyngdoh.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.damelyngdoh.azosudoku.Grid;
+import com.damelyngdoh.azosudoku.HouseType;
+import com.damelyngdoh.azosudoku.Topology;
+import com.damelyngdoh.azosudoku.exceptions.InvalidSizeException;
+
+@TestInstance(Lifecycle.PER_METHOD)
+public class TopologyTest {
+
+    static final int VALID_ORDER = 9;
+    static final int PEER_COUNT = 20;
+
+    Topology topology;
+
+    @BeforeEach
+    void initializeTopology() throws InvalidSizeException {
+        topology = Topology.of(VALID_ORDER);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 3, 81})
+    void invalid_size_of_test(int invalidSize) {
+        assertThrowsExactly(InvalidSizeException.class, () -> Topology.of(invalidSize), "of did not throw InvalidSizeException when invalid size is passed.");
+    }
+
+    @Test
+    void shared_instance_test() throws InvalidSizeException {
+        assertSame(topology, Topology.of(VALID_ORDER), "of returned different instances for the same size.");
+        assertSame(topology, new Grid(VALID_ORDER).getTopology(), "getTopology of grid returned an instance different from the shared topology.");
+    }
+
+    @Test
+    void cell_coordinates_test() {
+        final int cell = topology.getIndex(4, 7);
+        assertAll(
+            () -> assertEquals(VALID_ORDER * VALID_ORDER, topology.getCellCount(), "getCellCount returned incorrect cell count."),
+            () -> assertEquals(3, topology.getNonetSize(), "getNonetSize returned incorrect nonet size."),
+            () -> assertEquals(4, topology.getRow(cell), "getRow returned incorrect row."),
+            () -> assertEquals(7, topology.getColumn(cell), "getColumn returned incorrect column."),
+            () -> assertEquals(5, topology.getNonet(cell), "getNonet returned incorrect nonet."),
+            () -> assertEquals(5, topology.getNonet(4, 7), "getNonet for coordinates returned incorrect nonet.")
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(HouseType.class)
+    void house_cells_test(HouseType houseType) {
+        for(int house = 0; house < VALID_ORDER; house++) {
+            final Set<Integer> cells = new HashSet<>();
+            for(int position = 0; position < VALID_ORDER; position++) {
+                final int cell = topology.getHouseCell(houseType, house, position);
+                assertEquals(house, topology.getHouse(houseType, cell), "getHouseCell returned a cell which does not belong to the house.");
+                cells.add(cell);
+            }
+            assertEquals(VALID_ORDER, cells.size(), "getHouseCell returned duplicate cells for the house.");
+        }
+    }
+
+    @Test
+    void peers_test() {
+        assertEquals(PEER_COUNT, topology.getPeerCount(), "getPeerCount returned incorrect peer count.");
+        for(int cell = 0; cell < topology.getCellCount(); cell++) {
+            final Set<Integer> peers = new HashSet<>();
+            for(int position = 0; position < PEER_COUNT; position++) {
+                final int peer = topology.getPeer(cell, position);
+                assertTrue(peer != cell && topology.areRelated(cell, peer), "getPeer returned a cell which is not a peer.");
+                peers.add(peer);
+            }
+            assertEquals(PEER_COUNT, peers.size(), "getPeer returned duplicate peers.");
+        }
+        assertFalse(topology.areRelated(topology.getIndex(0, 0), topology.getIndex(3, 3)), "areRelated returned true for unrelated cells.");
+    }
+}
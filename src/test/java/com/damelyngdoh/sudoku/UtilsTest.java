@@ -118,6 +118,38 @@ public class UtilsTest {
         }
     }
 
+    @Nested
+    class GetValuesFromMaskTest {
+
+        @Test
+        void empty_mask_argument() {
+            assertTrue(Utils.getValuesFromMask(0L).isEmpty(), "getValuesFromMask returned a non-empty set for an empty mask.");
+        }
+
+        @Test
+        void valid_mask_argument() {
+            final long mask = (1L << 0) | (1L << 4) | (1L << 8) | (1L << 63);
+            assertEquals(Set.of(1, 5, 9, 64), Utils.getValuesFromMask(mask), "getValuesFromMask returned an incorrect set of values.");
+        }
+    }
+
+    @Nested
+    class GetRandomValueFromMaskTest {
+
+        @Test
+        void empty_mask_argument() {
+            assertThrowsExactly(IllegalArgumentException.class, () -> Utils.getRandomValueFromMask(0L), "getRandomValueFromMask did not throw IllegalArgumentException for an empty mask.");
+        }
+
+        @Test
+        void valid_mask_argument() {
+            final long mask = (1L << 0) | (1L << 4) | (1L << 8) | (1L << 63);
+            for(int attempt = 0; attempt < 100; attempt++) {
+                assertTrue(Set.of(1, 5, 9, 64).contains(Utils.getRandomValueFromMask(mask)), "getRandomValueFromMask returned a value whose bit is not set in the mask.");
+            }
+        }
+    }
+
     @Nested
     static class GetDiagonalNonetsTest {
         static final int ORDER_4 = 4;